@@ -18,7 +18,19 @@ repositories {
     maven(url = "https://jitpack.io")
 }
 
+sourceSets {
+    create("processor")
+}
+
+configurations {
+    // Discord Index Processor, consumed as an annotation processor only
+    consumable("processorElements")
+}
+
 dependencies {
+    // Discord Index
+    annotationProcessor(sourceSets["processor"].output)
+
     // Simplified Annotations
     annotationProcessor(libs.simplified.annotations)
 
@@ -45,6 +57,19 @@ tasks {
         useJUnitPlatform()
     }
 
+    val processorJar = register<Jar>("processorJar") {
+        description = "Assembles the discord index annotation processor"
+        group = "build"
+        archiveClassifier.set("processor")
+        from(sourceSets["processor"].output)
+    }
+
+    assemble {
+        dependsOn(processorJar)
+    }
+
+    configurations["processorElements"].outgoing.artifact(processorJar)
+
     register<JavaExec>("generateDiagrams") {
         description = "Generates SVG hierarchy diagrams for context and component packages"
         group = "documentation"
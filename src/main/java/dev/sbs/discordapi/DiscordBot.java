@@ -48,8 +48,10 @@ import dev.sbs.discordapi.listener.message.MessageCreateListener;
 import dev.sbs.discordapi.listener.message.MessageDeleteListener;
 import dev.sbs.discordapi.listener.message.ReactionRemoveListener;
 import dev.sbs.discordapi.response.Response;
+import dev.sbs.discordapi.response.handler.ItemExecutor;
 import dev.sbs.discordapi.response.page.FormPage;
 import dev.sbs.discordapi.response.page.Page;
+import dev.sbs.discordapi.util.DiscordIndex;
 import discord4j.common.util.Snowflake;
 import discord4j.core.DiscordClient;
 import discord4j.core.DiscordClientBuilder;
@@ -58,7 +60,6 @@ import discord4j.core.event.EventDispatcher;
 import discord4j.core.event.domain.Event;
 import discord4j.core.event.domain.lifecycle.ConnectEvent;
 import discord4j.core.object.entity.Guild;
-import discord4j.core.object.entity.channel.MessageChannel;
 import discord4j.discordjson.json.UserData;
 import discord4j.rest.request.RouteMatcher;
 import discord4j.rest.response.ResponseFunction;
@@ -143,7 +144,8 @@ public abstract class DiscordBot {
         this.config = config;
         this.exceptionHandler = this.buildExceptionHandler();
         this.emojiHandler = new EmojiHandler(this);
-        this.responseHandler = new ResponseHandler();
+        this.responseHandler = new ResponseHandler(this);
+        ItemExecutor.configure(this.getConfig().getItemParallelism(), this.getConfig().getItemParallelThreshold());
         LogUtil.setRootLevel(this.getConfig().getLogLevel());
 
         this.commandHandler = CommandHandler.builder(this)
@@ -159,7 +161,7 @@ public abstract class DiscordBot {
      *     <ul>
      *       <li>Calls the {@code onGatewayConnected} method upon a successful connection.</li>
      *       <li>If a database configuration is present, establishes a database session and calls {@code onDatabaseConnected}.</li>
-     *       <li>Schedules a periodic task to clean up inactive cached responses and update message states.</li>
+     *       <li>Schedules a periodic task that evicts cached responses whose expiry deadline has passed and updates their message states.</li>
      *       <li>Registers event listeners dynamically by scanning resources and loading implementations of
      *           {@code DiscordListener} or user-defined listeners from the configuration.</li>
      *       <li>Registers and uploads custom emojis using the configured emoji handler.</li>
@@ -204,32 +206,21 @@ public abstract class DiscordBot {
                         });
 
                     log.info("Scheduling Cache Cleaner");
-                    this.scheduler.scheduleAsync(() -> this.responseHandler.matchAll(CachedResponse::notActive).forEach(entry -> {
-                        // Clear Cached Message
-                        this.responseHandler.remove(entry);
-
-                        // Clear Message Components and Reactions
-                        this.getGateway()
-                            .getChannelById(entry.getChannelId())
-                            .ofType(MessageChannel.class)
-                            .flatMap(channel -> channel.getMessageById(entry.getMessageId()))
-                            .flatMap(message -> Mono.just(entry.getResponse())
-                                .flatMap(response -> message.removeAllReactions().then(message.edit(
-                                    response.mutate()
-                                        .disableAllComponents()
-                                        .isRenderingPagingComponents(false)
-                                        .build()
-                                        .getD4jEditSpec()
-                                )))
-                            )
-                            .subscribe();
-                    }), 0, 1, TimeUnit.SECONDS);
+                    this.scheduler.scheduleAsync(this.responseHandler::retireExpired, 0, 250, TimeUnit.MILLISECONDS);
+                    this.scheduler.scheduleAsync(this.responseHandler::demoteIdle, 1, 1, TimeUnit.SECONDS);
 
                     log.info("Registering Event Listeners");
-                    ConcurrentList<Publisher<Void>> eventListeners = Reflection.getResources()
-                        .filterPackage(DiscordListener.class)
-                        .getSubtypesOf(DiscordListener.class)
-                        .stream()
+                    ConcurrentList<Class<? extends DiscordListener>> listenerClasses = DiscordIndex.get().getListeners(DiscordListener.class.getPackageName());
+
+                    if (listenerClasses.isEmpty()) {
+                        listenerClasses = Reflection.getResources()
+                            .filterPackage(DiscordListener.class)
+                            .getSubtypesOf(DiscordListener.class)
+                            .stream()
+                            .collect(Concurrent.toList());
+                    }
+
+                    ConcurrentList<Publisher<Void>> eventListeners = listenerClasses.stream()
                         .filter(listenerClass -> !Modifier.isAbstract(listenerClass.getModifiers()))
                         .map(listenerClass -> this.createListener(eventDispatcher, listenerClass))
                         .collect(Concurrent.toList());
@@ -329,7 +320,7 @@ public abstract class DiscordBot {
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private <T extends Event> @NonNull Publisher<Void> createListener(@NotNull EventDispatcher eventDispatcher, @NotNull Class<? extends DiscordListener> listenerClass) {
-        DiscordListener<T> instance = (DiscordListener<T>) new Reflection<>(listenerClass).newInstance(this);
+        DiscordListener<T> instance = (DiscordListener<T>) DiscordIndex.get().newInstance(listenerClass, this);
         return eventDispatcher.on(instance.getEventClass(), event ->
             Mono.from(instance.apply(event)).onErrorResume(throwable -> this.getExceptionHandler().handleException(
                 ExceptionContext.of(this, event, throwable, instance.getTitle() + " Exception")
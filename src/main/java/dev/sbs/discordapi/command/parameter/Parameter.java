@@ -5,7 +5,6 @@ import dev.sbs.api.collection.concurrent.ConcurrentMap;
 import dev.sbs.api.collection.concurrent.ConcurrentSet;
 import dev.sbs.api.collection.concurrent.linked.ConcurrentLinkedMap;
 import dev.sbs.api.math.Range;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.NumberUtil;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
@@ -15,6 +14,7 @@ import dev.sbs.discordapi.context.command.AutoCompleteContext;
 import dev.sbs.discordapi.context.scope.CommandContext;
 import dev.sbs.discordapi.exception.DiscordException;
 import dev.sbs.discordapi.response.Emoji;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.core.object.command.ApplicationCommandOption;
 import discord4j.core.object.entity.Attachment;
 import discord4j.core.object.entity.Role;
@@ -643,7 +643,7 @@ public final class Parameter {
          */
         @Override
         public @NotNull Parameter build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             if (this.choices.notEmpty() && this.type != Type.CHANNEL)
                 throw new DiscordException("You can only specify channel types for parameters of type Channel.");
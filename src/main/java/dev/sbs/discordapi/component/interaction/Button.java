@@ -1,6 +1,5 @@
 package dev.sbs.discordapi.component.interaction;
 
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
@@ -13,6 +12,7 @@ import dev.sbs.discordapi.context.component.ButtonContext;
 import dev.sbs.discordapi.context.scope.ComponentContext;
 import dev.sbs.discordapi.response.Emoji;
 import dev.sbs.discordapi.response.handler.PaginationHandler;
+import dev.sbs.discordapi.util.BuildFlags;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -378,7 +378,7 @@ public final class Button implements ActionComponent, AccessoryComponent, EventI
          */
         @Override
         public @NotNull Button build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Button(
                 this.identifier,
@@ -1,6 +1,5 @@
 package dev.sbs.discordapi.component.interaction;
 
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
 import dev.sbs.discordapi.component.Component;
@@ -11,6 +10,7 @@ import dev.sbs.discordapi.component.scope.ActionComponent;
 import dev.sbs.discordapi.component.scope.LabelComponent;
 import dev.sbs.discordapi.context.component.CheckboxContext;
 import dev.sbs.discordapi.context.scope.ComponentContext;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.core.object.component.CheckboxAction;
 import discord4j.discordjson.json.ComponentData;
 import lombok.AccessLevel;
@@ -240,7 +240,7 @@ public final class Checkbox implements ActionComponent, EventInteractable<Checkb
          */
         @Override
         public @NotNull Checkbox build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Checkbox(
                 this.identifier,
@@ -2,7 +2,6 @@ package dev.sbs.discordapi.component.interaction;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
@@ -15,6 +14,7 @@ import dev.sbs.discordapi.component.scope.LabelComponent;
 import dev.sbs.discordapi.context.component.CheckboxContext;
 import dev.sbs.discordapi.context.component.CheckboxGroupContext;
 import dev.sbs.discordapi.context.scope.ComponentContext;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.discordjson.json.ComponentData;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -398,7 +398,7 @@ public final class CheckboxGroup implements ActionComponent, EventInteractable<C
          */
         @Override
         public @NotNull CheckboxGroup build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new CheckboxGroup(
                 this.identifier,
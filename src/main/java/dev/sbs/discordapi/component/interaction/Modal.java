@@ -2,7 +2,6 @@ package dev.sbs.discordapi.component.interaction;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
 import dev.sbs.discordapi.command.exception.InputException;
@@ -17,6 +16,7 @@ import dev.sbs.discordapi.component.scope.TopLevelModalComponent;
 import dev.sbs.discordapi.context.capability.ExceptionContext;
 import dev.sbs.discordapi.context.component.ModalContext;
 import dev.sbs.discordapi.context.scope.ComponentContext;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.core.event.domain.interaction.ModalSubmitInteractionEvent;
 import discord4j.core.spec.InteractionPresentModalSpec;
 import discord4j.discordjson.possible.Possible;
@@ -336,7 +336,7 @@ public final class Modal implements EventInteractable<ModalContext>, UserInterac
          */
         @Override
         public @NotNull Modal build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Modal(
                 this.identifier,
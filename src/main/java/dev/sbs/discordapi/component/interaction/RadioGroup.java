@@ -2,7 +2,6 @@ package dev.sbs.discordapi.component.interaction;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
@@ -13,6 +12,7 @@ import dev.sbs.discordapi.component.layout.Label;
 import dev.sbs.discordapi.component.scope.ActionComponent;
 import dev.sbs.discordapi.component.scope.LabelComponent;
 import dev.sbs.discordapi.context.component.RadioGroupContext;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.core.object.component.RadioGroupAction;
 import discord4j.discordjson.json.ComponentData;
 import lombok.AccessLevel;
@@ -351,7 +351,7 @@ public final class RadioGroup implements ActionComponent, EventInteractable<Radi
          */
         @Override
         public @NotNull RadioGroup build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new RadioGroup(
                 this.identifier,
@@ -2,7 +2,6 @@ package dev.sbs.discordapi.component.interaction;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
@@ -14,6 +13,7 @@ import dev.sbs.discordapi.component.scope.LabelComponent;
 import dev.sbs.discordapi.context.component.OptionContext;
 import dev.sbs.discordapi.context.component.SelectMenuContext;
 import dev.sbs.discordapi.response.Emoji;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.discordjson.json.ComponentData;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -520,7 +520,7 @@ public final class SelectMenu implements ActionComponent, EventInteractable<Sele
          */
         @Override
         public @NotNull SelectMenu build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             if (this.type == Type.UNKNOWN)
                 throw new IllegalStateException("Type must be set.");
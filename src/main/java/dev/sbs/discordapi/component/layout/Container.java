@@ -2,11 +2,11 @@ package dev.sbs.discordapi.component.layout;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
 import dev.sbs.discordapi.component.scope.ContainerComponent;
 import dev.sbs.discordapi.component.scope.LayoutComponent;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.core.object.component.ICanBeUsedInContainerComponent;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -192,7 +192,7 @@ public final class Container implements LayoutComponent {
          */
         @Override
         public @NotNull Container build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Container(
                 this.accent,
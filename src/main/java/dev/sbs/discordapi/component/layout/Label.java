@@ -2,7 +2,6 @@ package dev.sbs.discordapi.component.layout;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
@@ -13,6 +12,7 @@ import dev.sbs.discordapi.component.interaction.TextInput;
 import dev.sbs.discordapi.component.scope.LabelComponent;
 import dev.sbs.discordapi.component.scope.LayoutComponent;
 import dev.sbs.discordapi.component.scope.TopLevelModalComponent;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.discordjson.json.ComponentData;
 import discord4j.discordjson.possible.Possible;
 import lombok.AccessLevel;
@@ -228,7 +228,7 @@ public final class Label implements LayoutComponent, TopLevelModalComponent {
          */
         @Override
         public @NotNull Label build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Label(
                 this.title,
@@ -2,7 +2,6 @@ package dev.sbs.discordapi.component.layout;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
 import dev.sbs.discordapi.component.Component;
@@ -12,6 +11,7 @@ import dev.sbs.discordapi.component.scope.AccessoryComponent;
 import dev.sbs.discordapi.component.scope.ContainerComponent;
 import dev.sbs.discordapi.component.scope.LayoutComponent;
 import dev.sbs.discordapi.component.scope.SectionComponent;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.core.object.component.ICanBeUsedInSectionComponent;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -179,7 +179,7 @@ public final class Section implements LayoutComponent, ContainerComponent {
          */
         @Override
         public @NotNull Section build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Section(
                 this.accessory.orElseThrow(),
@@ -1,11 +1,11 @@
 package dev.sbs.discordapi.component.media;
 
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.NumberUtil;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
 import dev.sbs.discordapi.exception.DiscordException;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.core.object.component.UnfurledMediaItem;
 import discord4j.core.spec.MessageCreateFields;
 import lombok.AccessLevel;
@@ -396,7 +396,7 @@ public final class MediaData {
          */
         @Override
         public @NotNull MediaData build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new MediaData(
                 this.fileId,
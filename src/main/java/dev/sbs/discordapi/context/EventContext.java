@@ -149,7 +149,8 @@ public interface EventContext<T extends Event> {
      * @return a {@link Mono} completing when the reply has been sent and cached
      */
     default Mono<Void> reply(@NotNull Response response) {
-        return this.discordBuildMessage(response)
+        return response.load()
+            .then(Mono.defer(() -> this.discordBuildMessage(response)))
             .checkpoint("EventContext#reply Processing")
             .onErrorResume(throwable -> this.getDiscordBot().getExceptionHandler().handleException(
                 ExceptionContext.of(
@@ -168,6 +169,7 @@ public interface EventContext<T extends Event> {
                     response
                 )
                 .updateResponse(response)
+                .doOnNext(entry -> entry.setSentFingerprint(response.render().getFingerprint()))
                 .flatMap(entry -> entry.updateReactions(message)
                     .then(entry.updateAttachments(message))
                     .then(entry.updateLastInteract())
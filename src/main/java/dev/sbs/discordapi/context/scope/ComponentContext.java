@@ -28,6 +28,32 @@ import reactor.core.publisher.Mono;
  */
 public interface ComponentContext extends MessageContext<ComponentInteractionEvent>, DeferrableInteractionContext<ComponentInteractionEvent> {
 
+    /**
+     * Acknowledges a skipped or coalesced edit with a deferred message update,
+     * unless this interaction has already been deferred.
+     *
+     * @return a mono completing when the interaction is acknowledged
+     */
+    @Override
+    default Mono<Void> acknowledgeEdit() {
+        return Mono.justOrEmpty(this.getResponseCacheEntry())
+            .filter(entry -> !entry.isDeferred(this.getEvent().getInteraction().getId()))
+            .flatMap(__ -> this.deferEdit());
+    }
+
+    /**
+     * Edits the acknowledged interaction's reply with the given response.
+     *
+     * @param response the updated response content
+     * @return a mono emitting the edited message
+     */
+    @Override
+    default Mono<Message> discordEditAcknowledged(@NotNull Response response) {
+        return this.getEvent()
+            .editReply(response.getD4jInteractionReplyEditSpec())
+            .publishOn(response.getReactorScheduler());
+    }
+
     /**
      * Defers the reply and then creates an interaction followup message for the given response.
      *
@@ -88,7 +114,7 @@ public interface ComponentContext extends MessageContext<ComponentInteractionEve
     @Override
     default Mono<Message> discordEditMessage(@NotNull Response response) {
         return Mono.just(this.getResponseCacheEntry())
-            .filter(CachedResponse::isDeferred)
+            .filter(entry -> entry.isDeferred(this.getEvent().getInteraction().getId()))
             .flatMap(entry -> this.getEvent().editReply(response.getD4jInteractionReplyEditSpec()))
             .switchIfEmpty(
                 this.getEvent()
@@ -108,7 +134,8 @@ public interface ComponentContext extends MessageContext<ComponentInteractionEve
     }
 
     /**
-     * Defers the component interaction edit, marking the cached response as deferred.
+     * Defers the component interaction edit, marking the interaction as deferred
+     * on the cached response.
      *
      * @param ephemeral whether the deferred response should be ephemeral
      * @return a mono completing when the deferral is acknowledged
@@ -116,7 +143,7 @@ public interface ComponentContext extends MessageContext<ComponentInteractionEve
     default Mono<Void> deferEdit(boolean ephemeral) {
         return this.getEvent()
             .deferEdit(InteractionCallbackSpec.builder().ephemeral(ephemeral).build())
-            .then(Mono.fromRunnable(() -> this.getResponseCacheEntry().setDeferred()));
+            .then(Mono.fromRunnable(() -> this.getResponseCacheEntry().setDeferred(this.getEvent().getInteraction().getId())));
     }
 
     /** {@inheritDoc} */
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
@@ -49,6 +50,20 @@ import java.util.function.Function;
  */
 public interface MessageContext<T extends Event> extends EventContext<T> {
 
+    /**
+     * Acknowledges an edit that is not sent immediately, either because it
+     * would not have changed the Discord message or because it is being
+     * coalesced with later edits.
+     *
+     * <p>
+     * Plain message events require no acknowledgement.
+     *
+     * @return a {@link Mono} completing when the edit has been acknowledged
+     */
+    default Mono<Void> acknowledgeEdit() {
+        return Mono.empty();
+    }
+
     /**
      * Passes the active {@link Response} to the given consumer. If a followup is present,
      * its response is used; otherwise the primary response is used.
@@ -124,6 +139,17 @@ public interface MessageContext<T extends Event> extends EventContext<T> {
             .publishOn(response.getReactorScheduler());
     }
 
+    /**
+     * Edits the original Discord message with the given {@link Response} after
+     * this interaction has been {@link #acknowledgeEdit() acknowledged}.
+     *
+     * @param response the response to apply as an edit
+     * @return a {@link Mono} emitting the edited message
+     */
+    default Mono<Message> discordEditAcknowledged(@NotNull Response response) {
+        return this.discordEditMessage(response);
+    }
+
     /**
      * Edits the original Discord message with the given {@link Response}.
      *
@@ -199,24 +225,87 @@ public interface MessageContext<T extends Event> extends EventContext<T> {
      */
     default Mono<Void> edit(@NotNull Function<Response, Response> responseFunction) {
         Response editedResponse = responseFunction.apply(this.getResponse());
-
-        return this.discordEditMessage(editedResponse)
-            .checkpoint("ResponseContext#edit Processing")
-            .onErrorResume(throwable -> this.getDiscordBot().getExceptionHandler().handleException(
-                ExceptionContext.of(
-                    this.getDiscordBot(),
-                    this,
-                    throwable,
-                    "Response Edit Exception"
-                )
-            ))
-            .flatMap(message -> Mono.just(this.getResponseCacheEntry())
-                .flatMap(entry -> entry.updateResponse(editedResponse)
-                    .then(entry.updateReactions(message))
-                    .then(entry.updateAttachments(message))
-                    .then(entry.updateLastInteract())
+        return editedResponse.load().then(Mono.defer(() -> {
+            CachedResponse cachedResponse = this.getResponseCacheEntry();
+
+            if (cachedResponse != null && editedResponse.getEditCoalescingWindow() > 0)
+                return this.editCoalesced(cachedResponse, editedResponse);
+
+            if (cachedResponse != null && cachedResponse.isUnchanged(editedResponse)) {
+                return this.acknowledgeEdit()
+                    .then(cachedResponse.updateResponse(editedResponse))
+                    .then(cachedResponse.updateLastInteract())
+                    .then();
+            }
+
+            return this.discordEditMessage(editedResponse)
+                .checkpoint("ResponseContext#edit Processing")
+                .onErrorResume(throwable -> this.getDiscordBot().getExceptionHandler().handleException(
+                    ExceptionContext.of(
+                        this.getDiscordBot(),
+                        this,
+                        throwable,
+                        "Response Edit Exception"
+                    )
+                ))
+                .flatMap(message -> Mono.just(this.getResponseCacheEntry())
+                    .doOnNext(entry -> entry.setSentFingerprint(editedResponse.render().getFingerprint()))
+                    .flatMap(entry -> entry.updateResponse(editedResponse)
+                        .then(entry.updateReactions(message))
+                        .then(entry.updateAttachments(message))
+                        .then(entry.updateLastInteract())
+                    )
                 )
-            )
+                .then();
+        }));
+    }
+
+    /**
+     * Adopts the given {@link Response} and acknowledges the interaction, sending
+     * only the latest state once the response's
+     * {@link Response#getEditCoalescingWindow() coalescing window} closes.
+     *
+     * <p>
+     * The first edit of a burst waits for the window and then sends whatever
+     * state the cache entry holds at that point; edits arriving while it waits
+     * only replace that state.
+     *
+     * @param cachedResponse the cache entry of the edited message
+     * @param editedResponse the response to apply
+     * @return a {@link Mono} completing when this edit has been acknowledged, or sent if it opened the window
+     */
+    default Mono<Void> editCoalesced(@NotNull CachedResponse cachedResponse, @NotNull Response editedResponse) {
+        return cachedResponse.updateResponse(editedResponse)
+            .then(this.acknowledgeEdit())
+            .then(Mono.defer(() -> {
+                if (!cachedResponse.beginCoalescedEdit())
+                    return Mono.empty(); // Sent By Pending Edit
+
+                return Mono.delay(Duration.ofMillis(editedResponse.getEditCoalescingWindow()))
+                    .then(Mono.defer(() -> {
+                        cachedResponse.endCoalescedEdit();
+                        Response latestResponse = cachedResponse.getResponse();
+
+                        if (cachedResponse.isUnchanged(latestResponse))
+                            return Mono.empty();
+
+                        return this.discordEditAcknowledged(latestResponse)
+                            .checkpoint("ResponseContext#editCoalesced Processing")
+                            .onErrorResume(throwable -> this.getDiscordBot().getExceptionHandler().handleException(
+                                ExceptionContext.of(
+                                    this.getDiscordBot(),
+                                    this,
+                                    throwable,
+                                    "Response Edit Exception"
+                                )
+                            ))
+                            .doOnNext(message -> cachedResponse.setSentFingerprint(latestResponse.render().getFingerprint()))
+                            .flatMap(message -> cachedResponse.updateReactions(message)
+                                .then(cachedResponse.updateAttachments(message))
+                            );
+                    }))
+                    .then(cachedResponse.updateLastInteract());
+            }))
             .then();
     }
 
@@ -252,23 +341,33 @@ public interface MessageContext<T extends Event> extends EventContext<T> {
             .flatMap(followup -> {
                 Response editedResponse = responseFunction.apply(followup);
 
-                return this.discordEditFollowup(identifier, editedResponse)
-                    .checkpoint("ResponseContext#editFollowup Processing")
-                    .onErrorResume(throwable -> this.getDiscordBot().getExceptionHandler().handleException(
-                        ExceptionContext.of(
-                            this.getDiscordBot(),
-                            this,
-                            throwable,
-                            "Followup Edit Exception"
-                        )
-                    ))
-                    .flatMap(message -> Mono.just(this.getResponseCacheEntry())
-                        .flatMap(entry -> followup.updateResponse(editedResponse)
-                            .then(followup.updateReactions(message))
-                            .then(followup.updateAttachments(message))
-                            .then(entry.updateLastInteract())
-                        )
-                    );
+                return editedResponse.load().then(Mono.defer(() -> {
+                    if (followup.isUnchanged(editedResponse)) {
+                        return this.acknowledgeEdit()
+                            .then(followup.updateResponse(editedResponse))
+                            .then(Mono.justOrEmpty(this.getResponseCacheEntry()))
+                            .flatMap(CachedResponse::updateLastInteract);
+                    }
+
+                    return this.discordEditFollowup(identifier, editedResponse)
+                        .checkpoint("ResponseContext#editFollowup Processing")
+                        .onErrorResume(throwable -> this.getDiscordBot().getExceptionHandler().handleException(
+                            ExceptionContext.of(
+                                this.getDiscordBot(),
+                                this,
+                                throwable,
+                                "Followup Edit Exception"
+                            )
+                        ))
+                        .doOnNext(message -> followup.setSentFingerprint(editedResponse.render().getFingerprint()))
+                        .flatMap(message -> Mono.just(this.getResponseCacheEntry())
+                            .flatMap(entry -> followup.updateResponse(editedResponse)
+                                .then(followup.updateReactions(message))
+                                .then(followup.updateAttachments(message))
+                                .then(entry.updateLastInteract())
+                            )
+                        );
+                }));
             })
             .then();
     }
@@ -313,6 +412,7 @@ public interface MessageContext<T extends Event> extends EventContext<T> {
                         message.getId(),
                         response
                     )
+                    .doOnNext(followup -> followup.setSentFingerprint(response.render().getFingerprint()))
                     .flatMap(followup -> followup.updateReactions(message)
                         .then(followup.updateAttachments(message))
                         .then(entry.updateLastInteract())
@@ -355,7 +455,8 @@ public interface MessageContext<T extends Event> extends EventContext<T> {
     default @NotNull CachedResponse getResponseCacheEntry() {
         return this.getDiscordBot()
             .getResponseHandler()
-            .findFirstOrNull(entry -> entry.getResponse().getUniqueId(), this.getResponseId());
+            .findByUniqueId(this.getResponseId())
+            .orElse(null);
     }
 
     /**
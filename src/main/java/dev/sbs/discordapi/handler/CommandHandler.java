@@ -1,10 +1,10 @@
 package dev.sbs.discordapi.handler;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
 import dev.sbs.api.collection.concurrent.ConcurrentMap;
 import dev.sbs.api.collection.concurrent.ConcurrentSet;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.tuple.pair.Pair;
 import dev.sbs.api.util.StreamUtil;
 import dev.sbs.api.util.StringUtil;
@@ -17,11 +17,13 @@ import dev.sbs.discordapi.context.command.MessageCommandContext;
 import dev.sbs.discordapi.context.command.SlashCommandContext;
 import dev.sbs.discordapi.context.command.UserCommandContext;
 import dev.sbs.discordapi.context.scope.CommandContext;
+import dev.sbs.discordapi.util.DiscordIndex;
 import dev.sbs.discordapi.util.DiscordReference;
 import discord4j.core.event.domain.interaction.ApplicationCommandInteractionEvent;
 import discord4j.core.object.command.ApplicationCommand;
 import discord4j.core.object.command.ApplicationCommandOption;
 import discord4j.core.object.entity.channel.Channel;
+import discord4j.discordjson.json.ApplicationCommandData;
 import discord4j.discordjson.json.ApplicationCommandOptionChoiceData;
 import discord4j.discordjson.json.ApplicationCommandOptionData;
 import discord4j.discordjson.json.ApplicationCommandRequest;
@@ -34,11 +36,14 @@ import lombok.extern.log4j.Log4j2;
 import org.jetbrains.annotations.NotNull;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -57,7 +62,9 @@ import java.util.stream.Stream;
  *
  * <p>
  * Use {@link #updateApplicationCommands()} to bulk-overwrite global
- * and guild application commands with the Discord API.
+ * and guild application commands with the Discord API. Scopes whose
+ * command requests are unchanged since the last overwrite, as recorded
+ * in the {@link CommandManifest}, are restored without a REST request.
  *
  * @see DiscordCommand
  * @see Structure
@@ -69,9 +76,15 @@ public final class CommandHandler extends DiscordReference {
     /** Regex enforcing Discord's 1-32 character alphanumeric command name constraint. */
     private static final Pattern validCommandPattern = Pattern.compile("^[\\w-]{1,32}$");
 
+    /** Manifest scope of the global application commands. */
+    private static final String GLOBAL_SCOPE = "global";
+
     /** Mapping from command class to its Discord-assigned application command ID. */
     private final @NotNull ConcurrentMap<Class<? extends DiscordCommand>, Long> commandIds = Concurrent.newMap();
 
+    /** Request hashes and ids of the registered application commands, persisted between runs. */
+    private final @NotNull CommandManifest manifest;
+
     /** All validated and de-duplicated command instances. */
     @Getter private final @NotNull ConcurrentList<DiscordCommand> loadedCommands;
 
@@ -96,6 +109,7 @@ public final class CommandHandler extends DiscordReference {
         @NotNull ConcurrentSet<Class<DiscordCommand>> commands
     ) {
         super(discordBot);
+        this.manifest = CommandManifest.load(discordBot.getConfig().getCommandManifest());
 
         this.getLog().info("Validating Commands");
         this.loadedCommands = this.validateCommands(discordBot, commands);
@@ -414,21 +428,25 @@ public final class CommandHandler extends DiscordReference {
      * Bulk-overwrites all global application commands with the Discord
      * API and updates the internal command ID mapping.
      *
+     * <p>
+     * The overwrite is skipped when the {@link CommandManifest manifest} records
+     * the same command requests, restoring the recorded command IDs instead.
+     *
      * @return a mono that completes when global commands have been registered
      */
     public @NotNull Mono<Void> updateGlobalApplicationCommands() {
-        return this.getDiscordBot()
-            .getGateway()
-            .getRestClient()
-            .getApplicationService()
-            .bulkOverwriteGlobalApplicationCommand(
-                this.getDiscordBot().getClientId().asLong(),
-                this.buildCommandRequests(-1)
-            )
-            .doOnNext(commandData -> this.getCommandReferences(commandData.name(), DiscordCommand.Type.of(commandData.type().toOptional().orElse(-1)))
-                .forEach(command -> this.commandIds.put(command.getClass(), commandData.id().asLong()))
-            )
-            .then();
+        return this.updateApplicationCommands(
+            GLOBAL_SCOPE,
+            this.buildCommandRequests(-1),
+            requests -> this.getDiscordBot()
+                .getGateway()
+                .getRestClient()
+                .getApplicationService()
+                .bulkOverwriteGlobalApplicationCommand(
+                    this.getDiscordBot().getClientId().asLong(),
+                    requests
+                )
+        );
     }
 
     /**
@@ -452,23 +470,103 @@ public final class CommandHandler extends DiscordReference {
      * Bulk-overwrites application commands for a specific guild and
      * updates the internal command ID mapping.
      *
+     * <p>
+     * The overwrite is skipped when the {@link CommandManifest manifest} records
+     * the same command requests, restoring the recorded command IDs instead.
+     *
      * @param guildId the Discord guild ID to register commands for
      * @return a mono that completes when the guild commands have been registered
      */
     public @NotNull Mono<Void> updateGuildApplicationCommands(long guildId) {
-        return this.getDiscordBot()
-            .getGateway()
-            .getRestClient()
-            .getApplicationService()
-            .bulkOverwriteGuildApplicationCommand(
+        return this.updateApplicationCommands(
+            String.valueOf(guildId),
+            this.buildCommandRequests(guildId),
+            requests -> this.getDiscordBot()
+                .getGateway()
+                .getRestClient()
+                .getApplicationService()
+                .bulkOverwriteGuildApplicationCommand(
+                    this.getDiscordBot().getClientId().asLong(),
+                    guildId,
+                    requests
+                )
+        );
+    }
+
+    /**
+     * Bulk-overwrites the application commands of a scope unless the
+     * {@link CommandManifest manifest} records the same command requests,
+     * in which case the recorded command IDs are restored instead.
+     *
+     * @param scope the manifest scope of the commands
+     * @param requests the current command requests of the scope
+     * @param overwrite bulk-overwrites the commands of the scope
+     * @return a mono that completes when the commands have been registered
+     */
+    private @NotNull Mono<Void> updateApplicationCommands(
+        @NotNull String scope,
+        @NotNull ConcurrentList<ApplicationCommandRequest> requests,
+        @NotNull Function<ConcurrentList<ApplicationCommandRequest>, Flux<ApplicationCommandData>> overwrite
+    ) {
+        return Mono.defer(() -> {
+            Optional<String> hash = this.hashCommandRequests(requests);
+            Optional<ConcurrentList<CommandManifest.Command>> recorded = hash.flatMap(value -> this.manifest.getCommands(scope, value));
+
+            if (recorded.isPresent()) {
+                this.getLog().info("Application Commands Unchanged ({}), Skipping Registration", scope);
+                recorded.get().forEach(command -> this.putCommandId(command.getName(), command.getType(), command.getId()));
+                return Mono.empty();
+            }
+
+            return overwrite.apply(requests)
+                .doOnNext(commandData -> this.putCommandId(
+                    commandData.name(),
+                    commandData.type().toOptional().orElse(-1),
+                    commandData.id().asLong()
+                ))
+                .collectList()
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(commands -> hash.ifPresent(value -> this.manifest.save(scope, value, commands)))
+                .then();
+        });
+    }
+
+    /**
+     * Computes the {@link CommandManifest#hash canonical hash} of the given
+     * command requests, bound to the application they are registered for.
+     *
+     * @param requests the command requests to hash
+     * @return the hex encoded SHA-256 hash, or empty if the requests could not be serialized
+     */
+    private @NotNull Optional<String> hashCommandRequests(@NotNull ConcurrentList<ApplicationCommandRequest> requests) {
+        try {
+            return Optional.of(CommandManifest.hash(
+                this.getDiscordBot()
+                    .getGateway()
+                    .getRestClient()
+                    .getRestResources()
+                    .getJacksonResources()
+                    .getObjectMapper(),
                 this.getDiscordBot().getClientId().asLong(),
-                guildId,
-                this.buildCommandRequests(guildId)
-            )
-            .doOnNext(commandData -> this.getCommandReferences(commandData.name(), DiscordCommand.Type.of(commandData.type().toOptional().orElse(-1)))
-                .forEach(command -> this.commandIds.put(command.getClass(), commandData.id().asLong()))
-            )
-            .then();
+                requests
+            ));
+        } catch (JsonProcessingException exception) {
+            this.getLog().warn("Unable to hash application commands", exception);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Maps the loaded commands matching the given registered application
+     * command to its ID.
+     *
+     * @param name the application command name
+     * @param type the application command type value
+     * @param id the application command ID
+     */
+    private void putCommandId(@NotNull String name, int type, long id) {
+        this.getCommandReferences(name, DiscordCommand.Type.of(type))
+            .forEach(command -> this.commandIds.put(command.getClass(), id));
     }
 
     /**
@@ -497,7 +595,7 @@ public final class CommandHandler extends DiscordReference {
             .filter(StreamUtil.distinctByKey(Pair::getRight))
             .map(commandLink -> Pair.of(
                 commandLink.getLeft(),
-                new Reflection<>(commandLink.getLeft()).newInstance(discordBot)
+                DiscordIndex.get().newInstance(commandLink.getLeft(), discordBot)
             ))
             .filter(commandEntry -> {
                 if (!validCommandPattern.matcher(commandEntry.getRight().getStructure().name()).matches()) {
@@ -0,0 +1,226 @@
+package dev.sbs.discordapi.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.api.collection.concurrent.ConcurrentMap;
+import discord4j.core.object.command.ApplicationCommandOption;
+import discord4j.discordjson.json.ApplicationCommandData;
+import discord4j.discordjson.json.ApplicationCommandOptionData;
+import discord4j.discordjson.json.ApplicationCommandRequest;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Local manifest of the application commands registered by the {@link CommandHandler}.
+ *
+ * <p>
+ * Records, for the global scope and every guild scope, the hash of the command
+ * requests last overwritten and the ids Discord assigned to the resulting
+ * commands. It is stored as a properties file of {@code SCOPE.hash=hash} and
+ * {@code SCOPE.command.TYPE.NAME=id} entries, where the scope is {@code global}
+ * or a guild id. The manifest lets an unchanged command set be restored without
+ * a REST request.
+ *
+ * <p>
+ * Missing, unreadable or malformed manifests are treated as empty.
+ */
+final class CommandManifest {
+
+    private static final @NotNull String HASH = "hash";
+    private static final @NotNull String COMMAND = "command";
+
+    private final @NotNull ManifestFile file;
+    private final @NotNull ConcurrentMap<String, Scope> scopes;
+
+    private CommandManifest(@NotNull ManifestFile file, @NotNull ConcurrentMap<String, Scope> scopes) {
+        this.file = file;
+        this.scopes = scopes;
+    }
+
+    /**
+     * Loads the manifest stored at the given path.
+     *
+     * @param path the manifest file, or empty to keep the manifest in memory only
+     * @return the loaded manifest
+     */
+    public static @NotNull CommandManifest load(@NotNull Optional<Path> path) {
+        ManifestFile file = new ManifestFile(path, "command");
+        Properties properties = file.load();
+        ConcurrentMap<String, Scope> scopes = Concurrent.newMap();
+
+        properties.stringPropertyNames()
+            .stream()
+            .filter(key -> key.endsWith("." + HASH))
+            .forEach(key -> {
+                String scope = key.substring(0, key.length() - HASH.length() - 1);
+                Scope.parse(scope, properties.getProperty(key), properties).ifPresent(entry -> scopes.put(scope, entry));
+            });
+
+        return new CommandManifest(file, scopes);
+    }
+
+    /**
+     * Computes the canonical hash of the given command requests, bound to
+     * the application they are registered for.
+     *
+     * <p>
+     * Commands are ordered by type and name, and subcommands and subcommand
+     * groups by name, as Discord does not preserve their order. Parameters
+     * keep their declared order, which is shown to users.
+     *
+     * @param objectMapper the mapper serializing the requests
+     * @param applicationId the application the commands are registered for
+     * @param requests the command requests to hash
+     * @return the hex encoded SHA-256 hash
+     * @throws JsonProcessingException if the requests could not be serialized
+     */
+    static @NotNull String hash(@NotNull ObjectMapper objectMapper, long applicationId, @NotNull List<ApplicationCommandRequest> requests) throws JsonProcessingException {
+        List<ApplicationCommandRequest> canonicalRequests = requests.stream()
+            .map(request -> request.options().isAbsent() ? request : ApplicationCommandRequest.builder()
+                .from(request)
+                .options(canonicalizeOptions(request.options().get()))
+                .build()
+            )
+            .sorted(
+                Comparator.<ApplicationCommandRequest>comparingInt(request -> request.type().toOptional().orElse(-1))
+                    .thenComparing(ApplicationCommandRequest::name)
+            )
+            .toList();
+
+        String json = objectMapper.writeValueAsString(canonicalRequests);
+        return ManifestFile.hash(String.format("%s:%s", applicationId, json).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Orders subcommands and subcommand groups by name, leaving parameters in their declared order.
+     *
+     * @param options the options of a command or subcommand group
+     * @return the canonically ordered options
+     */
+    private static @NotNull List<ApplicationCommandOptionData> canonicalizeOptions(@NotNull List<ApplicationCommandOptionData> options) {
+        boolean subcommands = options.stream().anyMatch(option ->
+            option.type() == ApplicationCommandOption.Type.SUB_COMMAND.getValue()
+                || option.type() == ApplicationCommandOption.Type.SUB_COMMAND_GROUP.getValue()
+        );
+
+        if (!subcommands)
+            return options;
+
+        return options.stream()
+            .map(option -> option.options().isAbsent() ? option : ApplicationCommandOptionData.builder()
+                .from(option)
+                .options(canonicalizeOptions(option.options().get()))
+                .build()
+            )
+            .sorted(Comparator.comparing(ApplicationCommandOptionData::name))
+            .toList();
+    }
+
+    /**
+     * The commands registered in the given scope, if they were registered from the given requests.
+     *
+     * @param scope the command scope
+     * @param hash the hash of the current command requests
+     * @return the recorded commands, or empty if the scope is not recorded or its requests changed
+     */
+    public @NotNull Optional<ConcurrentList<Command>> getCommands(@NotNull String scope, @NotNull String hash) {
+        return Optional.ofNullable(this.scopes.get(scope))
+            .filter(entry -> entry.getHash().equals(hash))
+            .map(Scope::getCommands);
+    }
+
+    /**
+     * Records the commands registered in the given scope, and stores the manifest.
+     *
+     * @param scope the command scope
+     * @param hash the hash of the overwritten command requests
+     * @param commands the registered application commands
+     */
+    public void save(@NotNull String scope, @NotNull String hash, @NotNull List<ApplicationCommandData> commands) {
+        this.save(scope, hash, commands.stream()
+            .map(commandData -> new Command(
+                commandData.name(),
+                commandData.type().toOptional().orElse(-1),
+                commandData.id().asLong()
+            ))
+            .collect(Concurrent.toUnmodifiableList())
+        );
+    }
+
+    /**
+     * Records the given commands in the given scope, and stores the manifest.
+     *
+     * @param scope the command scope
+     * @param hash the hash of the overwritten command requests
+     * @param commands the registered commands
+     */
+    synchronized void save(@NotNull String scope, @NotNull String hash, @NotNull ConcurrentList<Command> commands) {
+        this.scopes.put(scope, new Scope(hash, commands));
+
+        Properties properties = new Properties();
+        this.scopes.forEach((name, entry) -> entry.store(name, properties));
+        this.file.store(properties);
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class Command {
+
+        private final @NotNull String name;
+        private final int type;
+        private final long id;
+
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Scope {
+
+        private final @NotNull String hash;
+        private final @NotNull ConcurrentList<Command> commands;
+
+        private static @NotNull Optional<Scope> parse(@NotNull String scope, @NotNull String hash, @NotNull Properties properties) {
+            String prefix = String.format("%s.%s.", scope, COMMAND);
+            ConcurrentList<Command> commands = Concurrent.newList();
+
+            for (String key : properties.stringPropertyNames()) {
+                if (!key.startsWith(prefix))
+                    continue;
+
+                String[] parts = key.substring(prefix.length()).split("\\.", 2);
+
+                if (parts.length != 2)
+                    return Optional.empty();
+
+                try {
+                    commands.add(new Command(parts[1], Integer.parseInt(parts[0]), Long.parseLong(properties.getProperty(key))));
+                } catch (NumberFormatException exception) {
+                    return Optional.empty();
+                }
+            }
+
+            return Optional.of(new Scope(hash, commands.toUnmodifiableList()));
+        }
+
+        private void store(@NotNull String scope, @NotNull Properties properties) {
+            properties.setProperty(String.format("%s.%s", scope, HASH), this.hash);
+            this.commands.forEach(command -> properties.setProperty(
+                String.format("%s.%s.%s.%s", scope, COMMAND, command.getType(), command.getName()),
+                String.valueOf(command.getId())
+            ));
+        }
+
+    }
+
+}
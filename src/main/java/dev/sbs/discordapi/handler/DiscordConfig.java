@@ -1,6 +1,7 @@
 package dev.sbs.discordapi.handler;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
 import dev.sbs.api.collection.concurrent.ConcurrentSet;
 import dev.sbs.api.io.yaml.annotation.Flag;
 import dev.sbs.api.persistence.JpaConfig;
@@ -10,6 +11,8 @@ import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
 import dev.sbs.discordapi.command.DiscordCommand;
 import dev.sbs.discordapi.listener.DiscordListener;
+import dev.sbs.discordapi.util.BuildFlags;
+import dev.sbs.discordapi.util.DiscordIndex;
 import discord4j.core.event.domain.Event;
 import discord4j.core.object.presence.ClientPresence;
 import discord4j.core.shard.MemberRequestFilter;
@@ -23,6 +26,7 @@ import org.apache.logging.log4j.Level;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -47,6 +51,16 @@ public final class DiscordConfig {
     private final @NotNull Function<ShardInfo, ClientPresence> clientPresence;
     private final @NotNull MemberRequestFilter memberRequestFilter;
     private final @NotNull Level logLevel;
+    private final int maxResponses;
+    private final long maxResponseBytes;
+    private final int maxResponsesPerUser;
+    private final int maxResponsesPerChannel;
+    private final int responseColdAfter;
+    private final int itemParallelism;
+    private final int itemParallelThreshold;
+    private final @NotNull Optional<Path> emojiManifest;
+    private final int emojiSyncConcurrency;
+    private final @NotNull Optional<Path> commandManifest;
 
     public static @NotNull Builder builder() {
         return new Builder();
@@ -83,6 +97,27 @@ public final class DiscordConfig {
         @BuildFlag(nonNull = true)
         private Level logLevel = Level.WARN;
 
+        // Response Cache
+        private int maxResponses = 10_000;
+        private long maxResponseBytes = 128L * 1024 * 1024;
+        // Per-user and per-channel caps are opt-in, live responses otherwise stay until their timeout
+        private int maxResponsesPerUser = Integer.MAX_VALUE;
+        private int maxResponsesPerChannel = Integer.MAX_VALUE;
+        private int responseColdAfter = 60;
+
+        // Item Processing
+        private int itemParallelism = Runtime.getRuntime().availableProcessors();
+        private int itemParallelThreshold = 10_000;
+
+        // Emoji Sync
+        @BuildFlag(nonNull = true)
+        private Optional<Path> emojiManifest = Optional.of(Path.of("emojis.properties"));
+        private int emojiSyncConcurrency = 4;
+
+        // Command Registration
+        @BuildFlag(nonNull = true)
+        private Optional<Path> commandManifest = Optional.of(Path.of("commands.properties"));
+
         public Builder withAllowedMentions(@NotNull AllowedMentions allowedMentions) {
             this.allowedMentions = allowedMentions;
             return this;
@@ -97,12 +132,28 @@ public final class DiscordConfig {
             return this;
         }
 
+        public Builder withCommandManifest(@Nullable Path commandManifest) {
+            return this.withCommandManifest(Optional.ofNullable(commandManifest));
+        }
+
+        public Builder withCommandManifest(@NotNull Optional<Path> commandManifest) {
+            this.commandManifest = commandManifest;
+            return this;
+        }
+
         public Builder withCommands(@NotNull String packagePath) {
-            this.commands.addAll(
-                Reflection.getResources()
-                    .filterPackage(packagePath)
-                    .getTypesOf(DiscordCommand.class)
-            );
+            ConcurrentList<Class<DiscordCommand>> indexed = DiscordIndex.get().getCommands(packagePath);
+
+            if (indexed.notEmpty())
+                this.commands.addAll(indexed);
+            else {
+                this.commands.addAll(
+                    Reflection.getResources()
+                        .filterPackage(packagePath)
+                        .getTypesOf(DiscordCommand.class)
+                );
+            }
+
             return this;
         }
 
@@ -116,6 +167,20 @@ public final class DiscordConfig {
             return this;
         }
 
+        public Builder withEmojiManifest(@Nullable Path emojiManifest) {
+            return this.withEmojiManifest(Optional.ofNullable(emojiManifest));
+        }
+
+        public Builder withEmojiManifest(@NotNull Optional<Path> emojiManifest) {
+            this.emojiManifest = emojiManifest;
+            return this;
+        }
+
+        public Builder withEmojiSyncConcurrency(int emojiSyncConcurrency) {
+            this.emojiSyncConcurrency = emojiSyncConcurrency;
+            return this;
+        }
+
         public Builder withEmojis(@NotNull ResourceInfo... emojis) {
             this.emojis.addAll(emojis);
             return this;
@@ -126,6 +191,16 @@ public final class DiscordConfig {
             return this;
         }
 
+        public Builder withItemParallelism(int itemParallelism) {
+            this.itemParallelism = itemParallelism;
+            return this;
+        }
+
+        public Builder withItemParallelThreshold(int itemParallelThreshold) {
+            this.itemParallelThreshold = itemParallelThreshold;
+            return this;
+        }
+
         public Builder withJpaConfig(@Nullable JpaConfig jpaConfig) {
             return this.withJpaConfig(Optional.ofNullable(jpaConfig));
         }
@@ -144,6 +219,11 @@ public final class DiscordConfig {
             return this;
         }
 
+        public Builder withResponseColdAfter(int seconds) {
+            this.responseColdAfter = seconds;
+            return this;
+        }
+
         public Builder withSentryDsn(@NotNull String sentryDsn) {
             return this.withSentryDsn(Optional.of(sentryDsn));
         }
@@ -164,11 +244,18 @@ public final class DiscordConfig {
         }
 
         public Builder withListeners(@NotNull String packagePath) {
-            this.listeners.addAll(
-                Reflection.getResources()
-                    .filterPackage(packagePath)
-                    .getSubtypesOf(DiscordListener.class)
-            );
+            ConcurrentList<Class<? extends DiscordListener>> indexed = DiscordIndex.get().getListeners(packagePath);
+
+            if (indexed.notEmpty())
+                this.listeners.addAll(indexed);
+            else {
+                this.listeners.addAll(
+                    Reflection.getResources()
+                        .filterPackage(packagePath)
+                        .getSubtypesOf(DiscordListener.class)
+                );
+            }
+
             return this;
         }
 
@@ -196,6 +283,26 @@ public final class DiscordConfig {
             return this;
         }
 
+        public Builder withMaxResponses(int maxResponses) {
+            this.maxResponses = maxResponses;
+            return this;
+        }
+
+        public Builder withMaxResponseBytes(long maxResponseBytes) {
+            this.maxResponseBytes = maxResponseBytes;
+            return this;
+        }
+
+        public Builder withMaxResponsesPerChannel(int maxResponsesPerChannel) {
+            this.maxResponsesPerChannel = maxResponsesPerChannel;
+            return this;
+        }
+
+        public Builder withMaxResponsesPerUser(int maxResponsesPerUser) {
+            this.maxResponsesPerUser = maxResponsesPerUser;
+            return this;
+        }
+
         public Builder withMemberRequestFilter(@NotNull MemberRequestFilter memberRequestFilter) {
             this.memberRequestFilter = memberRequestFilter;
             return this;
@@ -212,7 +319,7 @@ public final class DiscordConfig {
 
         @Override
         public @NotNull DiscordConfig build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new DiscordConfig(
                 this.token.orElseThrow(),
@@ -227,7 +334,17 @@ public final class DiscordConfig {
                 this.intents,
                 this.clientPresence,
                 this.memberRequestFilter,
-                this.logLevel
+                this.logLevel,
+                Math.max(1, this.maxResponses),
+                Math.max(1, this.maxResponseBytes),
+                Math.max(1, this.maxResponsesPerUser),
+                Math.max(1, this.maxResponsesPerChannel),
+                this.responseColdAfter,
+                this.itemParallelism,
+                this.itemParallelThreshold,
+                this.emojiManifest,
+                Math.max(1, this.emojiSyncConcurrency),
+                this.commandManifest
             );
         }
 
@@ -2,12 +2,14 @@ package dev.sbs.discordapi.handler;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.api.collection.concurrent.ConcurrentMap;
 import dev.sbs.api.collection.concurrent.ConcurrentSet;
 import dev.sbs.api.math.Range;
 import dev.sbs.api.reflection.info.ResourceInfo;
 import dev.sbs.discordapi.DiscordBot;
 import dev.sbs.discordapi.response.Emoji;
 import dev.sbs.discordapi.util.DiscordReference;
+import dev.sbs.discordapi.util.EmojiIndex;
 import discord4j.core.object.entity.ApplicationEmoji;
 import discord4j.core.object.entity.ApplicationInfo;
 import discord4j.core.spec.ApplicationEmojiCreateSpec;
@@ -19,14 +21,13 @@ import lombok.extern.log4j.Log4j2;
 import org.jetbrains.annotations.NotNull;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-
-import java.util.function.Function;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Handler for custom application emojis, managing the discovery of
  * classpath-based emoji resources, uploading new emojis to the Discord
- * application, and caching the current set of registered emojis for
- * lookup by name.
+ * application, and caching the current set of registered emojis in an
+ * {@link EmojiIndex} for lookup by name.
  *
  * @see ResourceEmoji
  * @see Emoji
@@ -41,12 +42,17 @@ public final class EmojiHandler extends DiscordReference {
     /** Emoji resources discovered from the classpath at construction time. */
     private final @NotNull ConcurrentSet<ResourceEmoji> resourceEmojis;
 
-    /** Cached list of emojis currently registered with the Discord application. */
-    private @NotNull ConcurrentList<Emoji> emojis = Concurrent.newList();
+    /** Content hashes and ids of the uploaded emojis, persisted between runs. */
+    @Getter(AccessLevel.NONE)
+    private final @NotNull EmojiManifest manifest;
+
+    /** Case-insensitive index of the emojis currently registered with the Discord application. */
+    private volatile @NotNull EmojiIndex index;
 
     /**
      * Constructs a new {@code EmojiHandler} and resolves classpath emoji
-     * resources from the bot's {@link DiscordBot#getConfig() configuration}.
+     * resources from the bot's {@link DiscordBot#getConfig() configuration},
+     * populating the emoji cache from the last saved {@link EmojiManifest}.
      *
      * @param discordBot the bot this handler belongs to
      */
@@ -59,10 +65,24 @@ public final class EmojiHandler extends DiscordReference {
             .stream()
             .map(ResourceEmoji::new)
             .collect(Concurrent.toUnmodifiableSet());
+
+        // Populate the cache before the first sync
+        this.manifest = EmojiManifest.load(this.getDiscordBot().getConfig().getEmojiManifest());
+        this.index = EmojiIndex.of(this.manifest.getEmojis());
     }
 
     /**
-     * Deletes all emojis currently registered with the Discord application.
+     * Cached list of emojis currently registered with the Discord application.
+     *
+     * @return the registered emojis
+     */
+    public @NotNull ConcurrentList<Emoji> getEmojis() {
+        return this.index.getEmojis();
+    }
+
+    /**
+     * Deletes all emojis currently registered with the Discord application,
+     * and clears the emoji cache and manifest.
      *
      * @return a mono that completes when all emojis have been deleted
      */
@@ -72,75 +92,158 @@ public final class EmojiHandler extends DiscordReference {
             .getApplicationInfo()
             .flatMapMany(ApplicationInfo::getEmojis)
             .flatMap(ApplicationEmoji::delete)
+            .then(Mono.fromRunnable(() -> {
+                this.index = EmojiIndex.empty();
+                this.manifest.clear(this.getDiscordBot().getClientId().asLong());
+            }).subscribeOn(Schedulers.boundedElastic()))
             .then();
     }
 
     /**
      * Synchronizes application emojis in a single reactor chain - purges
-     * orphaned emojis not backed by a classpath resource, uploads missing
-     * resource emojis, and refreshes the local cache using one
+     * orphaned emojis not backed by a classpath resource, replaces emojis
+     * whose resource changed since it was uploaded, uploads missing resource
+     * emojis, and refreshes the local cache and manifest using one
      * {@link ApplicationInfo} fetch.
      *
+     * <p>
+     * Synchronization is skipped entirely when the {@link EmojiManifest manifest}
+     * already records the current content of every resource emoji for this
+     * application. The registered emojis are not fetched in that case, so
+     * emojis deleted from the application outside of this handler are only
+     * restored by a {@link #sync(boolean) forced} synchronization. Registered
+     * emojis the manifest does not record, such as those uploaded before the
+     * manifest existed, are replaced, as the content they were uploaded from
+     * is unknown. Deletions and uploads run with the
+     * {@link DiscordConfig#getEmojiSyncConcurrency() configured concurrency}.
+     *
      * @return a mono that completes when synchronization is finished
      */
     public @NotNull Mono<Void> sync() {
-        return this.getDiscordBot()
-            .getGateway()
-            .getApplicationInfo()
-            .flatMap(applicationInfo -> applicationInfo.getEmojis()
-                .collectList()
-                .flatMap(registeredEmojis -> {
-                    log.info("Registering Emojis");
-
-                    // Purge: delete registered emojis with no matching resource
-                    Flux<Void> purge = Flux.fromIterable(registeredEmojis)
-                        .filter(appEmoji -> this.resourceEmojis.stream()
-                            .noneMatch(res -> res.getName().equalsIgnoreCase(appEmoji.getName()))
-                        )
-                        .flatMap(ApplicationEmoji::delete);
-
-                    // Upload: create resource emojis not yet registered
-                    Flux<?> upload = Flux.fromStream(
-                        this.resourceEmojis.stream()
-                            .filter(resourceEmoji -> {
-                                if (!EMOJI_NAME_LENGTH.contains(resourceEmoji.getName().length())) {
-                                    log.warn(
-                                        "Skipping emoji '{}' - name length {} is outside valid range {}",
-                                        resourceEmoji.getName(),
-                                        resourceEmoji.getName().length(),
-                                        EMOJI_NAME_LENGTH
-                                    );
-                                    return false;
-                                }
-
-                                return true;
+        return this.sync(false);
+    }
+
+    /**
+     * Synchronizes application emojis, as {@link #sync()} does.
+     *
+     * @param force true to fetch and reconcile the registered emojis even if the manifest is up to date
+     * @return a mono that completes when synchronization is finished
+     */
+    public @NotNull Mono<Void> sync(boolean force) {
+        int concurrency = this.getDiscordBot().getConfig().getEmojiSyncConcurrency();
+        long applicationId = this.getDiscordBot().getClientId().asLong();
+
+        return Mono.fromRunnable(() -> this.resetIfForeign(applicationId))
+            .then(Mono.fromCallable(this::getResourceHashes))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(hashes -> {
+                if (!force && this.manifest.matches(hashes)) {
+                    log.info("Emojis Up To Date");
+                    return Mono.empty();
+                }
+
+                return this.getDiscordBot()
+                    .getGateway()
+                    .getApplicationInfo()
+                    .flatMap(applicationInfo -> applicationInfo.getEmojis()
+                        .collectList()
+                        .flatMap(registeredEmojis -> {
+                            log.info("Registering Emojis");
+
+                            // Purge: delete registered emojis with no matching or a changed resource
+                            Flux<Void> purge = Flux.fromIterable(registeredEmojis)
+                                .filter(appEmoji -> this.isStale(appEmoji.getName(), hashes))
+                                .flatMap(ApplicationEmoji::delete, concurrency);
+
+                            // Upload: create resource emojis not yet registered or replaced
+                            Flux<?> upload = Flux.fromIterable(this.resourceEmojis)
+                                .filter(resourceEmoji -> hashes.containsKey(resourceEmoji.getName()))
+                                .filter(resourceEmoji -> registeredEmojis.stream()
+                                    .noneMatch(appEmoji -> appEmoji.getName().equalsIgnoreCase(resourceEmoji.getName()) && !this.isStale(appEmoji.getName(), hashes))
+                                )
+                                .flatMap(resourceEmoji -> applicationInfo.createEmoji(
+                                    ApplicationEmojiCreateSpec.builder()
+                                        .name(resourceEmoji.getName())
+                                        .image(Image.ofRaw(
+                                            resourceEmoji.getResourceInfo().toBytes(),
+                                            resourceEmoji.getFormat()
+                                        ))
+                                        .build()
+                                ), concurrency);
+
+                            return purge.thenMany(upload)
+                                .then()
+                                .doOnSuccess(__ -> log.info("Emojis Registered"));
+                        })
+                        // Reload: refresh cache and manifest from final application state
+                        .then(applicationInfo.getEmojis()
+                            .map(Emoji::of)
+                            .collectList()
+                            .publishOn(Schedulers.boundedElastic())
+                            .doOnNext(list -> {
+                                ConcurrentList<Emoji> emojis = list.stream().collect(Concurrent.toUnmodifiableList());
+                                this.index = EmojiIndex.of(emojis);
+                                this.manifest.save(applicationId, emojis, hashes);
                             })
-                            .filter(resourceEmoji -> registeredEmojis.stream()
-                                .noneMatch(appEmoji -> appEmoji.getName().equalsIgnoreCase(resourceEmoji.getName()))
-                            )
-                            .map(resourceEmoji -> ApplicationEmojiCreateSpec.builder()
-                                .name(resourceEmoji.getName())
-                                .image(Image.ofRaw(
-                                    resourceEmoji.getResourceInfo().toBytes(),
-                                    resourceEmoji.getFormat()
-                                ))
-                                .build())
-                            .map(applicationInfo::createEmoji)
+                            .then()
                         )
-                        .flatMap(Function.identity());
-
-                    return purge.thenMany(upload)
-                        .then()
-                        .doOnSuccess(__ -> log.info("Emojis Registered"));
-                })
-                // Reload: refresh cache from final application state
-                .then(applicationInfo.getEmojis()
-                    .map(Emoji::of)
-                    .collectList()
-                    .doOnNext(list -> this.emojis = list.stream().collect(Concurrent.toUnmodifiableList()))
-                    .then()
-                )
-            );
+                    );
+            });
+    }
+
+    /**
+     * Hashes the content of every resource emoji with a valid name.
+     *
+     * @return the resource hashes by emoji name
+     */
+    private @NotNull ConcurrentMap<String, String> getResourceHashes() {
+        ConcurrentMap<String, String> hashes = Concurrent.newMap();
+
+        this.resourceEmojis.forEach(resourceEmoji -> {
+            if (!EMOJI_NAME_LENGTH.contains(resourceEmoji.getName().length())) {
+                log.warn(
+                    "Skipping emoji '{}' - name length {} is outside valid range {}",
+                    resourceEmoji.getName(),
+                    resourceEmoji.getName().length(),
+                    EMOJI_NAME_LENGTH
+                );
+                return;
+            }
+
+            hashes.put(resourceEmoji.getName(), ManifestFile.hash(resourceEmoji.getResourceInfo().toBytes()));
+        });
+
+        return hashes;
+    }
+
+    /**
+     * Forgets the manifest and cached emojis if they were recorded for
+     * another application, as their ids are unknown to this one.
+     *
+     * @param applicationId the current application id
+     */
+    private void resetIfForeign(long applicationId) {
+        if (this.manifest.resetIfForeign(applicationId))
+            this.index = EmojiIndex.empty();
+    }
+
+    /**
+     * Checks if a registered emoji has no matching resource, or its resource
+     * changed since it was recorded in the manifest. Registered emojis missing
+     * from the manifest are replaced, so only emojis uploaded from the current
+     * resource content are recorded.
+     *
+     * @param name the registered emoji name
+     * @param hashes the current resource hashes by emoji name
+     * @return true if the registered emoji should be deleted
+     */
+    private boolean isStale(@NotNull String name, @NotNull ConcurrentMap<String, String> hashes) {
+        return hashes.entrySet()
+            .stream()
+            .filter(hash -> hash.getKey().equalsIgnoreCase(name))
+            .findFirst()
+            .map(hash -> this.manifest.getHash(hash.getKey()).map(recorded -> !recorded.equals(hash.getValue())).orElse(true))
+            .orElse(true);
     }
 
     /**
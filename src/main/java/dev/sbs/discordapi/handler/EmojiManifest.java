@@ -0,0 +1,196 @@
+package dev.sbs.discordapi.handler;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.api.collection.concurrent.ConcurrentMap;
+import dev.sbs.discordapi.response.Emoji;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Local manifest of the application emojis uploaded by the {@link EmojiHandler}.
+ *
+ * <p>
+ * Maps every emoji name to the content hash of the classpath resource it was
+ * uploaded from and the id of its application emoji, stored as a properties
+ * file of {@code NAME=hash:id:animated} entries next to the id of the
+ * application they were uploaded to. The manifest lets the emoji cache be
+ * populated without a REST request, synchronization be skipped when no
+ * resource changed, and changed resources be replaced.
+ *
+ * <p>
+ * Missing, unreadable or malformed manifests are treated as empty, as are
+ * manifests recorded for another application.
+ */
+final class EmojiManifest {
+
+    /** Key of the application id, never a valid emoji name. */
+    private static final @NotNull String APPLICATION_KEY = "application.id";
+
+    private final @NotNull ManifestFile file;
+    private volatile long applicationId;
+    private volatile @NotNull ConcurrentMap<String, Entry> entries;
+
+    private EmojiManifest(@NotNull ManifestFile file, long applicationId, @NotNull ConcurrentMap<String, Entry> entries) {
+        this.file = file;
+        this.applicationId = applicationId;
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the manifest stored at the given path.
+     *
+     * @param path the manifest file, or empty to keep the manifest in memory only
+     * @return the loaded manifest
+     */
+    public static @NotNull EmojiManifest load(@NotNull Optional<Path> path) {
+        ManifestFile file = new ManifestFile(path, "emoji");
+        Properties properties = file.load();
+        ConcurrentMap<String, Entry> entries = Concurrent.newMap();
+        long applicationId;
+
+        try {
+            applicationId = Long.parseLong(properties.getProperty(APPLICATION_KEY, "0"));
+        } catch (NumberFormatException exception) {
+            // Unknown application, treated as foreign on the next sync
+            applicationId = 0;
+        }
+
+        properties.stringPropertyNames()
+            .stream()
+            .filter(name -> !name.equals(APPLICATION_KEY))
+            .forEach(name -> Entry.parse(properties.getProperty(name)).ifPresent(entry -> entries.put(name, entry)));
+
+        return new EmojiManifest(file, applicationId, entries);
+    }
+
+    /**
+     * Clears every recorded emoji of the given application, and stores the manifest.
+     *
+     * @param applicationId the application the emojis were deleted from
+     */
+    public void clear(long applicationId) {
+        this.applicationId = applicationId;
+        this.entries = Concurrent.newMap();
+        this.store();
+    }
+
+    /**
+     * The application emojis recorded in the manifest.
+     *
+     * @return the recorded emojis
+     */
+    public @NotNull ConcurrentList<Emoji> getEmojis() {
+        return this.entries.entrySet()
+            .stream()
+            .map(entry -> Emoji.of(entry.getValue().getId(), entry.getKey(), entry.getValue().isAnimated()))
+            .collect(Concurrent.toUnmodifiableList());
+    }
+
+    /**
+     * The content hash the given emoji was uploaded from.
+     *
+     * @param name the emoji name
+     * @return the recorded hash, or empty if the emoji is not recorded
+     */
+    public @NotNull Optional<String> getHash(@NotNull String name) {
+        return Optional.ofNullable(this.entries.get(name)).map(Entry::getHash);
+    }
+
+    /**
+     * Forgets every recorded emoji if the manifest was recorded for another application.
+     *
+     * @param applicationId the current application id
+     * @return true if the recorded emojis were forgotten
+     */
+    public boolean resetIfForeign(long applicationId) {
+        if (this.applicationId == applicationId)
+            return false;
+
+        this.applicationId = applicationId;
+        this.entries = Concurrent.newMap();
+        return true;
+    }
+
+    /**
+     * Checks if the manifest records exactly the given resource hashes.
+     *
+     * <p>
+     * Only the local record is compared, emojis deleted from the application
+     * since they were recorded still match.
+     *
+     * @param hashes the current resource hashes by emoji name
+     * @return true if no resource was added, removed or changed
+     */
+    public boolean matches(@NotNull Map<String, String> hashes) {
+        ConcurrentMap<String, Entry> entries = this.entries;
+
+        return !entries.isEmpty()
+            && entries.size() == hashes.size()
+            && hashes.entrySet()
+                .stream()
+                .allMatch(hash -> this.getHash(hash.getKey()).map(hash.getValue()::equals).orElse(false));
+    }
+
+    /**
+     * Records the given application emojis, and stores the manifest.
+     *
+     * @param applicationId the application the emojis are registered to
+     * @param emojis the registered application emojis
+     * @param hashes the current resource hashes by emoji name
+     */
+    public void save(long applicationId, @NotNull ConcurrentList<Emoji> emojis, @NotNull Map<String, String> hashes) {
+        ConcurrentMap<String, Entry> entries = Concurrent.newMap();
+
+        emojis.forEach(emoji -> Optional.ofNullable(hashes.get(emoji.getName()))
+            .ifPresent(hash -> entries.put(emoji.getName(), new Entry(hash, emoji.getId().asLong(), emoji.isAnimated())))
+        );
+
+        this.applicationId = applicationId;
+        this.entries = entries;
+        this.store();
+    }
+
+    private synchronized void store() {
+        Properties properties = new Properties();
+        properties.setProperty(APPLICATION_KEY, String.valueOf(this.applicationId));
+        this.entries.forEach((name, entry) -> properties.setProperty(name, entry.toString()));
+        this.file.store(properties);
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Entry {
+
+        private final @NotNull String hash;
+        private final long id;
+        private final boolean animated;
+
+        private static @NotNull Optional<Entry> parse(@NotNull String value) {
+            String[] parts = value.split(":");
+
+            if (parts.length != 3)
+                return Optional.empty();
+
+            try {
+                return Optional.of(new Entry(parts[0], Long.parseLong(parts[1]), Boolean.parseBoolean(parts[2])));
+            } catch (NumberFormatException exception) {
+                return Optional.empty();
+            }
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return String.format("%s:%s:%s", this.hash, this.id, this.animated);
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package dev.sbs.discordapi.handler;
+
+import dev.sbs.api.util.StringUtil;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Properties file backing the {@link EmojiManifest} and {@link CommandManifest}.
+ *
+ * <p>
+ * Missing, unreadable or malformed files are read as empty, and files are
+ * written to a temporary sibling first and then moved into place, so an
+ * interrupted write never leaves a truncated manifest behind.
+ */
+@Log4j2
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+final class ManifestFile {
+
+    private final @NotNull Optional<Path> path;
+    private final @NotNull String name;
+
+    /**
+     * Hashes the given content.
+     *
+     * @param bytes the content to hash
+     * @return the hex encoded SHA-256 hash
+     */
+    public static @NotNull String hash(byte @NotNull [] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Reads the stored properties.
+     *
+     * @return the stored properties, empty if the file is missing, unreadable or malformed
+     */
+    public @NotNull Properties load() {
+        Properties properties = new Properties();
+
+        this.path.filter(Files::isRegularFile).ifPresent(file -> {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException | IllegalArgumentException exception) {
+                log.warn("Unable to read {} manifest '{}'", this.name, file, exception);
+                properties.clear();
+            }
+        });
+
+        return properties;
+    }
+
+    /**
+     * Replaces the stored properties, unless the manifest is kept in memory only.
+     *
+     * @param properties the properties to store
+     */
+    public void store(@NotNull Properties properties) {
+        this.path.ifPresent(file -> {
+            try {
+                Path parent = file.toAbsolutePath().getParent();
+
+                if (parent != null)
+                    Files.createDirectories(parent);
+
+                Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+                try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                    properties.store(writer, String.format("Application %s Manifest", StringUtil.capitalizeFully(this.name)));
+                }
+
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException exception) {
+                log.warn("Unable to write {} manifest '{}'", this.name, file, exception);
+            }
+        });
+    }
+
+}
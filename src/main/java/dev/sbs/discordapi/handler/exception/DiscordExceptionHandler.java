@@ -427,7 +427,7 @@ public final class DiscordExceptionHandler extends ExceptionHandler {
                         else
                             messageId = this.getDiscordBot()
                                 .getResponseHandler()
-                                .findFirst(entry -> entry.getResponse().getUniqueId(), userErrorResponse.getUniqueId())
+                                .findByUniqueId(userErrorResponse.getUniqueId())
                                 .map(CachedResponse::getMessageId);
 
                         // Build Exception Response
@@ -446,7 +446,7 @@ public final class DiscordExceptionHandler extends ExceptionHandler {
                             .flatMap(logResponse::getD4jCreateMono)
                             .doOnNext(__ -> messageId.ifPresent(id -> this.getDiscordBot()
                                 .getResponseHandler()
-                                .removeIf(entry -> entry.getMessageId().equals(id))
+                                .removeByMessageId(id)
                             ))
                             .then(Mono.empty());
                     })
@@ -3,17 +3,20 @@ package dev.sbs.discordapi.handler.response;
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
 import dev.sbs.api.collection.concurrent.ConcurrentMap;
+import dev.sbs.api.collection.concurrent.ConcurrentSet;
 import dev.sbs.discordapi.component.interaction.Modal;
 import dev.sbs.discordapi.response.Response;
 import discord4j.common.util.Snowflake;
 import discord4j.core.object.entity.User;
 import discord4j.discordjson.Id;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import reactor.core.publisher.Mono;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Cached entry for a primary {@link Response} message, tracking its
@@ -33,6 +36,10 @@ import java.util.Optional;
 @Getter
 public final class CachedResponse implements ResponseEntry {
 
+    /** Handler whose indexes must track this entry's followups and response id. */
+    @Getter(AccessLevel.NONE)
+    private final @NotNull ResponseHandler responseHandler;
+
     /** Discord channel snowflake where the response message resides. */
     private final @NotNull Snowflake channelId;
 
@@ -42,11 +49,15 @@ public final class CachedResponse implements ResponseEntry {
     /** Discord message snowflake of the response message. */
     private final @NotNull Snowflake messageId;
 
+    /** Handler-assigned sequence number distinguishing this entry from others cached under the same message id. */
+    @Getter(AccessLevel.PACKAGE)
+    private final long generation;
+
     /** Current (possibly updated) response state. */
-    private @NotNull Response response;
+    private volatile @NotNull Response response;
 
     /** Snapshot of the response state as last sent to Discord. */
-    private @NotNull Response currentResponse;
+    private volatile @NotNull Response currentResponse;
 
     /** Followup messages associated with this cached response. */
     private final @NotNull ConcurrentList<ResponseFollowup> followups = Concurrent.newList();
@@ -55,30 +66,92 @@ public final class CachedResponse implements ResponseEntry {
     private final @NotNull ConcurrentMap<Snowflake, Modal> activeModals = Concurrent.newMap();
 
     /** Epoch millisecond timestamp of the most recent user interaction. */
-    private long lastInteract = System.currentTimeMillis();
+    private volatile long lastInteract = System.currentTimeMillis();
+
+    /** Epoch millisecond timestamp at which this response expires unless re-armed. */
+    private long expiresAt;
+
+    /** Estimated retained size of the current response, in bytes. */
+    private long estimatedSize;
+
+    /** Fingerprint of the render last successfully sent to Discord. */
+    private long sentFingerprint;
 
     /** Whether this response is currently being processed. */
-    private boolean busy;
+    private volatile boolean busy;
+
+    /** Interactions on this response whose reply has been deferred and that are still being handled. */
+    @Getter(AccessLevel.NONE)
+    private final @NotNull ConcurrentSet<Snowflake> deferredInteractions = Concurrent.newSet();
 
-    /** Whether this response's reply has been deferred. */
-    private boolean deferred;
+    /** Whether this response has been demoted to the cold tier and holds no render caches. */
+    private volatile boolean cold;
+
+    /** Whether a coalesced edit is waiting for its window to close. */
+    private volatile boolean editPending;
 
     /**
      * Constructs a new {@code CachedResponse} in the busy, non-deferred state.
      *
+     * @param responseHandler the handler indexing this entry
      * @param channelId the Discord channel snowflake
      * @param userId the user snowflake
      * @param messageId the message snowflake
+     * @param generation the handler-assigned sequence number
      * @param response the response to cache
      */
-    public CachedResponse(@NotNull Snowflake channelId, @NotNull Snowflake userId, @NotNull Snowflake messageId, @NotNull Response response) {
+    CachedResponse(@NotNull ResponseHandler responseHandler, @NotNull Snowflake channelId, @NotNull Snowflake userId, @NotNull Snowflake messageId, long generation, @NotNull Response response) {
+        this.responseHandler = responseHandler;
         this.channelId = channelId;
         this.userId = userId;
         this.messageId = messageId;
+        this.generation = generation;
         this.response = response;
         this.currentResponse = response;
         this.busy = true;
-        this.deferred = false;
+    }
+
+    /**
+     * Computes a new expiry deadline of {@link Response#getTimeToLive()} seconds
+     * from the given time and schedules it with the {@link ResponseHandler},
+     * superseding any previously scheduled deadline.
+     *
+     * @param from the epoch millisecond timestamp the time-to-live is counted from
+     */
+    void armExpiry(long from) {
+        this.expiresAt = from + (this.getResponse().getTimeToLive() * 1000L);
+        this.responseHandler.scheduleExpiry(this);
+    }
+
+    /**
+     * Demotes this response to the cold tier by releasing the render caches
+     * of its current and last sent response state.
+     *
+     * <p>
+     * Busy responses and responses with a pending coalesced edit are left
+     * untouched; the caches are rebuilt on the next interaction. Demotion
+     * holds the same lock as {@link #setBusy()}, so an interaction never
+     * renders from caches that are being released.
+     */
+    synchronized void demote() {
+        if (this.busy || this.cold || this.editPending)
+            return;
+
+        this.response.releaseCache();
+
+        if (this.currentResponse != this.response)
+            this.currentResponse.releaseCache();
+
+        this.cold = true;
+    }
+
+    /**
+     * Sets the estimated retained size of the current response.
+     *
+     * @param estimatedSize the estimated size in bytes
+     */
+    void setEstimatedSize(long estimatedSize) {
+        this.estimatedSize = estimatedSize;
     }
 
     /**
@@ -95,6 +168,7 @@ public final class CachedResponse implements ResponseEntry {
     public Mono<ResponseFollowup> addFollowup(@NotNull String identifier, @NotNull Snowflake channelId, @NotNull Snowflake userId, @NotNull Snowflake messageId, @NotNull Response response) {
         ResponseFollowup responseFollowup = new ResponseFollowup(identifier, channelId, userId, messageId, response);
         this.followups.add(responseFollowup);
+        this.responseHandler.indexFollowup(this, responseFollowup);
         return Mono.just(responseFollowup);
     }
 
@@ -150,7 +224,10 @@ public final class CachedResponse implements ResponseEntry {
      * @param identifier the followup identifier to remove
      */
     public void removeFollowup(@NotNull String identifier) {
-        this.followups.removeIf(followup -> followup.getIdentifier().equals(identifier));
+        this.findFollowup(identifier).ifPresent(followup -> {
+            this.followups.remove(followup);
+            this.responseHandler.unindexFollowup(followup);
+        });
     }
 
     /**
@@ -223,6 +300,28 @@ public final class CachedResponse implements ResponseEntry {
         return this.getUserId().asLong() == userId.asLong() && (this.getMessageId().equals(messageId) || this.containsFollowup(messageId));
     }
 
+    /**
+     * Opens a coalesced edit window unless one is already pending.
+     *
+     * @return {@code true} if the caller opened the window and must send the edit
+     */
+    public synchronized boolean beginCoalescedEdit() {
+        if (this.editPending)
+            return false;
+
+        this.editPending = true;
+        return true;
+    }
+
+    /**
+     * Closes the pending coalesced edit window, so the next edit opens a new one,
+     * and marks this response busy until the edit has been sent.
+     */
+    public synchronized void endCoalescedEdit() {
+        this.editPending = false;
+        this.busy = true;
+    }
+
     /**
      * Checks whether this response is currently busy or has not yet
      * exceeded its time-to-live since the last interaction.
@@ -232,7 +331,7 @@ public final class CachedResponse implements ResponseEntry {
      * @see Response#getTimeToLive()
      */
     public boolean isActive() {
-        return this.isBusy() || System.currentTimeMillis() < this.getLastInteract() + (this.getResponse().getTimeToLive() * 1000L);
+        return this.isBusy() || System.currentTimeMillis() < this.getExpiresAt();
     }
 
     @Override
@@ -251,18 +350,28 @@ public final class CachedResponse implements ResponseEntry {
 
     /**
      * Marks this response as busy, preventing it from being removed
-     * from the {@link ResponseHandler}.
+     * from the {@link ResponseHandler} or demoted.
+     *
+     * <p>
+     * Waits for a demotion in progress to finish releasing its caches.
      */
-    public void setBusy() {
+    public synchronized void setBusy() {
         this.busy = true;
     }
 
     /**
-     * Marks this response as deferred, indicating that the initial reply
+     * Marks the given interaction as deferred, indicating that its reply
      * acknowledgment has been sent to Discord.
+     *
+     * @param interactionId the deferred interaction
      */
-    public void setDeferred() {
-        this.deferred = true;
+    public void setDeferred(@NotNull Snowflake interactionId) {
+        this.deferredInteractions.add(interactionId);
+    }
+
+    @Override
+    public void setSentFingerprint(long fingerprint) {
+        this.sentFingerprint = fingerprint;
     }
 
     /**
@@ -275,20 +384,61 @@ public final class CachedResponse implements ResponseEntry {
         this.activeModals.put(user.getId(), modal);
     }
 
+    /**
+     * Whether any interaction on this response is deferred and still being handled.
+     *
+     * @return {@code true} if an interaction reply has been deferred
+     */
+    public boolean isDeferred() {
+        return !this.deferredInteractions.isEmpty();
+    }
+
+    /**
+     * Whether the given interaction has been deferred.
+     *
+     * <p>
+     * Acknowledgement is tracked per interaction, so every interaction of a
+     * burst, such as those {@link Response#getEditCoalescingWindow() coalesced}
+     * into a single edit, is acknowledged on its own.
+     *
+     * @param interactionId the interaction to check
+     * @return {@code true} if the interaction reply has been deferred
+     */
+    public boolean isDeferred(@NotNull Snowflake interactionId) {
+        return this.deferredInteractions.contains(interactionId);
+    }
+
+    /**
+     * Completes the handling of the given interaction, clearing its deferred
+     * state, and {@link #updateLastInteract() records the interaction}.
+     *
+     * @param interactionId the handled interaction
+     * @return a mono emitting this cached response after the update
+     */
+    public Mono<CachedResponse> updateLastInteract(@NotNull Snowflake interactionId) {
+        return Mono.fromRunnable(() -> this.deferredInteractions.remove(interactionId))
+            .then(this.updateLastInteract());
+    }
+
     /**
      * Records the current time as the last interaction, synchronizes the
-     * rendered snapshot, and clears the busy and deferred flags so the
-     * response becomes eligible for expiration.
+     * rendered snapshot, clears the busy flag and re-arms the
+     * expiry deadline so the response becomes eligible for expiration.
      *
      * @return a mono emitting this cached response after the update
      */
     public Mono<CachedResponse> updateLastInteract() {
         return Mono.fromRunnable(() -> {
-            this.currentResponse = this.response;
-            this.response.setNoCacheUpdateRequired();
-            this.lastInteract = System.currentTimeMillis();
-            this.busy = false;
-            this.deferred = false;
+            synchronized (this) {
+                this.currentResponse = this.response;
+                this.response.setNoCacheUpdateRequired();
+                this.lastInteract = System.currentTimeMillis();
+                this.busy = false;
+                this.cold = false;
+            }
+
+            this.armExpiry(this.lastInteract);
+            this.responseHandler.touch(this);
         });
     }
 
@@ -299,7 +449,16 @@ public final class CachedResponse implements ResponseEntry {
      * @return a mono emitting this cached response
      */
     public Mono<CachedResponse> updateResponse(@NotNull Response response) {
-        this.response = response;
+        UUID previousId;
+
+        synchronized (this) {
+            previousId = this.response.getUniqueId();
+            this.response = response;
+            this.cold = false;
+        }
+
+        this.responseHandler.onResponseUpdated(this, previousId);
+
         return Mono.just(this);
     }
 
@@ -3,6 +3,7 @@ package dev.sbs.discordapi.handler.response;
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
 import dev.sbs.discordapi.response.Emoji;
+import dev.sbs.discordapi.response.RenderedResponse;
 import dev.sbs.discordapi.response.Response;
 import discord4j.common.util.Snowflake;
 import discord4j.core.object.entity.Message;
@@ -40,20 +41,43 @@ public interface ResponseEntry {
     /** Snapshot of the response state as last sent to Discord. */
     @NotNull Response getCurrentResponse();
 
+    /** Fingerprint of the render last successfully sent to Discord, or {@code 0} if none is known. */
+    long getSentFingerprint();
+
     /** Whether this entry represents a followup message. */
     boolean isFollowup();
 
     /**
-     * Checks whether the current response state differs from the
-     * last-rendered snapshot, or the response has flagged itself
-     * as requiring a cache update.
+     * Checks whether sending the given response would produce exactly the
+     * payload last successfully sent to Discord for this entry.
+     *
+     * @param response the response about to be sent
+     * @return {@code true} if the message would not change
+     * @see RenderedResponse#matches(long)
+     */
+    default boolean isUnchanged(@NotNull Response response) {
+        return response.render().matches(this.getSentFingerprint());
+    }
+
+    /**
+     * Checks whether the response has been replaced since the last-rendered
+     * snapshot, or its {@link Response#getVersion() version stamp} has advanced
+     * since it was last rendered.
      *
      * @return {@code true} if the response has been modified since last render
      */
     default boolean isModified() {
-        return !this.getCurrentResponse().equals(this.getResponse()) || this.getResponse().isCacheUpdateRequired();
+        return this.getCurrentResponse() != this.getResponse() || this.getResponse().isModified();
     }
 
+    /**
+     * Records the {@link RenderedResponse#getFingerprint() fingerprint} of the
+     * render that was successfully sent to Discord.
+     *
+     * @param fingerprint the fingerprint of the sent render
+     */
+    void setSentFingerprint(long fingerprint);
+
     /**
      * Updates the attachment references on this entry's response from
      * the given Discord message.
@@ -37,6 +37,9 @@ public class ResponseFollowup implements ResponseEntry {
     /** Unique string identifier for this followup within its parent response. */
     private final @NotNull String identifier;
 
+    /** Fingerprint of the render last successfully sent to Discord. */
+    private long sentFingerprint;
+
     /**
      * Constructs a new {@code Followup} with the given identifier and
      * Discord coordinates.
@@ -81,6 +84,11 @@ public class ResponseFollowup implements ResponseEntry {
         return true;
     }
 
+    @Override
+    public void setSentFingerprint(long fingerprint) {
+        this.sentFingerprint = fingerprint;
+    }
+
     /**
      * Replaces this entry's response with the given updated response.
      *
@@ -1,26 +1,147 @@
 package dev.sbs.discordapi.handler.response;
 
+import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.api.collection.concurrent.ConcurrentMap;
+import dev.sbs.api.collection.concurrent.ConcurrentSet;
+import dev.sbs.discordapi.DiscordBot;
+import dev.sbs.discordapi.handler.DiscordConfig;
 import dev.sbs.discordapi.response.Response;
+import dev.sbs.discordapi.response.page.Page;
+import dev.sbs.discordapi.response.page.Subpages;
+import dev.sbs.discordapi.util.DiscordReference;
 import discord4j.common.util.Snowflake;
+import discord4j.core.object.entity.channel.MessageChannel;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Thread-safe registry of active {@link CachedResponse} instances backed
- * by a {@link ConcurrentList}.
+ * by hash indexes.
  *
  * <p>
  * Each cached entry associates a {@link Response} with its Discord
  * channel, user, and message {@link Snowflake} identifiers so that
  * component interactions and scheduled updates can locate and modify
  * the correct response.
+ *
+ * <p>
+ * Entries are keyed by their primary message id and additionally indexed by
+ * {@link Response#getUniqueId() response id}, {@link ResponseFollowup followup}
+ * message id, owning user id and channel id. The indexes are maintained on
+ * {@link #createAndGet add}, {@link #remove remove}, followup changes and
+ * response replacement, so every lookup is independent of the number of
+ * cached responses.
+ *
+ * <p>
+ * Expiry is driven by a deadline queue ordered by
+ * {@link CachedResponse#getExpiresAt()}. Every interaction re-arms its entry
+ * with a new deadline and superseded deadlines are discarded lazily, so
+ * {@link #pollExpired()} only touches entries that are actually due. Deadlines
+ * only hold the message id and generation of their entry, so the queue never
+ * keeps a removed response alive.
+ *
+ * <p>
+ * The cache is bounded by the budget configured in {@link DiscordConfig}:
+ * a maximum number of entries, a maximum estimated retained size, and a
+ * maximum number of responses per user and per channel. When a limit is
+ * exceeded the least recently interacted, non-busy responses are evicted
+ * and {@link #retire retired} exactly like expired ones.
+ *
+ * <p>
+ * Responses idle for longer than {@link DiscordConfig#getResponseColdAfter()}
+ * seconds are {@link #demoteIdle() demoted} to a cold tier: the response
+ * definition and navigation state are kept, while the filtered item lists,
+ * rendered fields and paging components derived from them are released and
+ * rebuilt on the next interaction.
  */
-public class ResponseHandler extends ConcurrentList<CachedResponse> {
+public class ResponseHandler extends DiscordReference implements Iterable<CachedResponse> {
+
+    /** Estimated fixed retained size of a response and its handlers. */
+    private static final long RESPONSE_BASE_SIZE = 4096;
+
+    /** Estimated retained size of a page excluding its components and items. */
+    private static final long PAGE_BASE_SIZE = 1024;
+
+    /** Estimated retained size of a single layout component. */
+    private static final long COMPONENT_SIZE = 512;
+
+    /** Estimated retained size of a single attachment reference. */
+    private static final long ATTACHMENT_SIZE = 256;
+
+    /** Estimated retained size of a single item held by an item handler. */
+    private static final long ITEM_SIZE = 96;
+
+    /** Cached responses keyed by their primary message id. */
+    private final @NotNull ConcurrentMap<Snowflake, CachedResponse> messageIndex = Concurrent.newMap();
+
+    /** Primary message ids keyed by followup message id. */
+    private final @NotNull ConcurrentMap<Snowflake, Snowflake> followupIndex = Concurrent.newMap();
+
+    /** Primary message ids keyed by {@link Response#getUniqueId()}. */
+    private final @NotNull ConcurrentMap<UUID, Snowflake> uniqueIdIndex = Concurrent.newMap();
+
+    /** Primary message ids keyed by the owning user id. */
+    private final @NotNull ConcurrentMap<Snowflake, ConcurrentSet<Snowflake>> userIndex = Concurrent.newMap();
+
+    /** Primary message ids keyed by channel id. */
+    private final @NotNull ConcurrentMap<Snowflake, ConcurrentSet<Snowflake>> channelIndex = Concurrent.newMap();
+
+    /** Scheduled expiry deadlines, earliest first, including superseded ones. */
+    private final @NotNull PriorityBlockingQueue<Deadline> deadlines = new PriorityBlockingQueue<>();
+
+    /** Scheduled cold tier demotion deadlines, earliest first, including superseded ones. */
+    private final @NotNull PriorityBlockingQueue<Deadline> demotions = new PriorityBlockingQueue<>();
+
+    /** Cached responses from least to most recently interacted, guarded by itself. */
+    private final @NotNull LinkedHashMap<Snowflake, CachedResponse> recency = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Sum of the estimated retained sizes of all cached responses. */
+    private final @NotNull AtomicLong estimatedSize = new AtomicLong();
+
+    /** Sequence of the generations assigned to newly cached responses. */
+    private final @NotNull AtomicLong generations = new AtomicLong();
+
+    /** Number of responses evicted to stay within budget. */
+    private final @NotNull AtomicLong evictionCount = new AtomicLong();
+
+    /** Number of responses removed after their time-to-live elapsed. */
+    private final @NotNull AtomicLong expirationCount = new AtomicLong();
+
+    /**
+     * Constructs a new {@code ResponseHandler} bounded by the budget in the
+     * bot's {@link DiscordBot#getConfig() configuration}.
+     *
+     * @param discordBot the bot this handler belongs to
+     */
+    public ResponseHandler(@NotNull DiscordBot discordBot) {
+        super(discordBot);
+    }
 
     /**
      * Creates a new {@link CachedResponse}, adds it to this handler, and
      * returns it.
      *
+     * <p>
+     * An entry already cached for the same message is removed from every
+     * index first. Per-user and per-channel limits are enforced before the
+     * entry is added, the global entry and size limits afterwards.
+     *
      * @param channelId the Discord channel snowflake of the response message
      * @param userId the snowflake of the user who owns the response
      * @param messageId the Discord message snowflake of the response
@@ -28,9 +149,491 @@ public class ResponseHandler extends ConcurrentList<CachedResponse> {
      * @return the newly created cached response entry
      */
     public CachedResponse createAndGet(@NotNull Snowflake channelId, @NotNull Snowflake userId, @NotNull Snowflake messageId, @NotNull Response response) {
-        CachedResponse entry = new CachedResponse(channelId, userId, messageId, response);
-        this.add(entry);
+        DiscordConfig config = this.getDiscordBot().getConfig();
+        this.removeByMessageId(messageId);
+        this.evictToLimit(this.userIndex, userId, config.getMaxResponsesPerUser());
+        this.evictToLimit(this.channelIndex, channelId, config.getMaxResponsesPerChannel());
+
+        CachedResponse entry = new CachedResponse(this, channelId, userId, messageId, this.generations.incrementAndGet(), response);
+        entry.setEstimatedSize(estimateSize(response));
+        this.messageIndex.put(messageId, entry);
+        this.uniqueIdIndex.put(response.getUniqueId(), messageId);
+        this.userIndex.computeIfAbsent(userId, __ -> Concurrent.newSet()).add(messageId);
+        this.channelIndex.computeIfAbsent(channelId, __ -> Concurrent.newSet()).add(messageId);
+        this.estimatedSize.addAndGet(entry.getEstimatedSize());
+        this.touch(entry);
+        entry.armExpiry(entry.getLastInteract());
+
+        this.evictToBudget(entry);
         return entry;
     }
 
+    /**
+     * Finds the cached response whose primary message or one of its followup
+     * messages has the given id.
+     *
+     * @param messageId the Discord message snowflake to look up
+     * @return the owning cached response, if any
+     */
+    public @NotNull Optional<CachedResponse> findByMessageId(@NotNull Snowflake messageId) {
+        return Optional.ofNullable(this.messageIndex.get(messageId))
+            .or(() -> Optional.ofNullable(this.followupIndex.get(messageId)).map(this.messageIndex::get));
+    }
+
+    /**
+     * Finds the cached response owning the followup message with the given id.
+     *
+     * @param messageId the Discord message snowflake of the followup
+     * @return the owning cached response, if any
+     */
+    public @NotNull Optional<CachedResponse> findByFollowupId(@NotNull Snowflake messageId) {
+        return Optional.ofNullable(this.followupIndex.get(messageId)).map(this.messageIndex::get);
+    }
+
+    /**
+     * Finds the cached response whose message or followup matches the given
+     * message id and is owned by the given user.
+     *
+     * @param messageId the Discord message snowflake to look up
+     * @param userId the snowflake of the interacting user
+     * @return the matching cached response, if any
+     */
+    public @NotNull Optional<CachedResponse> findByMessageId(@NotNull Snowflake messageId, @NotNull Snowflake userId) {
+        return this.findByMessageId(messageId).filter(entry -> entry.getUserId().equals(userId));
+    }
+
+    /**
+     * Finds the cached response whose current {@link Response} has the given
+     * unique id.
+     *
+     * @param uniqueId the response unique id
+     * @return the matching cached response, if any
+     */
+    public @NotNull Optional<CachedResponse> findByUniqueId(@NotNull UUID uniqueId) {
+        return Optional.ofNullable(this.uniqueIdIndex.get(uniqueId)).map(this.messageIndex::get);
+    }
+
+    /**
+     * Demotes every cached response that has been idle for longer than the
+     * configured {@link DiscordConfig#getResponseColdAfter() threshold} to
+     * the cold tier.
+     */
+    public void demoteIdle() {
+        long now = System.currentTimeMillis();
+        long coldAfter = this.getDiscordBot().getConfig().getResponseColdAfter() * 1000L;
+        Deadline deadline;
+
+        while ((deadline = this.demotions.peek()) != null && deadline.getTime() <= now) {
+            deadline = this.demotions.poll();
+
+            if (deadline == null)
+                break;
+
+            CachedResponse entry = this.resolveDeadline(deadline);
+
+            if (entry == null || deadline.getTime() != entry.getLastInteract() + coldAfter) // Removed or Superseded
+                continue;
+
+            entry.demote();
+        }
+    }
+
+    /**
+     * Returns all cached responses in the given channel.
+     *
+     * @param channelId the snowflake of the channel
+     * @return the channel's cached responses
+     */
+    public @NotNull ConcurrentList<CachedResponse> findByChannelId(@NotNull Snowflake channelId) {
+        return this.resolve(this.channelIndex, channelId);
+    }
+
+    /**
+     * Returns all cached responses owned by the given user.
+     *
+     * @param userId the snowflake of the owning user
+     * @return the user's cached responses
+     */
+    public @NotNull ConcurrentList<CachedResponse> findByUserId(@NotNull Snowflake userId) {
+        return this.resolve(this.userIndex, userId);
+    }
+
+    /** The sum of the estimated retained sizes, in bytes, of all cached responses. */
+    public long getEstimatedSize() {
+        return this.estimatedSize.get();
+    }
+
+    /** The number of responses evicted to stay within the configured budget. */
+    public long getEvictionCount() {
+        return this.evictionCount.get();
+    }
+
+    /** The number of responses removed after their time-to-live elapsed. */
+    public long getExpirationCount() {
+        return this.expirationCount.get();
+    }
+
+    /** Whether no responses are currently cached. */
+    public boolean isEmpty() {
+        return this.messageIndex.isEmpty();
+    }
+
+    @Override
+    public @NotNull Iterator<CachedResponse> iterator() {
+        return this.messageIndex.values().iterator();
+    }
+
+    /**
+     * Returns all cached responses matching the given predicate.
+     *
+     * @param predicate the predicate to test entries with
+     * @return the matching cached responses
+     */
+    public @NotNull ConcurrentList<CachedResponse> matchAll(@NotNull Predicate<CachedResponse> predicate) {
+        return this.stream()
+            .filter(predicate)
+            .collect(Concurrent.toList());
+    }
+
+    /**
+     * Removes and returns every cached response whose expiry deadline has
+     * passed.
+     *
+     * <p>
+     * Busy responses are not removed; their deadline is pushed back by another
+     * time-to-live so they are re-checked should the pending interaction never
+     * re-arm them.
+     *
+     * @return the expired cached responses
+     */
+    public @NotNull ConcurrentList<CachedResponse> pollExpired() {
+        long now = System.currentTimeMillis();
+        ConcurrentList<CachedResponse> expired = Concurrent.newList();
+        Deadline deadline;
+
+        while ((deadline = this.deadlines.peek()) != null && deadline.getTime() <= now) {
+            deadline = this.deadlines.poll();
+
+            if (deadline == null)
+                break;
+
+            CachedResponse entry = this.resolveDeadline(deadline);
+
+            if (entry == null || deadline.getTime() != entry.getExpiresAt()) // Removed or Superseded
+                continue;
+
+            if (entry.isBusy())
+                entry.armExpiry(now);
+            else if (this.remove(entry)) {
+                this.expirationCount.incrementAndGet();
+                expired.add(entry);
+            }
+        }
+
+        return expired;
+    }
+
+    /**
+     * Removes the given cached response and all of its index entries,
+     * including those of its followups.
+     *
+     * @param entry the cached response to remove
+     * @return {@code true} if the entry was cached
+     */
+    public boolean remove(@NotNull CachedResponse entry) {
+        if (!this.messageIndex.remove(entry.getMessageId(), entry))
+            return false;
+
+        this.uniqueIdIndex.remove(entry.getResponse().getUniqueId());
+        entry.getFollowups().forEach(followup -> this.followupIndex.remove(followup.getMessageId()));
+        this.unindex(this.userIndex, entry.getUserId(), entry.getMessageId());
+        this.unindex(this.channelIndex, entry.getChannelId(), entry.getMessageId());
+        this.estimatedSize.addAndGet(-entry.getEstimatedSize());
+
+        synchronized (this.recency) {
+            this.recency.remove(entry.getMessageId());
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the cached response whose primary message has the given id.
+     *
+     * @param messageId the Discord message snowflake of the primary message
+     * @return {@code true} if an entry was removed
+     */
+    public boolean removeByMessageId(@NotNull Snowflake messageId) {
+        return Optional.ofNullable(this.messageIndex.get(messageId))
+            .map(this::remove)
+            .orElse(false);
+    }
+
+    /**
+     * Clears the reactions of a removed cached response's message and
+     * disables all of its components, including paging components.
+     *
+     * <p>
+     * The current item page is loaded again before the final edit, as a
+     * {@link #demoteIdle() demoted} response no longer holds its items.
+     *
+     * @param entry the removed cached response
+     */
+    public void retire(@NotNull CachedResponse entry) {
+        this.getDiscordBot()
+            .getGateway()
+            .getChannelById(entry.getChannelId())
+            .ofType(MessageChannel.class)
+            .flatMap(channel -> channel.getMessageById(entry.getMessageId()))
+            .flatMap(message -> {
+                Response retired = entry.getResponse()
+                    .mutate()
+                    .disableAllComponents()
+                    .isRenderingPagingComponents(false)
+                    .build();
+
+                // Reload the item page a cold response released
+                return retired.load().then(Mono.defer(() -> message.removeAllReactions().then(message.edit(retired.getD4jEditSpec()))));
+            })
+            .subscribe();
+    }
+
+    /**
+     * Removes every expired cached response and {@link #retire retires} its message.
+     */
+    public void retireExpired() {
+        this.pollExpired().forEach(this::retire);
+    }
+
+    /** The number of cached responses. */
+    public int size() {
+        return this.messageIndex.size();
+    }
+
+    /** A sequential stream over all cached responses. */
+    public @NotNull Stream<CachedResponse> stream() {
+        return this.messageIndex.values().stream();
+    }
+
+    // --- Budget ---
+
+    /**
+     * Estimates the retained heap size of the given response from its page
+     * tree, components, attachments and item handler contents.
+     *
+     * @param response the response to estimate
+     * @return the estimated retained size in bytes
+     */
+    static long estimateSize(@NotNull Response response) {
+        return RESPONSE_BASE_SIZE
+            + response.getAttachments().size() * ATTACHMENT_SIZE
+            + response.getPages().stream().mapToLong(ResponseHandler::estimateSize).sum();
+    }
+
+    private static long estimateSize(@NotNull Page page) {
+        long size = PAGE_BASE_SIZE
+            + page.getComponents().size() * COMPONENT_SIZE
+            + page.getItemHandler().getItems().size() * ITEM_SIZE;
+
+        if (page instanceof Subpages<?> subpages) {
+            size += subpages.getPages()
+                .stream()
+                .filter(Page.class::isInstance)
+                .map(Page.class::cast)
+                .mapToLong(ResponseHandler::estimateSize)
+                .sum();
+        }
+
+        return size;
+    }
+
+    /**
+     * Evicts the least recently interacted, non-busy responses until the
+     * global entry and size limits are met.
+     *
+     * @param protectedEntry an entry that must not be evicted
+     */
+    private void evictToBudget(@NotNull CachedResponse protectedEntry) {
+        DiscordConfig config = this.getDiscordBot().getConfig();
+
+        while (this.size() > config.getMaxResponses() || this.getEstimatedSize() > config.getMaxResponseBytes()) {
+            CachedResponse victim;
+
+            synchronized (this.recency) {
+                victim = this.recency.values()
+                    .stream()
+                    .filter(entry -> entry != protectedEntry)
+                    .filter(entry -> !entry.isBusy())
+                    .findFirst()
+                    .orElse(null);
+            }
+
+            if (victim == null || !this.evict(victim))
+                break;
+        }
+    }
+
+    /**
+     * Evicts the least recently interacted, non-busy responses registered
+     * under the given key until there is room for one more.
+     *
+     * @param index the user or channel index
+     * @param key the user or channel id
+     * @param limit the maximum number of responses allowed under the key
+     */
+    private void evictToLimit(@NotNull ConcurrentMap<Snowflake, ConcurrentSet<Snowflake>> index, @NotNull Snowflake key, int limit) {
+        if (limit == Integer.MAX_VALUE) // Unbounded
+            return;
+
+        ConcurrentList<CachedResponse> entries = this.resolve(index, key);
+
+        if (entries.size() < limit)
+            return;
+
+        entries.stream()
+            .filter(entry -> !entry.isBusy())
+            .sorted(Comparator.comparingLong(CachedResponse::getLastInteract))
+            .limit(entries.size() - limit + 1L)
+            .forEach(this::evict);
+    }
+
+    /**
+     * Removes the given cached response to stay within budget and retires
+     * its message.
+     *
+     * @param entry the cached response to evict
+     * @return {@code true} if the entry was cached
+     */
+    private boolean evict(@NotNull CachedResponse entry) {
+        if (!this.remove(entry))
+            return false;
+
+        this.evictionCount.incrementAndGet();
+        this.getLog().debug("Evicted response '{}' to stay within the response cache budget", entry.getMessageId().asString());
+        this.retire(entry);
+        return true;
+    }
+
+    // --- Index Maintenance ---
+
+    private @NotNull ConcurrentList<CachedResponse> resolve(@NotNull ConcurrentMap<Snowflake, ConcurrentSet<Snowflake>> index, @NotNull Snowflake key) {
+        return Optional.ofNullable(index.get(key))
+            .map(messageIds -> messageIds.stream()
+                .map(this.messageIndex::get)
+                .filter(Objects::nonNull)
+                .collect(Concurrent.toList())
+            )
+            .orElseGet(Concurrent::newList);
+    }
+
+    private @Nullable CachedResponse resolveDeadline(@NotNull Deadline deadline) {
+        CachedResponse entry = this.messageIndex.get(deadline.getMessageId());
+        return entry != null && entry.getGeneration() == deadline.getGeneration() ? entry : null;
+    }
+
+    private void unindex(@NotNull ConcurrentMap<Snowflake, ConcurrentSet<Snowflake>> index, @NotNull Snowflake key, @NotNull Snowflake messageId) {
+        index.computeIfPresent(key, (__, messageIds) -> {
+            messageIds.remove(messageId);
+            return messageIds.isEmpty() ? null : messageIds;
+        });
+    }
+
+    /**
+     * Schedules the current {@link CachedResponse#getExpiresAt() deadline} of
+     * the given cached response.
+     *
+     * @param entry the cached response to schedule
+     */
+    void scheduleExpiry(@NotNull CachedResponse entry) {
+        this.deadlines.offer(new Deadline(entry.getExpiresAt(), entry.getMessageId(), entry.getGeneration()));
+    }
+
+    /**
+     * Marks the given cached response as the most recently interacted and
+     * schedules its demotion to the cold tier.
+     *
+     * @param entry the cached response that was interacted with
+     */
+    void touch(@NotNull CachedResponse entry) {
+        synchronized (this.recency) {
+            if (this.messageIndex.get(entry.getMessageId()) != entry)
+                return;
+
+            this.recency.put(entry.getMessageId(), entry);
+        }
+
+        long coldAfter = this.getDiscordBot().getConfig().getResponseColdAfter() * 1000L;
+        this.demotions.offer(new Deadline(entry.getLastInteract() + coldAfter, entry.getMessageId(), entry.getGeneration()));
+    }
+
+    /**
+     * Indexes a followup message newly added to the given cached response.
+     *
+     * @param entry the owning cached response
+     * @param followup the added followup
+     */
+    void indexFollowup(@NotNull CachedResponse entry, @NotNull ResponseFollowup followup) {
+        if (this.messageIndex.get(entry.getMessageId()) == entry)
+            this.followupIndex.put(followup.getMessageId(), entry.getMessageId());
+    }
+
+    /**
+     * Removes the index entry of a followup message removed from its parent.
+     *
+     * @param followup the removed followup
+     */
+    void unindexFollowup(@NotNull ResponseFollowup followup) {
+        this.followupIndex.remove(followup.getMessageId());
+    }
+
+    /**
+     * Re-keys the unique id index and re-estimates the retained size after
+     * the given cached response replaced its {@link Response}.
+     *
+     * @param entry the cached response
+     * @param previousId the unique id of the replaced response
+     */
+    void onResponseUpdated(@NotNull CachedResponse entry, @NotNull UUID previousId) {
+        if (this.messageIndex.get(entry.getMessageId()) != entry)
+            return;
+
+        if (!previousId.equals(entry.getResponse().getUniqueId())) {
+            this.uniqueIdIndex.remove(previousId, entry.getMessageId());
+            this.uniqueIdIndex.put(entry.getResponse().getUniqueId(), entry.getMessageId());
+        }
+
+        long previousSize = entry.getEstimatedSize();
+        entry.setEstimatedSize(estimateSize(entry.getResponse()));
+        this.estimatedSize.addAndGet(entry.getEstimatedSize() - previousSize);
+        this.evictToBudget(entry);
+    }
+
+    /**
+     * A scheduled expiry or demotion deadline for a cached response.
+     *
+     * <p>
+     * Deadlines reference their entry by message id and generation rather than
+     * by instance, so superseded deadlines of removed entries retain none of
+     * their response state while waiting in the queue.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Deadline implements Comparable<Deadline> {
+
+        /** Epoch millisecond timestamp at which the entry is due. */
+        private final long time;
+
+        /** Primary message id of the cached response this deadline belongs to. */
+        private final @NotNull Snowflake messageId;
+
+        /** Generation of the cached response this deadline belongs to. */
+        private final long generation;
+
+        @Override
+        public int compareTo(@NotNull Deadline other) {
+            return Long.compare(this.getTime(), other.getTime());
+        }
+
+    }
+
 }
@@ -3,6 +3,7 @@ package dev.sbs.discordapi.listener;
 import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.discordapi.DiscordBot;
+import dev.sbs.discordapi.util.DiscordIndex;
 import dev.sbs.discordapi.util.DiscordReference;
 import discord4j.core.event.domain.Event;
 import lombok.Getter;
@@ -15,8 +16,8 @@ import java.util.function.Function;
  * Abstract base for all Discord event listeners, binding a specific {@link Event}
  * subtype to a reactive handler function.
  * <p>
- * Subclasses are discovered via classpath scanning and registered through
- * {@link DiscordBot}. The resolved event class and a human-readable title
+ * Subclasses are discovered through the {@link DiscordIndex}, or via classpath
+ * scanning, and registered through {@link DiscordBot}. The resolved event class and a human-readable title
  * (derived from the subclass name) are captured at construction time.
  *
  * @param <T> the Discord4J event type this listener handles
@@ -39,7 +40,7 @@ public abstract class DiscordListener<T extends Event> extends DiscordReference
      */
     public DiscordListener(@NotNull DiscordBot discordBot) {
         super(discordBot);
-        this.eventClass = Reflection.getSuperClass(this);
+        this.eventClass = DiscordIndex.get().<T>getEventClass(this.getClass()).orElseGet(() -> Reflection.getSuperClass(this));
         this.title = StringUtil.join(this.getClass().getSimpleName().split("(?=\\p{Upper})"), " ");
     }
 
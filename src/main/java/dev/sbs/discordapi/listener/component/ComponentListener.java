@@ -49,10 +49,9 @@ public abstract class ComponentListener<E extends ComponentInteractionEvent, C e
 
     @Override
     public final Publisher<Void> apply(@NotNull E event) {
-        return Flux.fromIterable(this.getDiscordBot().getResponseHandler())
-            .filter(entry -> !event.getInteraction().getUser().isBot()) // Ignore Bots
-            .filter(entry -> entry.matchesMessage(event.getMessageId(), event.getInteraction().getUser().getId())) // Validate Message & User ID
-            .singleOrEmpty()
+        return Mono.just(event)
+            .filter(__ -> !event.getInteraction().getUser().isBot()) // Ignore Bots
+            .flatMap(__ -> Mono.justOrEmpty(this.getDiscordBot().getResponseHandler().findByMessageId(event.getMessageId(), event.getInteraction().getUser().getId()))) // Validate Message & User ID
             .switchIfEmpty(event.deferEdit().then(Mono.empty())) // Invalid User Interaction
             .doOnNext(CachedResponse::setBusy)
             .flatMap(entry -> this.handleEvent(event, entry, entry.findFollowup(event.getMessageId())))
@@ -89,7 +88,7 @@ public abstract class ComponentListener<E extends ComponentInteractionEvent, C e
             .map(this.componentClass::cast)
             .singleOrEmpty()
             .flatMap(component -> this.handleInteraction(event, entry, component, followup))
-            .then(entry.updateLastInteract())
+            .then(entry.updateLastInteract(event.getInteraction().getId()))
             .then();
     }
 
@@ -106,7 +105,7 @@ public abstract class ComponentListener<E extends ComponentInteractionEvent, C e
     protected final Mono<Void> handleInteraction(@NotNull E event, @NotNull CachedResponse entry, @NotNull T component, @NotNull Optional<ResponseFollowup> followup) {
         C context = this.getContext(event, entry.getResponse(), component, followup);
 
-        Mono<Void> deferEdit = Mono.defer(() -> entry.isDeferred() ? Mono.empty() : context.deferEdit());
+        Mono<Void> deferEdit = Mono.defer(() -> entry.isDeferred(event.getInteraction().getId()) ? Mono.empty() : context.deferEdit());
 
         return (component.isDeferEdit() ? deferEdit : Mono.<Void>empty())
             .then(Mono.defer(() -> component.getInteraction().apply(context)))
@@ -47,7 +47,7 @@ public final class ModalListener extends ComponentListener<ModalSubmitInteractio
             .filter(modal -> event.getCustomId().equals(modal.getIdentifier())) // Validate Message ID
             .doOnNext(modal -> entry.clearModal(event.getInteraction().getUser()))
             .flatMap(modal -> this.handleInteraction(event, entry, modal, followup))
-            .then(entry.updateLastInteract())
+            .then(entry.updateLastInteract(event.getInteraction().getId()))
             .then();
     }
 
@@ -4,10 +4,12 @@ import dev.sbs.discordapi.DiscordBot;
 import dev.sbs.discordapi.context.scope.MessageContext;
 import dev.sbs.discordapi.handler.response.CachedResponse;
 import dev.sbs.discordapi.listener.DiscordListener;
+import discord4j.common.util.Snowflake;
 import discord4j.core.event.domain.message.MessageCreateEvent;
 import org.jetbrains.annotations.NotNull;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Listener for message create events from bot users, matching the message to a
@@ -26,9 +28,9 @@ public class MessageCreateListener extends DiscordListener<MessageCreateEvent> {
 
     @Override
     public final Publisher<Void> apply(@NotNull MessageCreateEvent event) {
-        return Flux.fromIterable(this.getDiscordBot().getResponseHandler())
-            .filter(entry -> event.getMessage().getUserData().bot().toOptional().orElse(false)) // Only Bots
-            .filter(entry -> entry.matchesMessage(entry.getMessageId(), event.getMessage().getUserData().id())) // Validate Message & User ID
+        return Mono.just(event)
+            .filter(__ -> event.getMessage().getUserData().bot().toOptional().orElse(false)) // Only Bots
+            .flatMapMany(__ -> Flux.fromIterable(this.getDiscordBot().getResponseHandler().findByUserId(Snowflake.of(event.getMessage().getUserData().id())))) // Validate User ID
             .singleOrEmpty()
             .doOnNext(CachedResponse::setBusy)
             .flatMap(entry -> entry.getResponse()
@@ -7,7 +7,6 @@ import dev.sbs.discordapi.listener.DiscordListener;
 import discord4j.core.event.domain.message.MessageDeleteEvent;
 import org.jetbrains.annotations.NotNull;
 import org.reactivestreams.Publisher;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -27,8 +26,7 @@ public class MessageDeleteListener extends DiscordListener<MessageDeleteEvent> {
 
     @Override
     public final Publisher<Void> apply(@NotNull MessageDeleteEvent event) {
-        return Flux.fromIterable(this.getDiscordBot().getResponseHandler())
-            .filter(entry -> entry.containsFollowup(event.getMessageId()))
+        return Mono.justOrEmpty(this.getDiscordBot().getResponseHandler().findByFollowupId(event.getMessageId()))
             .flatMap(entry -> Mono.justOrEmpty(entry.findFollowup(event.getMessageId()))
                 .doOnNext(followup -> entry.removeFollowup(followup.getIdentifier()))
             )
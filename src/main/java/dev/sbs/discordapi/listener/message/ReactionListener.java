@@ -45,9 +45,7 @@ public abstract class ReactionListener<E extends ReactionUserEmojiEvent> extends
         return Mono.just(event)
             .filter(this::isBotMessage) // Only Bot Messages
             .filter(this::notBot) // Ignore Other Bots
-            .thenMany(Flux.fromIterable(this.getDiscordBot().getResponseHandler()))
-            .filter(entry -> entry.matchesMessage(event.getMessageId(), event.getUserId())) // Validate Message & User ID
-            .singleOrEmpty()
+            .flatMap(__ -> Mono.justOrEmpty(this.getDiscordBot().getResponseHandler().findByMessageId(event.getMessageId(), event.getUserId()))) // Validate Message & User ID
             .flatMap(entry -> {
                 final Emoji emoji = Emoji.of(event.getEmoji());
 
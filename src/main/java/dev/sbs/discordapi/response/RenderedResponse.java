@@ -0,0 +1,128 @@
+package dev.sbs.discordapi.response;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.discordapi.component.media.Attachment;
+import discord4j.core.object.entity.Message;
+import discord4j.core.spec.EmbedCreateSpec;
+import discord4j.core.spec.MessageCreateFields;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable snapshot of a {@link Response} rendered at a single
+ * {@link Response#getVersion() version}.
+ *
+ * <p>
+ * The snapshot holds everything the Discord4J spec flavours of a response
+ * share, so the page components, embeds and flags are only computed once per
+ * version regardless of how many specs are built from it.
+ *
+ * <p>
+ * A 64-bit {@link #getFingerprint() fingerprint} of the content, embeds,
+ * components and flags identifies byte-identical payloads, allowing edits
+ * that would not change the message to be skipped.
+ *
+ * <p>
+ * Pending attachments are kept as {@link Attachment} references and converted
+ * to {@link MessageCreateFields.File files} on every {@link #getD4jFiles() access},
+ * as their upload streams can only be consumed once.
+ *
+ * @see Response#render()
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class RenderedResponse {
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    /** The response version this snapshot was rendered at. */
+    private final long version;
+
+    /** The message content of the current page. */
+    private final @NotNull String content;
+
+    /** The rendered embeds of the current page. */
+    private final @NotNull ConcurrentList<EmbedCreateSpec> embeds;
+
+    /** The message flags required by the rendered components. */
+    private final @NotNull ConcurrentList<Message.Flag> flags;
+
+    /** The rendered paging and page components. */
+    private final @NotNull ConcurrentList<discord4j.core.object.component.TopLevelMessageComponent> components;
+
+    /** The attachments that have not yet been uploaded. */
+    private final @NotNull ConcurrentList<Attachment> pendingAttachments;
+
+    /** The 64-bit FNV-1a hash of the content, embeds, components and flags. */
+    private final long fingerprint;
+
+    /**
+     * Computes the 64-bit FNV-1a fingerprint of a rendered payload.
+     *
+     * @param content the message content
+     * @param embeds the rendered embeds
+     * @param flags the message flags
+     * @param components the rendered components
+     * @return the payload fingerprint
+     */
+    static long fingerprint(
+        @NotNull String content,
+        @NotNull ConcurrentList<EmbedCreateSpec> embeds,
+        @NotNull ConcurrentList<Message.Flag> flags,
+        @NotNull ConcurrentList<discord4j.core.object.component.TopLevelMessageComponent> components
+    ) {
+        long hash = fingerprint(FNV_OFFSET_BASIS, content);
+
+        for (EmbedCreateSpec embed : embeds)
+            hash = fingerprint(hash, embed.asRequest().toString());
+
+        for (Message.Flag flag : flags)
+            hash = fingerprint(hash, flag.name());
+
+        for (discord4j.core.object.component.TopLevelMessageComponent component : components)
+            hash = fingerprint(hash, component.getData().toString());
+
+        return hash;
+    }
+
+    private static long fingerprint(long hash, @NotNull String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+
+        hash ^= 0xFF; // Field Separator
+        return hash * FNV_PRIME;
+    }
+
+    /**
+     * Checks whether sending this render would change a message whose last
+     * successfully sent render has the given fingerprint.
+     *
+     * <p>
+     * Renders with pending attachments always require sending.
+     *
+     * @param sentFingerprint the fingerprint of the last sent render
+     * @return {@code true} if this render is identical to the sent one
+     */
+    public boolean matches(long sentFingerprint) {
+        return this.getPendingAttachments().isEmpty() && this.getFingerprint() == sentFingerprint;
+    }
+
+    /**
+     * Creates fresh upload files for the pending attachments.
+     *
+     * @return the files to upload with this render
+     */
+    public @NotNull ConcurrentList<MessageCreateFields.File> getD4jFiles() {
+        return this.getPendingAttachments()
+            .stream()
+            .map(Attachment::getD4jFile)
+            .collect(Concurrent.toList());
+    }
+
+}
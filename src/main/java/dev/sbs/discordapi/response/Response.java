@@ -3,7 +3,6 @@ package dev.sbs.discordapi.response;
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
 import dev.sbs.api.collection.query.SearchFunction;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.ExceptionUtil;
 import dev.sbs.api.util.NumberUtil;
 import dev.sbs.api.util.builder.BuildFlag;
@@ -19,13 +18,18 @@ import dev.sbs.discordapi.response.embed.Embed;
 import dev.sbs.discordapi.response.embed.Field;
 import dev.sbs.discordapi.response.handler.HistoryHandler;
 import dev.sbs.discordapi.response.handler.PaginationHandler;
+import dev.sbs.discordapi.response.handler.VersionStamp;
 import dev.sbs.discordapi.response.handler.item.EmbedItemHandler;
 import dev.sbs.discordapi.response.page.Page;
+import dev.sbs.discordapi.response.page.Subpages;
 import dev.sbs.discordapi.response.page.TreePage;
+import dev.sbs.discordapi.util.BuildFlags;
+import dev.sbs.discordapi.util.SharedList;
 import discord4j.common.util.Snowflake;
 import discord4j.core.event.domain.message.MessageCreateEvent;
 import discord4j.core.object.entity.Message;
 import discord4j.core.object.entity.channel.MessageChannel;
+import discord4j.core.spec.EmbedCreateSpec;
 import discord4j.core.spec.InteractionApplicationCommandCallbackSpec;
 import discord4j.core.spec.InteractionFollowupCreateSpec;
 import discord4j.core.spec.InteractionReplyEditSpec;
@@ -73,6 +77,7 @@ public final class Response {
     private final @NotNull Scheduler reactorScheduler;
     private final @NotNull AllowedMentions allowedMentions;
     private final int timeToLive;
+    private final int editCoalescingWindow;
     private final boolean ephemeral;
     private final @NotNull ConcurrentList<Attachment> attachments;
     private final @NotNull Function<MessageContext<MessageCreateEvent>, Mono<Void>> createInteraction;
@@ -81,30 +86,46 @@ public final class Response {
     private final @NotNull PaginationHandler paginationHandler;
     @Getter(AccessLevel.NONE)
     private ConcurrentList<TopLevelMessageComponent> cachedPageComponents = Concurrent.newUnmodifiableList();
+    @Getter(AccessLevel.NONE)
+    private long cachedPageComponentsVersion = -1;
+    @Getter(AccessLevel.NONE)
+    private long renderedVersion;
+    @Getter(AccessLevel.NONE)
+    private long version = VersionStamp.next();
+    @Getter(AccessLevel.NONE)
+    private RenderedResponse rendered;
 
     public static @NotNull Builder builder() {
         return new Builder();
     }
 
     public static @NotNull Builder from(@NotNull Response response) {
-        return builder()
+        Builder builder = builder()
             .withContext(response.getEventContext())
             .withUniqueId(response.getUniqueId())
-            .withPages(response.getPages())
             .withAttachments(response.getAttachments())
             .withReference(response.getReferenceId())
             .withReactorScheduler(response.getReactorScheduler())
             .withTimeToLive(response.getTimeToLive())
+            .withEditCoalescing(response.getEditCoalescingWindow())
             .isRenderingPagingComponents(response.isRenderingPagingComponents())
             .isEphemeral(response.isEphemeral())
             .withPageHistory(response.getHistoryHandler().getIdentifierHistory())
             .withItemPage(response.getHistoryHandler().getCurrentPage().getItemHandler().getCurrentIndex())
             .onCreate(response.getCreateInteraction());
+
+        builder.pages.share(response.getPages());
+        return builder;
     }
 
     public @NotNull ConcurrentList<TopLevelMessageComponent> getCachedPageComponents() {
-        if (this.isRenderingPagingComponents() && this.isCacheUpdateRequired())
+        long version = this.getVersion();
+
+        // Keyed on the version, the flags may be cleared before a coalesced edit renders
+        if (this.isRenderingPagingComponents() && (this.isCacheUpdateRequired() || this.cachedPageComponentsVersion != version)) {
+            this.cachedPageComponentsVersion = version;
             this.cachedPageComponents = this.getPaginationHandler().buildCachedPageComponents(this.getHistoryHandler());
+        }
 
         return this.cachedPageComponents;
     }
@@ -153,13 +174,7 @@ public final class Response {
     // --- Reply Streams ---
 
     public @NotNull Stream<Attachment> getPendingAttachments() {
-        return Stream.concat(
-            this.getAttachments().stream(),
-            this.getCurrentComponents()
-                .flatMap(Component::flattenComponents)
-                .filter(Attachment.class::isInstance)
-                .map(Attachment.class::cast)
-        ).filter(Attachment::isPendingUpload);
+        return this.render().getPendingAttachments().stream();
     }
 
     public @NotNull Stream<TopLevelMessageComponent> getCurrentComponents() {
@@ -167,15 +182,11 @@ public final class Response {
     }
 
     public @NotNull ConcurrentList<Message.Flag> getCurrentFlags() {
-        ConcurrentList<Message.Flag> flags = Concurrent.newList();
-        flags.addIf(this::isComponentsV2, Message.Flag.IS_COMPONENTS_V2);
-        return flags;
+        return this.render().getFlags();
     }
 
     public boolean isComponentsV2() {
-        return this.getCurrentComponents()
-            .flatMap(Component::flattenComponents)
-            .anyMatch(component -> component.getType().isRequireFlag());
+        return this.getCurrentFlags().contains(Message.Flag.IS_COMPONENTS_V2);
     }
 
     // --- Cache ---
@@ -218,6 +229,32 @@ public final class Response {
         return this.editCurrentPage(TreePage.TreePageBuilder.class, editor);
     }
 
+    /**
+     * The version stamp of this response, being the newest stamp of its own
+     * attachment state, its page history, the current page's subpage history
+     * and the current page's item handler.
+     *
+     * @return the current version stamp
+     */
+    public long getVersion() {
+        Page currentPage = this.getHistoryHandler().getCurrentPage();
+
+        return Math.max(
+            Math.max(this.version, this.getHistoryHandler().getVersion()),
+            Math.max(currentPage.getHistoryHandler().getVersion(), currentPage.getItemHandler().getVersion())
+        );
+    }
+
+    /**
+     * Whether this response changed since it was last marked as rendered by
+     * {@link #setNoCacheUpdateRequired()}.
+     *
+     * @return {@code true} if the {@link #getVersion() version} differs from the rendered version
+     */
+    public boolean isModified() {
+        return this.getVersion() != this.renderedVersion;
+    }
+
     public boolean isCacheUpdateRequired() {
         return this.getHistoryHandler().isCacheUpdateRequired() ||
             this.getHistoryHandler().getCurrentPage().getHistoryHandler().isCacheUpdateRequired() ||
@@ -225,14 +262,43 @@ public final class Response {
     }
 
     public void setNoCacheUpdateRequired() {
+        this.renderedVersion = this.getVersion();
         this.getHistoryHandler().setCacheUpdateRequired(false);
         this.getHistoryHandler().getCurrentPage().getHistoryHandler().setCacheUpdateRequired(false);
         this.getHistoryHandler().getCurrentPage().getItemHandler().setCacheUpdateRequired(false);
     }
 
+    /**
+     * Releases the rendered snapshot, the rendered paging components and the
+     * derived item caches of every page, including nested subpages.
+     *
+     * <p>
+     * Released caches are rebuilt on the next render, so this only trades
+     * heap for the cost of re-rendering an idle response once it is used again.
+     */
+    public void releaseCache() {
+        this.cachedPageComponents = Concurrent.newUnmodifiableList();
+        this.cachedPageComponentsVersion = -1;
+        this.rendered = null;
+        this.renderedVersion = -1;
+        this.getPages().forEach(Response::releaseCache);
+    }
+
+    private static void releaseCache(@NotNull Page page) {
+        page.getItemHandler().releaseCache();
+
+        if (page instanceof Subpages<?> subpages) {
+            subpages.getPages()
+                .stream()
+                .filter(Page.class::isInstance)
+                .map(Page.class::cast)
+                .forEach(Response::releaseCache);
+        }
+    }
+
     public void updateAttachments(@NotNull Message message) {
         if (this.getAttachments().contains(attachment -> attachment.getMediaData().getState(), MediaData.State.LOADING)) {
-            for (int i = 0; this.getAttachments().notEmpty(); i++) {
+            for (int i = 0; i < this.getAttachments().size(); i++) {
                 Attachment attachment = this.getAttachments().get(i);
                 final int index = i;
 
@@ -249,100 +315,155 @@ public final class Response {
                     .map(discord4j.core.object.component.File.class::cast)
                     .ifPresent(d4jFile -> this.getAttachments().set(index, attachment.mutate(d4jFile).build()));
             }
+
+            this.version = VersionStamp.next();
         }
     }
 
+    /**
+     * Loads the items of the current page from its asynchronous
+     * {@link dev.sbs.discordapi.response.handler.item.ItemSource ItemSource}, if any.
+     *
+     * @return a {@link Mono} completing when the current page is ready to render
+     */
+    public @NotNull Mono<Void> load() {
+        return this.getHistoryHandler().getCurrentPage().getItemHandler().load();
+    }
+
+    // --- Render ---
+
+    /**
+     * Renders the current page of this response, reusing the previous
+     * {@link RenderedResponse snapshot} while the {@link #getVersion() version}
+     * is unchanged.
+     *
+     * @return the rendered snapshot of the current version
+     */
+    public @NotNull RenderedResponse render() {
+        long version = this.getVersion();
+        RenderedResponse rendered = this.rendered;
+
+        if (rendered == null || rendered.getVersion() != version) {
+            ConcurrentList<TopLevelMessageComponent> components = this.getCurrentComponents().collect(Concurrent.toUnmodifiableList());
+            ConcurrentList<Message.Flag> flags = Concurrent.newList();
+            flags.addIf(
+                () -> components.stream()
+                    .flatMap(Component::flattenComponents)
+                    .anyMatch(component -> component.getType().isRequireFlag()),
+                Message.Flag.IS_COMPONENTS_V2
+            );
+
+            String content = this.getCurrentContent().orElse("");
+            ConcurrentList<EmbedCreateSpec> embeds = this.getCurrentEmbeds()
+                .stream()
+                .map(Embed::getD4jEmbed)
+                .collect(Concurrent.toUnmodifiableList());
+            ConcurrentList<discord4j.core.object.component.TopLevelMessageComponent> d4jComponents = components.stream()
+                .map(TopLevelMessageComponent::getD4jComponent)
+                .collect(Concurrent.toUnmodifiableList());
+
+            rendered = new RenderedResponse(
+                version,
+                content,
+                embeds,
+                flags.toUnmodifiableList(),
+                d4jComponents,
+                Stream.concat(
+                    this.getAttachments().stream(),
+                    components.stream()
+                        .flatMap(Component::flattenComponents)
+                        .filter(Attachment.class::isInstance)
+                        .map(Attachment.class::cast)
+                )
+                .filter(Attachment::isPendingUpload)
+                .collect(Concurrent.toUnmodifiableList()),
+                RenderedResponse.fingerprint(content, embeds, flags, d4jComponents)
+            );
+            this.rendered = rendered;
+        }
+
+        return rendered;
+    }
+
     // --- D4J Specs ---
 
     public @NotNull MessageCreateSpec getD4jCreateSpec() {
+        RenderedResponse rendered = this.render();
+
         return MessageCreateSpec.builder()
-            .content(this.getCurrentContent().orElse(""))
-            .embeds(this.getCurrentEmbeds().stream().map(Embed::getD4jEmbed).collect(Concurrent.toList()))
-            .flags(this.getCurrentFlags())
+            .content(rendered.getContent())
+            .embeds(rendered.getEmbeds())
+            .flags(rendered.getFlags())
             .nonce(this.getUniqueId().toString().substring(0, 25))
             .allowedMentions(this.getAllowedMentions())
             .messageReference(this.getReferenceId().isPresent() ? Possible.of(MessageReferenceData.builder().messageId(this.getReferenceId().get().asLong()).build()) : Possible.absent())
-            .files(this.getPendingAttachments().map(Attachment::getD4jFile).collect(Concurrent.toList()))
-            .components(
-                this.getCurrentComponents()
-                    .map(TopLevelMessageComponent::getD4jComponent)
-                    .collect(Concurrent.toList())
-            )
+            .files(rendered.getD4jFiles())
+            .components(rendered.getComponents())
             .build();
     }
 
     public @NotNull MessageCreateMono getD4jCreateMono(@NotNull MessageChannel channel) {
+        RenderedResponse rendered = this.render();
+
         return MessageCreateMono.of(channel)
-            .withContent(this.getCurrentContent().orElse(""))
-            .withEmbeds(this.getCurrentEmbeds().stream().map(Embed::getD4jEmbed).collect(Concurrent.toList()))
-            .withFlags(this.getCurrentFlags())
+            .withContent(rendered.getContent())
+            .withEmbeds(rendered.getEmbeds())
+            .withFlags(rendered.getFlags())
             .withNonce(this.getUniqueId().toString().substring(0, 25))
             .withFlags()
             .withAllowedMentions(this.getAllowedMentions())
             .withMessageReference(this.getReferenceId().isPresent() ? Possible.of(MessageReferenceData.builder().messageId(this.getReferenceId().get().asLong()).build()) : Possible.absent())
-            .withFiles(this.getPendingAttachments().map(Attachment::getD4jFile).collect(Concurrent.toList()))
-            .withComponents(
-                this.getCurrentComponents()
-                    .map(TopLevelMessageComponent::getD4jComponent)
-                    .collect(Concurrent.toList())
-            );
+            .withFiles(rendered.getD4jFiles())
+            .withComponents(rendered.getComponents());
     }
 
     public @NotNull MessageEditSpec getD4jEditSpec() {
+        RenderedResponse rendered = this.render();
+
         return MessageEditSpec.builder()
-            .contentOrNull(this.getCurrentContent().orElse(""))
-            .embedsOrNull(this.getCurrentEmbeds().stream().map(Embed::getD4jEmbed).collect(Concurrent.toList()))
-            .addAllFlags(this.getCurrentFlags())
-            .addAllFiles(this.getPendingAttachments().map(Attachment::getD4jFile).collect(Concurrent.toList()))
-            .addAllComponents(
-                this.getCurrentComponents()
-                    .map(TopLevelMessageComponent::getD4jComponent)
-                    .collect(Concurrent.toList())
-            )
+            .contentOrNull(rendered.getContent())
+            .embedsOrNull(rendered.getEmbeds())
+            .addAllFlags(rendered.getFlags())
+            .addAllFiles(rendered.getD4jFiles())
+            .addAllComponents(rendered.getComponents())
             .build();
     }
 
     public @NotNull InteractionApplicationCommandCallbackSpec getD4jComponentCallbackSpec() {
+        RenderedResponse rendered = this.render();
+
         return InteractionApplicationCommandCallbackSpec.builder()
-            .content(this.getCurrentContent().orElse(""))
-            .embeds(this.getCurrentEmbeds().stream().map(Embed::getD4jEmbed).collect(Concurrent.toList()))
+            .content(rendered.getContent())
+            .embeds(rendered.getEmbeds())
             .ephemeral(this.isEphemeral())
             .allowedMentions(AllowedMentions.suppressEveryone())
-            .files(this.getPendingAttachments().map(Attachment::getD4jFile).collect(Concurrent.toList()))
-            .components(
-                this.getCurrentComponents()
-                    .map(TopLevelMessageComponent::getD4jComponent)
-                    .collect(Concurrent.toList())
-            )
+            .files(rendered.getD4jFiles())
+            .components(rendered.getComponents())
             .build();
     }
 
     public @NotNull InteractionFollowupCreateSpec getD4jInteractionFollowupCreateSpec() {
+        RenderedResponse rendered = this.render();
+
         return InteractionFollowupCreateSpec.builder()
-            .content(this.getCurrentContent().orElse(""))
-            .embeds(this.getCurrentEmbeds().stream().map(Embed::getD4jEmbed).collect(Concurrent.toList()))
+            .content(rendered.getContent())
+            .embeds(rendered.getEmbeds())
             .ephemeral(this.isEphemeral())
             .allowedMentions(this.getAllowedMentions())
-            .files(this.getPendingAttachments().map(Attachment::getD4jFile).collect(Concurrent.toList()))
-            .components(
-                this.getCurrentComponents()
-                    .map(TopLevelMessageComponent::getD4jComponent)
-                    .collect(Concurrent.toList())
-            )
+            .files(rendered.getD4jFiles())
+            .components(rendered.getComponents())
             .build();
     }
 
     public @NotNull InteractionReplyEditSpec getD4jInteractionReplyEditSpec() {
+        RenderedResponse rendered = this.render();
+
         return InteractionReplyEditSpec.builder()
-            .contentOrNull(this.getCurrentContent().orElse(""))
-            .embedsOrNull(this.getCurrentEmbeds().stream().map(Embed::getD4jEmbed).collect(Concurrent.toList()))
+            .contentOrNull(rendered.getContent())
+            .embedsOrNull(rendered.getEmbeds())
             .allowedMentionsOrNull(this.getAllowedMentions())
-            .files(this.getPendingAttachments().map(Attachment::getD4jFile).collect(Concurrent.toList()))
-            .componentsOrNull(
-                this.getCurrentComponents()
-                    .map(TopLevelMessageComponent::getD4jComponent)
-                    .collect(Concurrent.toList())
-            )
+            .files(rendered.getD4jFiles())
+            .componentsOrNull(rendered.getComponents())
             .build();
     }
 
@@ -356,12 +477,13 @@ public final class Response {
         @BuildFlag(nonNull = true)
         private EventContext<?> eventContext;
         @BuildFlag(notEmpty = true)
-        private final ConcurrentList<Page> pages = Concurrent.newList();
+        private final SharedList<Page> pages = new SharedList<>();
         private final ConcurrentList<Attachment> attachments = Concurrent.newList();
         private Optional<Snowflake> referenceId = Optional.empty();
         @BuildFlag(nonNull = true)
         private Scheduler reactorScheduler = Schedulers.boundedElastic();
         private int timeToLive = 10;
+        private int editCoalescingWindow = 0;
         private boolean renderingPagingComponents = true;
         private boolean ephemeral = false;
         @BuildFlag(nonNull = true)
@@ -377,7 +499,9 @@ public final class Response {
          * Recursively disable all interactable components from all {@link Page Pages} in {@link Response}.
          */
         public Builder disableAllComponents() {
-            this.pages.forEach(page -> this.editPage(page.mutate().disableComponents(true).build()));
+            for (int i = 0; i < this.pages.size(); i++)
+                this.pages.set(i, this.pages.get(i).mutate().disableComponents(true).build());
+
             return this;
         }
 
@@ -552,6 +676,22 @@ public final class Response {
             return this;
         }
 
+        /**
+         * Sets the window in milliseconds during which edits of the {@link Response} message are coalesced.
+         * <br><br>
+         * Every interaction within the window is acknowledged immediately, but only the
+         * latest state is sent once the window closes.
+         * <br><br>
+         * Defaults to 0, which sends every edit immediately.<br>
+         * Maximum 1000 milliseconds.
+         *
+         * @param milliseconds how long to wait for further edits before sending
+         */
+        public Builder withEditCoalescing(int milliseconds) {
+            this.editCoalescingWindow = NumberUtil.ensureRange(milliseconds, 0, 1000);
+            return this;
+        }
+
         /**
          * Adds the stack trace of an {@link Throwable Exception} as an {@link Attachment} to the {@link Response}.
          *
@@ -616,7 +756,7 @@ public final class Response {
          * @param pages collection of pages to add
          */
         public Builder withPages(@NotNull Iterable<? extends Page> pages) {
-            pages.forEach(this.pages::add);
+            this.pages.withAll(pages);
             return this;
         }
 
@@ -698,7 +838,7 @@ public final class Response {
          */
         @Override
         public @NotNull Response build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             Response response = new Response(
                 this.uniqueId,
@@ -707,12 +847,13 @@ public final class Response {
                 this.reactorScheduler,
                 this.allowedMentions,
                 this.timeToLive,
+                this.editCoalescingWindow,
                 this.ephemeral,
                 this.attachments,
                 this.createInteraction.orElse(__ -> Mono.empty()),
                 this.renderingPagingComponents,
                 HistoryHandler.<Page, String>builder()
-                    .withPages(this.pages.toUnmodifiableList())
+                    .withPages(this.pages)
                     .withMatcher((page, identifier) -> page.getOption().getValue().equals(identifier))
                     .withTransformer(page -> page.getOption().getValue())
                     .build(),
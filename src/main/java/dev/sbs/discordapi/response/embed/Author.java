@@ -1,9 +1,9 @@
 package dev.sbs.discordapi.response.embed;
 
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.core.spec.EmbedCreateFields;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -146,7 +146,7 @@ public final class Author {
 
         @Override
         public @NotNull Author build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Author(
                 this.name.orElseThrow(),
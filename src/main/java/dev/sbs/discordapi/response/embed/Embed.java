@@ -2,7 +2,6 @@ package dev.sbs.discordapi.response.embed;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.ExceptionUtil;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
@@ -21,6 +20,8 @@ import dev.sbs.discordapi.response.page.item.Item;
 import dev.sbs.discordapi.response.page.item.ThumbnailUrlItem;
 import dev.sbs.discordapi.response.page.item.TitleItem;
 import dev.sbs.discordapi.response.page.item.field.FieldItem;
+import dev.sbs.discordapi.util.BuildFlags;
+import dev.sbs.discordapi.util.SharedList;
 import discord4j.core.spec.EmbedCreateSpec;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -77,7 +78,7 @@ public final class Embed {
     }
 
     public static @NotNull Builder from(@NotNull Embed embed) {
-        return new Builder()
+        Builder builder = new Builder()
             .withColor(embed.getColor())
             .withAuthor(embed.getAuthor())
             .withTitle(embed.getTitle())
@@ -85,8 +86,10 @@ public final class Embed {
             .withThumbnailUrl(embed.getThumbnailUrl())
             .withDescription(embed.getDescription())
             .withImageUrl(embed.getImageUrl())
-            .withFooter(embed.getFooter())
-            .withFields(embed.getFields());
+            .withFooter(embed.getFooter());
+
+        builder.fields.share(embed.getFields());
+        return builder;
     }
 
     public static @NotNull Builder from(@NotNull Throwable throwable) {
@@ -217,7 +220,7 @@ public final class Embed {
         private Optional<Footer> footer = Optional.empty();
         private Optional<Author> author = Optional.empty();
         @BuildFlag(limit = Field.MAX_ALLOWED)
-        private ConcurrentList<Field> fields = Concurrent.newList();
+        private final SharedList<Field> fields = new SharedList<>();
 
         /**
          * Clears all existing {@link Field Fields}.
@@ -372,7 +375,7 @@ public final class Embed {
          * @param fields Collection of fields to add.
          */
         public Builder withFields(@NotNull Iterable<Field> fields) {
-            fields.forEach(this.fields::add);
+            this.fields.withAll(fields);
             return this;
         }
 
@@ -559,7 +562,7 @@ public final class Embed {
          */
         @Override
         public @NotNull Embed build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Embed(
                 this.color,
@@ -1,11 +1,11 @@
 package dev.sbs.discordapi.response.embed;
 
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.tuple.triple.Triple;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
 import dev.sbs.discordapi.response.Emoji;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.core.spec.EmbedCreateFields;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -195,7 +195,7 @@ public final class Field {
 
         @Override
         public @NotNull Field build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Field(
                 this.name,
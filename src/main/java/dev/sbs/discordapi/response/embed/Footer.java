@@ -1,9 +1,9 @@
 package dev.sbs.discordapi.response.embed;
 
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
+import dev.sbs.discordapi.util.BuildFlags;
 import discord4j.core.spec.EmbedCreateFields;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -150,7 +150,7 @@ public final class Footer {
 
         @Override
         public @NotNull Footer build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Footer(
                 this.text,
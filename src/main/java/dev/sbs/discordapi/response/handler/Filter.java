@@ -3,13 +3,13 @@ package dev.sbs.discordapi.response.handler;
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
 import dev.sbs.api.function.TriPredicate;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
 import dev.sbs.discordapi.component.capability.UserInteractable;
 import dev.sbs.discordapi.component.interaction.CheckboxGroup;
 import dev.sbs.discordapi.response.page.item.field.FieldItem;
+import dev.sbs.discordapi.util.BuildFlags;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -244,7 +244,7 @@ public class Filter<T> implements TriPredicate<T, Long, Long>, UserInteractable
 
         @Override
         public @NotNull Filter<T> build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Filter<>(
                 this.identifier,
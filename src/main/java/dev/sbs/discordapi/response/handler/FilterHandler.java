@@ -3,7 +3,6 @@ package dev.sbs.discordapi.response.handler;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
@@ -13,7 +12,8 @@ import java.util.Objects;
 public class FilterHandler<T> implements OutputHandler<Filter<T>> {
 
     private final @NotNull ConcurrentList<Filter<T>> items;
-    @Setter private boolean cacheUpdateRequired;
+    private boolean cacheUpdateRequired;
+    private long version = VersionStamp.next();
 
     @Override
     public boolean equals(Object o) {
@@ -30,4 +30,12 @@ public class FilterHandler<T> implements OutputHandler<Filter<T>> {
         return Objects.hash(this.getItems(), this.isCacheUpdateRequired());
     }
 
+    @Override
+    public void setCacheUpdateRequired(boolean cacheUpdateRequired) {
+        this.cacheUpdateRequired = cacheUpdateRequired;
+
+        if (cacheUpdateRequired)
+            this.version = VersionStamp.next();
+    }
+
 }
@@ -7,11 +7,11 @@ import dev.sbs.api.util.builder.ClassBuilder;
 import dev.sbs.discordapi.exception.DiscordException;
 import dev.sbs.discordapi.response.page.Paging;
 import dev.sbs.discordapi.response.page.Subpages;
+import dev.sbs.discordapi.util.SharedList;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,7 +40,8 @@ public class HistoryHandler<P, I> implements OutputHandler<P>, Paging<P> {
     private final @NotNull ConcurrentList<P> items;
     private final @NotNull Optional<BiFunction<P, I, Boolean>> matcher;
     private final @NotNull Optional<Function<P, I>> transformer;
-    @Setter private boolean cacheUpdateRequired;
+    private boolean cacheUpdateRequired;
+    private long version = VersionStamp.next();
     @Getter(AccessLevel.NONE)
     private final @NotNull ConcurrentList<P> history = Concurrent.newList();
 
@@ -235,10 +236,18 @@ public class HistoryHandler<P, I> implements OutputHandler<P>, Paging<P> {
         return this.history.size() > 1;
     }
 
+    @Override
+    public void setCacheUpdateRequired(boolean cacheUpdateRequired) {
+        this.cacheUpdateRequired = cacheUpdateRequired;
+
+        if (cacheUpdateRequired)
+            this.version = VersionStamp.next();
+    }
+
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static class Builder<P, I> implements ClassBuilder<HistoryHandler<P, I>> {
 
-        private final ConcurrentList<P> pages = Concurrent.newList();
+        private final SharedList<P> pages = new SharedList<>();
         private Optional<Function<P, I>> transformer = Optional.empty();
         private Optional<BiFunction<P, I, Boolean>> matcher = Optional.empty();
 
@@ -276,7 +285,7 @@ public class HistoryHandler<P, I> implements OutputHandler<P>, Paging<P> {
          * @param pages collection of pages to add
          */
         public Builder<P, I> withPages(@NotNull Iterable<P> pages) {
-            pages.forEach(this.pages::add);
+            this.pages.withAll(pages);
             return this;
         }
 
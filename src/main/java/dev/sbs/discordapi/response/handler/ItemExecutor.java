@@ -0,0 +1,131 @@
+package dev.sbs.discordapi.response.handler;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Dedicated {@link ForkJoinPool} for sorting, filtering and transforming large item lists.
+ *
+ * <p>
+ * Work over lists smaller than the configured threshold always runs on the
+ * calling thread. Larger lists are processed in parallel inside the pool, so
+ * parallel streams and {@link java.util.Arrays#parallelSort parallel sorts}
+ * started by the work run on its workers instead of the common pool or the
+ * Reactor thread handling the interaction.
+ *
+ * <p>
+ * When the pool already has at least as many queued submissions as workers it
+ * is considered saturated and the work runs on the calling thread instead.
+ * Parallel, sequential and saturated runs are counted so the pool load can be
+ * monitored.
+ *
+ * @see dev.sbs.discordapi.handler.DiscordConfig#getItemParallelism()
+ * @see dev.sbs.discordapi.handler.DiscordConfig#getItemParallelThreshold()
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ItemExecutor {
+
+    private static final AtomicLong PARALLEL_RUNS = new AtomicLong();
+    private static final AtomicLong SEQUENTIAL_RUNS = new AtomicLong();
+    private static final AtomicLong SATURATED_RUNS = new AtomicLong();
+    private static volatile ForkJoinPool pool;
+    private static volatile int threshold = Integer.MAX_VALUE;
+
+    /**
+     * Replaces the item pool, shutting down the previous one.
+     *
+     * @param parallelism the number of pool workers, parallel processing is disabled below 2
+     * @param threshold the minimum list size processed in parallel
+     */
+    public static synchronized void configure(int parallelism, int threshold) {
+        ForkJoinPool previous = pool;
+        pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        ItemExecutor.threshold = Math.max(1, threshold);
+
+        if (previous != null)
+            previous.shutdown();
+    }
+
+    /**
+     * Runs the given work, in parallel inside the item pool when the list size
+     * reaches the threshold and the pool is not saturated.
+     *
+     * @param size the number of items the work processes
+     * @param task the work, receiving whether it may run in parallel
+     * @return the result of the work
+     * @param <R> the result type
+     */
+    public static <R> R execute(int size, @NotNull Function<Boolean, R> task) {
+        ForkJoinPool current = pool;
+
+        if (current == null || size < threshold) {
+            SEQUENTIAL_RUNS.incrementAndGet();
+            return task.apply(false);
+        }
+
+        if (current.getQueuedSubmissionCount() >= current.getParallelism()) {
+            SATURATED_RUNS.incrementAndGet();
+            return task.apply(false);
+        }
+
+        PARALLEL_RUNS.incrementAndGet();
+        return current.submit(() -> task.apply(true)).join();
+    }
+
+    /**
+     * The number of runs processed in parallel.
+     *
+     * @return the parallel run count
+     */
+    public static long getParallelRuns() {
+        return PARALLEL_RUNS.get();
+    }
+
+    /**
+     * The item pool, if parallel processing is enabled.
+     *
+     * <p>
+     * The pool exposes its active thread, queued task and steal counts.
+     *
+     * @return the item pool
+     */
+    public static @NotNull Optional<ForkJoinPool> getPool() {
+        return Optional.ofNullable(pool);
+    }
+
+    /**
+     * The number of runs that reached the threshold but ran on the calling
+     * thread because the pool was saturated.
+     *
+     * @return the saturated run count
+     */
+    public static long getSaturatedRuns() {
+        return SATURATED_RUNS.get();
+    }
+
+    /**
+     * The number of runs below the threshold, or with parallel processing
+     * disabled, processed on the calling thread.
+     *
+     * @return the sequential run count
+     */
+    public static long getSequentialRuns() {
+        return SEQUENTIAL_RUNS.get();
+    }
+
+    /**
+     * The minimum list size processed in parallel.
+     *
+     * @return the parallel threshold
+     */
+    public static int getThreshold() {
+        return threshold;
+    }
+
+}
@@ -13,6 +13,15 @@ public interface OutputHandler<T> {
     /** The source items managed by this handler. */
     @NotNull ConcurrentList<T> getItems();
 
+    /**
+     * The version stamp of this handler's state.
+     *
+     * <p>
+     * A new {@link VersionStamp} is drawn every time the handler is marked as
+     * requiring a cache update, so a changed stamp means the state changed.
+     */
+    long getVersion();
+
     /** Whether the cached output needs to be rebuilt. */
     boolean isCacheUpdateRequired();
 
@@ -32,7 +41,15 @@ public interface OutputHandler<T> {
     }
 
     /**
-     * Sets whether the cache requires a rebuild.
+     * Sets whether the cache requires a rebuild, advancing the
+     * {@link #getVersion() version} when marking it stale.
+     *
+     * <p>
+     * Derived results, such as the sorted orders and filter results of an
+     * item handler, are cached per version. Changes made to the
+     * {@link #getItems() items} in place are only picked up once the cache is
+     * marked stale; item handlers additionally detect a changed item count
+     * when their filtered items are next rebuilt.
      *
      * @param cacheUpdateRequired {@code true} to mark the cache as stale
      */
@@ -5,16 +5,13 @@ import dev.sbs.api.collection.concurrent.ConcurrentList;
 import dev.sbs.api.math.Range;
 import dev.sbs.api.util.NumberUtil;
 import dev.sbs.discordapi.DiscordBot;
-import dev.sbs.discordapi.component.Component;
 import dev.sbs.discordapi.component.interaction.Button;
 import dev.sbs.discordapi.component.interaction.CheckboxGroup;
 import dev.sbs.discordapi.component.interaction.Modal;
 import dev.sbs.discordapi.component.interaction.RadioGroup;
 import dev.sbs.discordapi.component.interaction.SelectMenu;
 import dev.sbs.discordapi.component.interaction.TextInput;
-import dev.sbs.discordapi.component.layout.ActionRow;
 import dev.sbs.discordapi.component.layout.Label;
-import dev.sbs.discordapi.component.scope.LayoutComponent;
 import dev.sbs.discordapi.component.scope.TopLevelMessageComponent;
 import dev.sbs.discordapi.context.component.ButtonContext;
 import dev.sbs.discordapi.context.component.ModalContext;
@@ -50,6 +47,8 @@ import java.util.stream.Stream;
  */
 public class PaginationHandler extends DiscordReference {
 
+    private @Nullable PaginationTemplate template;
+
     public PaginationHandler(@NotNull DiscordBot discordBot) {
         super(discordBot);
     }
@@ -405,17 +404,26 @@ public class PaginationHandler extends DiscordReference {
      * Builds all pagination components for the given response, including page/subpage
      * select menus, item pagination buttons, editor menus, and button state updates.
      *
+     * <p>
+     * The components are compiled once into a {@link PaginationTemplate}, later
+     * calls only patch the state that changed since the previous call.
+     *
      * @param historyHandler the history handler to build components for
      * @return the built pagination components
      */
     public @NotNull ConcurrentList<TopLevelMessageComponent> buildCachedPageComponents(@NotNull HistoryHandler<? extends Page, String> historyHandler) {
+        if (this.template == null)
+            this.template = new PaginationTemplate(this.buildPaginationButtonsWithEmoji());
+
         ConcurrentList<TopLevelMessageComponent> pageComponents = Concurrent.newList();
         Page currentPage = historyHandler.getCurrentPage();
 
         // Page List
         if (historyHandler.getItems().size() > 1 && !historyHandler.hasPageHistory()) {
-            pageComponents.add(ActionRow.of(
-                SelectMenu.builder()
+            pageComponents.add(this.template.renderPageSelector(
+                new Object[] { historyHandler.getItems() },
+                historyHandler.getIdentifierHistory().getFirst(),
+                () -> SelectMenu.builder()
                     .withPageType(SelectMenu.PageType.PAGE_SELECTOR)
                     .withPlaceholder("Select a page.")
                     .withPlaceholderShowingSelectedOption()
@@ -427,7 +435,6 @@ public class PaginationHandler extends DiscordReference {
                     )
                     .onInteract(pageSelectionInteraction())
                     .build()
-                    .updateSelected(historyHandler.getIdentifierHistory().getFirst())
             ));
         }
 
@@ -436,22 +443,6 @@ public class PaginationHandler extends DiscordReference {
             HistoryHandler<?, String> pageHistory = currentPage.getHistoryHandler();
 
             if (pageHistory.getItems().notEmpty() || historyHandler.hasPageHistory()) {
-                SelectMenu.Builder subPageBuilder = SelectMenu.builder()
-                    .withPageType(SelectMenu.PageType.SUBPAGE_SELECTOR)
-                    .withPlaceholder("Select a subpage.")
-                    .withPlaceholderShowingSelectedOption()
-                    .onInteract(subpageSelectionInteraction());
-
-                if (historyHandler.hasPageHistory()) {
-                    subPageBuilder.withOptions(
-                        SelectMenu.Option.builder()
-                            .withValue("BACK")
-                            .withLabel("Back")
-                            .withEmoji(this.getEmoji("ARROW_LEFT"))
-                            .build()
-                    );
-                }
-
                 HistoryHandler<?, String> subpageSource = pageHistory;
 
                 if (pageHistory.getItems().isEmpty()) {
@@ -461,36 +452,61 @@ public class PaginationHandler extends DiscordReference {
                         subpageSource = previousPage.get().getHistoryHandler();
                 }
 
-                subPageBuilder.withOptions(
-                    subpageSource.getItems()
-                        .stream()
-                        .filter(Page.class::isInstance)
-                        .map(Page.class::cast)
-                        .map(Page::getOption)
-                        .collect(Concurrent.toList())
-                );
+                ConcurrentList<?> subpages = subpageSource.getItems();
+                boolean hasPageHistory = historyHandler.hasPageHistory();
+
+                pageComponents.add(this.template.renderSubpageSelector(
+                    new Object[] { subpages, hasPageHistory },
+                    () -> {
+                        SelectMenu.Builder subPageBuilder = SelectMenu.builder()
+                            .withPageType(SelectMenu.PageType.SUBPAGE_SELECTOR)
+                            .withPlaceholder("Select a subpage.")
+                            .withPlaceholderShowingSelectedOption()
+                            .onInteract(subpageSelectionInteraction());
+
+                        if (hasPageHistory) {
+                            subPageBuilder.withOptions(
+                                SelectMenu.Option.builder()
+                                    .withValue("BACK")
+                                    .withLabel("Back")
+                                    .withEmoji(this.getEmoji("ARROW_LEFT"))
+                                    .build()
+                            );
+                        }
+
+                        subPageBuilder.withOptions(
+                            subpages.stream()
+                                .filter(Page.class::isInstance)
+                                .map(Page.class::cast)
+                                .map(Page::getOption)
+                                .collect(Concurrent.toList())
+                        );
 
-                pageComponents.add(ActionRow.of(subPageBuilder.build()));
+                        return subPageBuilder.build();
+                    }
+                ));
             }
         }
 
         if (currentPage.hasItems()) {
             // Item List
-            pageComponents.add(ActionRow.of(this.buildPaginationButtonsWithEmoji()));
+            pageComponents.add(this.template.renderButtons(currentPage.getItemHandler()));
 
             // Editor
             if (currentPage.getItemHandler().isEditorEnabled()) {
                 EmbedItemHandler<?> legacyHandler = (EmbedItemHandler<?>) currentPage.getItemHandler();
+                ConcurrentList<Item> cachedStaticItems = legacyHandler.getCachedStaticItems();
                 ConcurrentList<FieldItem<?>> cachedFieldItems = legacyHandler.getCachedFieldItems();
 
-                pageComponents.add(ActionRow.of(
-                    SelectMenu.builder()
+                pageComponents.add(this.template.renderEditor(
+                    new Object[] { cachedStaticItems, cachedFieldItems },
+                    () -> SelectMenu.builder()
                         .withPageType(SelectMenu.PageType.ITEM)
                         .withPlaceholder("Select an item to edit.")
                         .onInteract(itemSelectionInteraction())
                         .withOptions(
                             Stream.concat(
-                                    legacyHandler.getCachedStaticItems().stream(),
+                                    cachedStaticItems.stream(),
                                     cachedFieldItems.stream()
                                 )
                                 .map(Item::getOption)
@@ -501,43 +517,11 @@ public class PaginationHandler extends DiscordReference {
             }
         }
 
-        ConcurrentList<TopLevelMessageComponent> result = pageComponents.toUnmodifiableList();
-
-        // Button state updates
-        editButton(result, Button::getPageType, Button.PageType.PREVIOUS, builder -> builder.setEnabled(currentPage.getItemHandler().hasPreviousItemPage()));
-        editButton(result, Button::getPageType, Button.PageType.NEXT, builder -> builder.setEnabled(currentPage.getItemHandler().hasNextItemPage()));
-        editButton(result, Button::getPageType, Button.PageType.SORT, builder -> builder.setEnabled(currentPage.getItemHandler().getSortHandler().notEmpty()));
-        editButton(result, Button::getPageType, Button.PageType.FILTER, builder -> builder.setEnabled(currentPage.getItemHandler().getFilterHandler().notEmpty()));
-        editButton(
-            result,
-            Button::getPageType,
-            Button.PageType.INDEX,
-            builder -> builder.withLabel(
-                "%s / %s",
-                currentPage.getItemHandler().getCurrentIndex(),
-                currentPage.getItemHandler().getTotalPages()
-            )
-        );
-
-        return result;
+        return pageComponents.toUnmodifiableList();
     }
 
     // --- Internal Helpers ---
 
-    @SuppressWarnings("unchecked")
-    private static <S> void editButton(@NotNull ConcurrentList<TopLevelMessageComponent> components, @NotNull Function<Button, S> function, S value, @NotNull Function<Button.Builder, Button.Builder> buttonBuilder) {
-        components.forEach(topLevelComponent -> topLevelComponent.flattenComponents()
-            .filter(LayoutComponent.class::isInstance)
-            .map(LayoutComponent.class::cast)
-            .forEach(layoutComponent -> layoutComponent.findComponent(Button.class, function, value)
-                .ifPresent(button -> ((ConcurrentList<Component>) layoutComponent.getComponents()).set(
-                    layoutComponent.getComponents().indexOf(button),
-                    buttonBuilder.apply(button.mutate()).build()
-                ))
-            )
-        );
-    }
-
     private static @NotNull Function<ButtonContext, Mono<Void>> getButtonInteraction(@NotNull Button.PageType pageType) {
         return switch (pageType) {
             case PREVIOUS -> previousPageInteraction();
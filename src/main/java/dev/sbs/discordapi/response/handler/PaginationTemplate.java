@@ -0,0 +1,137 @@
+package dev.sbs.discordapi.response.handler;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.discordapi.component.interaction.Button;
+import dev.sbs.discordapi.component.interaction.SelectMenu;
+import dev.sbs.discordapi.component.layout.ActionRow;
+import dev.sbs.discordapi.response.handler.item.ItemHandler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Pagination components of a single response, compiled once and patched per render.
+ *
+ * <p>
+ * The pagination buttons are built once with stable identifiers, and every
+ * component is held in a slot keyed by the state it was rendered from: the
+ * enabled state and label of each button, the page options of each select
+ * menu and the items of the editor. Rendering only rebuilds the slots whose
+ * state changed, the page selector's selected option is patched in place,
+ * and unchanged components and rows are reused as is.
+ *
+ * @see PaginationHandler#buildCachedPageComponents(HistoryHandler)
+ */
+final class PaginationTemplate {
+
+    private final @NotNull ConcurrentList<Button> buttons;
+    private final @NotNull ConcurrentList<Slot<Button>> buttonSlots = Concurrent.newList();
+    private final @NotNull Slot<ActionRow> buttonRow = new Slot<>();
+    private final @NotNull Slot<SelectMenu> pageSelector = new Slot<>();
+    private final @NotNull Slot<ActionRow> pageSelectorRow = new Slot<>();
+    private final @NotNull Slot<SelectMenu> subpageSelector = new Slot<>();
+    private final @NotNull Slot<ActionRow> subpageSelectorRow = new Slot<>();
+    private final @NotNull Slot<SelectMenu> editor = new Slot<>();
+    private final @NotNull Slot<ActionRow> editorRow = new Slot<>();
+
+    PaginationTemplate(@NotNull ConcurrentList<Button> buttons) {
+        this.buttons = buttons.toUnmodifiableList();
+        this.buttons.forEach(__ -> this.buttonSlots.add(new Slot<>()));
+    }
+
+    /**
+     * Renders the pagination buttons for the given item handler.
+     *
+     * @param itemHandler the item handler of the current page
+     * @return the pagination button row
+     */
+    public @NotNull ActionRow renderButtons(@NotNull ItemHandler<?> itemHandler) {
+        Button[] rendered = new Button[this.buttons.size()];
+
+        for (int i = 0; i < rendered.length; i++) {
+            Button button = this.buttons.get(i);
+            Boolean enabled = switch (button.getPageType()) {
+                case PREVIOUS -> itemHandler.hasPreviousItemPage();
+                case NEXT -> itemHandler.hasNextItemPage();
+                case SORT -> itemHandler.getSortHandler().notEmpty();
+                case FILTER -> itemHandler.getFilterHandler().notEmpty();
+                default -> null;
+            };
+            String label = button.getPageType() == Button.PageType.INDEX
+                ? String.format("%s / %s", itemHandler.getCurrentIndex(), itemHandler.getTotalPages())
+                : null;
+
+            rendered[i] = this.buttonSlots.get(i).render(new Object[] { enabled, label }, () -> {
+                Button.Builder builder = button.mutate();
+
+                if (enabled != null)
+                    builder.setEnabled(enabled);
+
+                if (label != null)
+                    builder.withLabel(label);
+
+                return builder.build();
+            });
+        }
+
+        return this.buttonRow.render(rendered, () -> ActionRow.of(rendered));
+    }
+
+    /**
+     * Renders the page selector, patching its selected option.
+     *
+     * @param key the state the options are built from
+     * @param selected the selected page identifier
+     * @param builder builds the page selector
+     * @return the page selector row
+     */
+    public @NotNull ActionRow renderPageSelector(@NotNull Object[] key, @NotNull String selected, @NotNull Supplier<SelectMenu> builder) {
+        SelectMenu selectMenu = this.pageSelector.render(key, builder);
+        selectMenu.updateSelected(selected);
+        return this.pageSelectorRow.render(new Object[] { selectMenu }, () -> ActionRow.of(selectMenu));
+    }
+
+    /**
+     * Renders the subpage selector.
+     *
+     * @param key the state the options are built from
+     * @param builder builds the subpage selector
+     * @return the subpage selector row
+     */
+    public @NotNull ActionRow renderSubpageSelector(@NotNull Object[] key, @NotNull Supplier<SelectMenu> builder) {
+        SelectMenu selectMenu = this.subpageSelector.render(key, builder);
+        return this.subpageSelectorRow.render(new Object[] { selectMenu }, () -> ActionRow.of(selectMenu));
+    }
+
+    /**
+     * Renders the item editor.
+     *
+     * @param key the state the options are built from
+     * @param builder builds the item editor
+     * @return the item editor row
+     */
+    public @NotNull ActionRow renderEditor(@NotNull Object[] key, @NotNull Supplier<SelectMenu> builder) {
+        SelectMenu selectMenu = this.editor.render(key, builder);
+        return this.editorRow.render(new Object[] { selectMenu }, () -> ActionRow.of(selectMenu));
+    }
+
+    private static final class Slot<C> {
+
+        private @Nullable Object[] key;
+        private @Nullable C component;
+
+        private @NotNull C render(@NotNull Object[] key, @NotNull Supplier<C> builder) {
+            if (this.component == null || !Arrays.equals(this.key, key)) {
+                this.component = builder.get();
+                this.key = key;
+            }
+
+            return this.component;
+        }
+
+    }
+
+}
@@ -2,12 +2,12 @@ package dev.sbs.discordapi.response.handler;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
 import dev.sbs.discordapi.component.interaction.TextInput;
 import dev.sbs.discordapi.response.page.item.field.FieldItem;
+import dev.sbs.discordapi.util.BuildFlags;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -23,13 +23,18 @@ import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 @Getter
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class Search<T> {
 
     private final @NotNull TextInput textInput; // TODO: Extract title/description and build label later
-    private final @NotNull ConcurrentList<BiPredicate<T, String>> predicates;
+    @Getter(AccessLevel.NONE)
+    private final @NotNull ConcurrentList<Function<String, Predicate<T>>> matchers;
+    @Getter(AccessLevel.NONE)
+    private final @NotNull ConcurrentList<Function<T, String>> indexedKeys;
     private @NotNull Optional<String> lastMatch = Optional.empty();
 
     public static <T> @NotNull Builder<T> builder() {
@@ -47,6 +52,33 @@ public class Search<T> {
         }
     }
 
+    /**
+     * Builds the prefix index of the indexed keys over the given items.
+     *
+     * @param items the items to index
+     * @return the built index
+     */
+    public @NotNull SearchIndex<T> buildIndex(@NotNull ConcurrentList<T> items) {
+        return SearchIndex.build(items, this.indexedKeys);
+    }
+
+    /**
+     * Compiles the search predicates for the given value.
+     *
+     * <p>
+     * Typed predicates parse the value once here rather than once per tested item.
+     *
+     * @param value the searched value
+     * @return a predicate matching items accepted by any search predicate
+     */
+    public @NotNull Predicate<T> compile(@NotNull String value) {
+        ConcurrentList<Predicate<T>> compiled = this.matchers.stream()
+            .map(matcher -> matcher.apply(value))
+            .collect(Concurrent.toList());
+
+        return item -> compiled.stream().anyMatch(predicate -> predicate.test(item));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -55,18 +87,70 @@ public class Search<T> {
         Search<?> search = (Search<?>) o;
 
         return Objects.equals(this.getTextInput(), search.getTextInput())
-            && Objects.equals(this.getPredicates(), search.getPredicates());
+            && Objects.equals(this.matchers, search.matchers)
+            && Objects.equals(this.indexedKeys, search.indexedKeys);
     }
 
     public static <T> @NotNull Builder<T> from(@NotNull Search<T> searcher) {
         return new Builder<T>()
             .withPlaceholder(searcher.getTextInput().getPlaceholder())
-            .withPredicates(searcher.getPredicates());
+            .withMatchers(searcher.matchers)
+            .withIndexedKeys(searcher.indexedKeys);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.getTextInput(), this.getPredicates());
+        return Objects.hash(this.getTextInput(), this.matchers, this.indexedKeys);
+    }
+
+    /**
+     * The search predicates, each compiling the searched value per tested item.
+     *
+     * @return the search predicates
+     * @deprecated use {@link #compile(String)}, which compiles the searched value once
+     */
+    @Deprecated
+    public @NotNull ConcurrentList<BiPredicate<T, String>> getPredicates() {
+        return this.matchers.stream()
+            .map(matcher -> (BiPredicate<T, String>) (item, value) -> matcher.apply(value).test(item))
+            .collect(Concurrent.toUnmodifiableList());
+    }
+
+    /**
+     * Finds the position of the first item matching the given value.
+     *
+     * <p>
+     * Indexed keys are resolved through the given prefix index, and predicates
+     * are only tested on the items before the first indexed match.
+     *
+     * @param items the items to search
+     * @param value the searched value
+     * @param index the {@link #buildIndex(ConcurrentList) prefix index} of the items, or null if this search has no indexed keys
+     * @return the first matching position, or -1 if none match
+     */
+    public int indexOf(@NotNull ConcurrentList<T> items, @NotNull String value, @Nullable SearchIndex<T> index) {
+        int first = index != null ? index.indexOf(value) : -1;
+
+        if (this.matchers.notEmpty()) {
+            Predicate<T> predicate = this.compile(value);
+            int limit = first == -1 ? items.size() : first;
+
+            for (int i = 0; i < limit; i++) {
+                if (predicate.test(items.get(i)))
+                    return i;
+            }
+        }
+
+        return first;
+    }
+
+    /**
+     * Whether this search has keys matched through a prefix index.
+     *
+     * @return {@code true} if indexed keys were added
+     */
+    public boolean isIndexed() {
+        return this.indexedKeys.notEmpty();
     }
 
     public @NotNull Builder<T> mutate() {
@@ -83,7 +167,40 @@ public class Search<T> {
         @BuildFlag(nonNull = true)
         private TextInput.Builder textInputBuilder = TextInput.builder().withSearchType(TextInput.SearchType.CUSTOM);
         @BuildFlag(nonNull = true)
-        private final ConcurrentList<BiPredicate<T, String>> predicates = Concurrent.newList();
+        private final ConcurrentList<Function<String, Predicate<T>>> matchers = Concurrent.newList();
+        @BuildFlag(nonNull = true)
+        private final ConcurrentList<Function<T, String>> indexedKeys = Concurrent.newList();
+
+        /**
+         * Add string keys for the {@link FieldItem FieldItems}, matched by prefix through an index.
+         *
+         * <p>
+         * Keys are matched case-insensitively, both whole and per word.
+         *
+         * @param keys A variable amount of key extractors.
+         */
+        @SafeVarargs
+        public final Builder<T> withIndexedKeys(@NotNull Function<T, String>... keys) {
+            return this.withIndexedKeys(Arrays.asList(keys));
+        }
+
+        /**
+         * Add string keys for the {@link FieldItem FieldItems}, matched by prefix through an index.
+         *
+         * <p>
+         * Keys are matched case-insensitively, both whole and per word.
+         *
+         * @param keys A variable amount of key extractors.
+         */
+        public Builder<T> withIndexedKeys(@NotNull Iterable<Function<T, String>> keys) {
+            keys.forEach(this.indexedKeys::add);
+            return this;
+        }
+
+        private Builder<T> withMatchers(@NotNull ConcurrentList<Function<String, Predicate<T>>> matchers) {
+            this.matchers.addAll(matchers);
+            return this;
+        }
 
         /**
          * Add custom search predicates for the {@link FieldItem FieldItems}.
@@ -100,7 +217,7 @@ public class Search<T> {
          * @param predicates A variable amount of predicates.
          */
         public Builder<T> withPredicates(@NotNull Iterable<BiPredicate<T, String>> predicates) {
-            predicates.forEach(this.predicates::add);
+            predicates.forEach(predicate -> this.matchers.add(value -> item -> predicate.test(item, value)));
             return this;
         }
 
@@ -119,7 +236,10 @@ public class Search<T> {
          * @param predicates A variable amount of predicates.
          */
         public <V extends Serializable> Builder<T> withPredicates(@NotNull Class<V> type, @NotNull Iterable<BiPredicate<T, V>> predicates) {
-            predicates.forEach(predicate -> this.predicates.add((t, value) -> predicate.test(t, Search.castSafely(type, value))));
+            predicates.forEach(predicate -> this.matchers.add(value -> {
+                V typedValue = Search.castSafely(type, value);
+                return item -> predicate.test(item, typedValue);
+            }));
             return this;
         }
 
@@ -154,11 +274,12 @@ public class Search<T> {
 
         @Override
         public @NotNull Search<T> build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Search<>(
                 this.textInputBuilder.withValue(Optional.empty()).build(),
-                this.predicates.toUnmodifiableList()
+                this.matchers.toUnmodifiableList(),
+                this.indexedKeys.toUnmodifiableList()
             );
         }
 
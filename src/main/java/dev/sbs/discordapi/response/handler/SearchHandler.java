@@ -16,6 +16,7 @@ public class SearchHandler<T> implements OutputHandler<Search<T>> {
     private final @NotNull ConcurrentList<Search<T>> items;
     private @NotNull Optional<Search<T>> pending = Optional.empty();
     private boolean cacheUpdateRequired;
+    private long version = VersionStamp.next();
 
     @Override
     public boolean equals(Object o) {
@@ -51,7 +52,9 @@ public class SearchHandler<T> implements OutputHandler<Search<T>> {
     public void setCacheUpdateRequired(boolean cacheUpdateRequired) {
         this.cacheUpdateRequired = cacheUpdateRequired;
 
-        if (!cacheUpdateRequired)
+        if (cacheUpdateRequired)
+            this.version = VersionStamp.next();
+        else
             this.pending = Optional.empty();
     }
 
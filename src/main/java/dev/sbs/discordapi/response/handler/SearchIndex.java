@@ -0,0 +1,144 @@
+package dev.sbs.discordapi.response.handler;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Prefix index over the string keys of a list of items.
+ *
+ * <p>
+ * Every key is lower-cased and indexed both whole and per whitespace separated
+ * token, so a query matches any key or key word it prefixes. The keys are held
+ * in a sorted array alongside the position of the item they came from, and a
+ * segment tree over those positions returns the first matching position of a
+ * prefix range, resolving a query in {@code O(log n)}.
+ *
+ * <p>
+ * Indexes are owned by the item handler searching its item list, as a
+ * {@link Search} is an immutable model shared between responses.
+ *
+ * @param <T> the item type
+ * @see Search.Builder#withIndexedKeys(Function[])
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SearchIndex<T> {
+
+    /** The items this index was built from. */
+    @Getter
+    private final @NotNull ConcurrentList<T> items;
+    private final @NotNull String[] keys;
+    private final int[] tree;
+
+    /**
+     * Builds a prefix index over the keys extracted from the given items.
+     *
+     * @param items the items to index
+     * @param extractors the key extractors, null keys are skipped
+     * @return the built index
+     * @param <T> the item type
+     */
+    public static <T> @NotNull SearchIndex<T> build(@NotNull ConcurrentList<T> items, @NotNull ConcurrentList<Function<T, String>> extractors) {
+        ConcurrentList<Entry> entries = Concurrent.newList();
+
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+
+            for (Function<T, String> extractor : extractors) {
+                String key = extractor.apply(item);
+
+                if (key == null)
+                    continue;
+
+                key = normalize(key);
+                entries.add(new Entry(key, i));
+
+                for (String token : key.split("\\s+")) {
+                    if (!token.isEmpty() && !token.equals(key))
+                        entries.add(new Entry(token, i));
+                }
+            }
+        }
+
+        Entry[] sorted = entries.toArray(new Entry[0]);
+        Arrays.sort(sorted, Comparator.comparing(Entry::getKey));
+        String[] keys = new String[sorted.length];
+        int[] tree = new int[sorted.length * 2];
+
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = sorted[i].getKey();
+            tree[sorted.length + i] = sorted[i].getPosition();
+        }
+
+        for (int i = sorted.length - 1; i > 0; i--)
+            tree[i] = Math.min(tree[2 * i], tree[2 * i + 1]);
+
+        return new SearchIndex<>(items, keys, tree);
+    }
+
+    /**
+     * Finds the first item position with a key or key word starting with the given query.
+     *
+     * @param query the query to look up
+     * @return the first matching position, or -1 if none match
+     */
+    public int indexOf(@NotNull String query) {
+        String prefix = normalize(query);
+
+        if (prefix.isEmpty())
+            return -1;
+
+        int from = this.lowerBound(prefix);
+        int to = this.lowerBound(prefix + Character.MAX_VALUE);
+        int first = Integer.MAX_VALUE;
+
+        // Segment Tree Range Minimum
+        for (int left = from + this.keys.length, right = to + this.keys.length; left < right; left >>= 1, right >>= 1) {
+            if ((left & 1) == 1)
+                first = Math.min(first, this.tree[left++]);
+
+            if ((right & 1) == 1)
+                first = Math.min(first, this.tree[--right]);
+        }
+
+        return first == Integer.MAX_VALUE ? -1 : first;
+    }
+
+    private int lowerBound(@NotNull String key) {
+        int low = 0;
+        int high = this.keys.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (this.keys[middle].compareTo(key) < 0)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+
+        return low;
+    }
+
+    private static @NotNull String normalize(@NotNull String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Entry {
+
+        private final @NotNull String key;
+        private final int position;
+
+    }
+
+}
@@ -2,7 +2,6 @@ package dev.sbs.discordapi.response.handler;
 
 import dev.sbs.api.collection.concurrent.ConcurrentList;
 import lombok.Getter;
-import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
@@ -12,12 +11,30 @@ import java.util.Optional;
 public class SortHandler<T> implements OutputHandler<Sorter<T>> {
 
     private final @NotNull ConcurrentList<Sorter<T>> items;
+    private final boolean lazy;
     private int currentSorterIndex = -1;
     private boolean reversed = false;
-    @Setter private boolean cacheUpdateRequired;
+    private boolean cacheUpdateRequired;
+    private long version = VersionStamp.next();
 
     public SortHandler(@NotNull ConcurrentList<Sorter<T>> items) {
+        this(items, false);
+    }
+
+    /**
+     * Creates a sort handler over the given sorters.
+     *
+     * <p>
+     * A lazy sort handler lets item handlers sort only the leading items
+     * needed for the pages viewed so far, completing the full sort once a
+     * deep page or a search requires it.
+     *
+     * @param items the available sorters
+     * @param lazy true to allow partial sorting
+     */
+    public SortHandler(@NotNull ConcurrentList<Sorter<T>> items, boolean lazy) {
         this.items = items;
+        this.lazy = lazy;
         this.gotoNext();
     }
 
@@ -29,13 +46,14 @@ public class SortHandler<T> implements OutputHandler<Sorter<T>> {
 
         return this.getCurrentSorterIndex() == that.getCurrentSorterIndex()
             && this.isReversed() == that.isReversed()
+            && this.isLazy() == that.isLazy()
             && this.isCacheUpdateRequired() == that.isCacheUpdateRequired()
             && Objects.equals(this.getItems(), that.getItems());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.getItems(), this.getCurrentSorterIndex(), this.isReversed(), this.isCacheUpdateRequired());
+        return Objects.hash(this.getItems(), this.getCurrentSorterIndex(), this.isReversed(), this.isLazy(), this.isCacheUpdateRequired());
     }
 
     public @NotNull Optional<Sorter<T>> getCurrent() {
@@ -58,4 +76,12 @@ public class SortHandler<T> implements OutputHandler<Sorter<T>> {
         this.setCacheUpdateRequired();
     }
 
+    @Override
+    public void setCacheUpdateRequired(boolean cacheUpdateRequired) {
+        this.cacheUpdateRequired = cacheUpdateRequired;
+
+        if (cacheUpdateRequired)
+            this.version = VersionStamp.next();
+    }
+
 }
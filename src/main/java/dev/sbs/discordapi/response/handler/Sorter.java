@@ -4,13 +4,13 @@ import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
 import dev.sbs.api.collection.concurrent.ConcurrentMap;
 import dev.sbs.api.collection.query.SortOrder;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
 import dev.sbs.discordapi.component.capability.UserInteractable;
 import dev.sbs.discordapi.component.interaction.RadioGroup;
 import dev.sbs.discordapi.response.page.item.Item;
+import dev.sbs.discordapi.util.BuildFlags;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,14 +21,30 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-
+import java.util.function.IntConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * A user-selectable sort applied to the items of an item handler.
+ *
+ * <p>
+ * The comparator chain is compiled once when the sorter is built. When every
+ * sort level was added through a key function ({@link Builder#withFunctions},
+ * {@link Builder#withLongFunctions} or {@link Builder#withDoubleFunctions}),
+ * each key is extracted once per item and the items are sorted on the cached
+ * keys, with primitive keys compared without boxing.
+ *
+ * @param <T> the item type
+ */
 @Getter
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -40,33 +56,155 @@ public class Sorter<T> implements BiFunction<ConcurrentList<T>, Boolean, Concurr
     private final boolean enabled;
     private final @NotNull ConcurrentMap<Comparator<? extends T>, SortOrder> comparators;
     private final @NotNull SortOrder order;
+    @Getter(AccessLevel.NONE)
+    private final @NotNull Comparator<T> comparator;
+    @Getter(AccessLevel.NONE)
+    private final @NotNull ConcurrentList<Level<T>> levels;
+    @Getter(AccessLevel.NONE)
+    private final boolean extracting;
 
     @Override
     public @NotNull ConcurrentList<T> apply(@NotNull ConcurrentList<T> list, @NotNull Boolean reversed) {
-        ConcurrentList<T> copy = Concurrent.newList(list).sorted((o1, o2) -> {
-            Iterator<Map.Entry<Comparator<? extends T>, SortOrder>> iterator = this.getComparators().iterator();
-            Map.Entry<Comparator<? extends T>, SortOrder> entry = iterator.next();
-            Comparator comparator = entry.getKey();
+        ConcurrentList<T> copy = ItemExecutor.execute(list.size(), parallel -> this.sort(list, parallel));
 
-            if (entry.getValue() == SortOrder.DESCENDING)
-                comparator = comparator.reversed();
+        // Reverse Results
+        if (reversed)
+            copy = copy.reversed();
 
-            while (iterator.hasNext()) {
-                entry = iterator.next();
-                comparator = comparator.thenComparing(entry.getKey());
+        return copy;
+    }
 
-                if (entry.getValue() == SortOrder.DESCENDING)
-                    comparator = comparator.reversed();
-            }
+    /**
+     * Partially sorts the given items, ordering only the first {@code limit} positions.
+     *
+     * <p>
+     * The first {@code limit} items are selected with a bounded heap in
+     * {@code O(n log limit)} and match the first {@code limit} items of
+     * {@link #apply(ConcurrentList, Boolean)} exactly, including ties. The
+     * remaining items follow in their original order.
+     *
+     * @param list the items to sort
+     * @param reversed true to reverse the results
+     * @param limit the number of leading positions to sort
+     * @return a partially sorted copy of the items
+     */
+    public @NotNull ConcurrentList<T> apply(@NotNull ConcurrentList<T> list, boolean reversed, int limit) {
+        if (limit >= list.size())
+            return this.apply(list, reversed);
 
-            return this.getOrder() == SortOrder.ASCENDING ? comparator.compare(o1, o2) : comparator.compare(o2, o1);
-        });
+        T[] items = (T[]) list.toArray();
+        Comparator<Integer> order = ItemExecutor.execute(items.length, parallel -> this.indexComparator(items, parallel))
+            .thenComparingInt(Integer::intValue); // Stable Ties
 
-        // Reverse Results
         if (reversed)
-            copy = copy.reversed();
+            order = order.reversed();
 
-        return copy;
+        // Keep the smallest items, evicting the current largest
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(1, limit), order.reversed());
+
+        for (int i = 0; i < items.length; i++) {
+            if (heap.size() < limit)
+                heap.offer(i);
+            else if (limit > 0 && order.compare(i, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(i);
+            }
+        }
+
+        Integer[] top = heap.toArray(new Integer[0]);
+        Arrays.sort(top, order);
+        boolean[] selected = new boolean[items.length];
+        ConcurrentList<T> sorted = Concurrent.newList();
+
+        for (Integer index : top) {
+            sorted.add(items[index]);
+            selected[index] = true;
+        }
+
+        for (int i = 0; i < items.length; i++) {
+            if (!selected[i])
+                sorted.add(items[i]);
+        }
+
+        return sorted;
+    }
+
+    /**
+     * Builds a comparator over indices into the given items, extracting the
+     * sort keys once when every level has a key function.
+     *
+     * @param items the items being sorted
+     * @param parallel true to extract the keys in parallel
+     * @return a comparator over item indices
+     */
+    private @NotNull Comparator<Integer> indexComparator(@NotNull T[] items, boolean parallel) {
+        if (!this.extracting)
+            return (i, j) -> this.comparator.compare(items[i], items[j]);
+
+        Column[] columns = new Column[this.levels.size()];
+
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = this.levels.get(i).extract(items, parallel);
+
+        return (i, j) -> {
+            for (Column column : columns) {
+                int result = column.compare(i, j);
+
+                if (result != 0)
+                    return result;
+            }
+
+            return 0;
+        };
+    }
+
+    /**
+     * Sorts the given items with the compiled comparator chain, or on keys
+     * extracted once per item when every level has a key function.
+     *
+     * @param list the items to sort
+     * @param parallel true to sort in parallel
+     * @return a sorted copy of the items
+     */
+    private @NotNull ConcurrentList<T> sort(@NotNull ConcurrentList<T> list, boolean parallel) {
+        if (this.extracting)
+            return this.sortByKeys(list, parallel);
+
+        if (!parallel)
+            return Concurrent.newList(list).sorted(this.comparator);
+
+        T[] items = (T[]) list.toArray();
+        Arrays.parallelSort(items, this.comparator);
+        return Concurrent.newList(Arrays.asList(items));
+    }
+
+    /**
+     * Sorts the given items on keys extracted once per item.
+     *
+     * @param list the items to sort
+     * @param parallel true to extract and sort in parallel
+     * @return a sorted copy of the items
+     */
+    private @NotNull ConcurrentList<T> sortByKeys(@NotNull ConcurrentList<T> list, boolean parallel) {
+        T[] items = (T[]) list.toArray();
+        Integer[] indices = new Integer[items.length];
+
+        for (int i = 0; i < indices.length; i++)
+            indices[i] = i;
+
+        Comparator<Integer> comparator = this.indexComparator(items, parallel);
+
+        if (parallel)
+            Arrays.parallelSort(indices, comparator);
+        else
+            Arrays.sort(indices, comparator);
+
+        ConcurrentList<T> sorted = Concurrent.newList();
+
+        for (Integer index : indices)
+            sorted.add(items[index]);
+
+        return sorted;
     }
 
     /**
@@ -109,6 +247,7 @@ public class Sorter<T> implements BiFunction<ConcurrentList<T>, Boolean, Concurr
             .withDescription(sorter.getDescription())
             .isEnabled(sorter.isEnabled())
             .withComparators(sorter.getComparators())
+            .withKeys(sorter.levels)
             .withOrder(sorter.getOrder());
     }
 
@@ -121,6 +260,114 @@ public class Sorter<T> implements BiFunction<ConcurrentList<T>, Boolean, Concurr
         return from(this);
     }
 
+    private static void forEachIndex(int size, boolean parallel, @NotNull IntConsumer action) {
+        IntStream range = IntStream.range(0, size);
+        (parallel ? range.parallel() : range).forEach(action);
+    }
+
+    /**
+     * Compares two items by their index into an extracted key column.
+     */
+    private interface Column {
+
+        int compare(int i, int j);
+
+    }
+
+    /**
+     * A key function extracted into a {@link Column} once per sort.
+     *
+     * @param <T> the item type
+     */
+    private interface Key<T> {
+
+        @NotNull Comparator<T> comparator();
+
+        @NotNull Column extract(@NotNull T[] items, boolean reversed, boolean parallel);
+
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class ObjectKey<T> implements Key<T> {
+
+        private final @NotNull Function<T, ? extends Comparable> function;
+
+        @Override
+        public @NotNull Comparator<T> comparator() {
+            return Comparator.comparing(this.function);
+        }
+
+        @Override
+        public @NotNull Column extract(@NotNull T[] items, boolean reversed, boolean parallel) {
+            Comparable[] keys = new Comparable[items.length];
+
+            forEachIndex(items.length, parallel, i -> keys[i] = this.function.apply(items[i]));
+
+            return reversed ? (i, j) -> keys[j].compareTo(keys[i]) : (i, j) -> keys[i].compareTo(keys[j]);
+        }
+
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class LongKey<T> implements Key<T> {
+
+        private final @NotNull ToLongFunction<T> function;
+
+        @Override
+        public @NotNull Comparator<T> comparator() {
+            return Comparator.comparingLong(this.function);
+        }
+
+        @Override
+        public @NotNull Column extract(@NotNull T[] items, boolean reversed, boolean parallel) {
+            long[] keys = new long[items.length];
+
+            forEachIndex(items.length, parallel, i -> keys[i] = this.function.applyAsLong(items[i]));
+
+            return reversed ? (i, j) -> Long.compare(keys[j], keys[i]) : (i, j) -> Long.compare(keys[i], keys[j]);
+        }
+
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class DoubleKey<T> implements Key<T> {
+
+        private final @NotNull ToDoubleFunction<T> function;
+
+        @Override
+        public @NotNull Comparator<T> comparator() {
+            return Comparator.comparingDouble(this.function);
+        }
+
+        @Override
+        public @NotNull Column extract(@NotNull T[] items, boolean reversed, boolean parallel) {
+            double[] keys = new double[items.length];
+
+            forEachIndex(items.length, parallel, i -> keys[i] = this.function.applyAsDouble(items[i]));
+
+            return reversed ? (i, j) -> Double.compare(keys[j], keys[i]) : (i, j) -> Double.compare(keys[i], keys[j]);
+        }
+
+    }
+
+    /**
+     * A compiled sort level with its effective direction.
+     *
+     * @param <T> the item type
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Level<T> {
+
+        private final @NotNull Comparator<T> comparator;
+        private final @Nullable Key<T> key;
+        private final boolean reversed;
+
+        public @NotNull Column extract(@NotNull T[] items, boolean parallel) {
+            return this.key.extract(items, this.reversed, parallel);
+        }
+
+    }
+
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static class Builder<T> implements ClassBuilder<Sorter<T>> {
 
@@ -131,6 +378,7 @@ public class Sorter<T> implements BiFunction<ConcurrentList<T>, Boolean, Concurr
         private boolean enabled = false;
         @BuildFlag(nonNull = true)
         private final ConcurrentMap<Comparator<? extends T>, SortOrder> comparators = Concurrent.newMap();
+        private final ConcurrentMap<Comparator<? extends T>, Key<T>> keys = Concurrent.newMap();
         @BuildFlag(nonNull = true)
         private SortOrder order = SortOrder.DESCENDING;
 
@@ -209,6 +457,20 @@ public class Sorter<T> implements BiFunction<ConcurrentList<T>, Boolean, Concurr
             return this;
         }
 
+        private Builder<T> withKey(@NotNull SortOrder order, @NotNull Key<T> key) {
+            Comparator<T> comparator = key.comparator();
+            this.comparators.put(comparator, order);
+            this.keys.put(comparator, key);
+            return this;
+        }
+
+        private Builder<T> withKeys(@NotNull ConcurrentList<Level<T>> levels) {
+            levels.stream()
+                .filter(level -> level.key != null)
+                .forEach(level -> this.keys.put(level.comparator, level.key));
+            return this;
+        }
+
         private Builder<T> withComparators(@NotNull ConcurrentMap<Comparator<? extends T>, SortOrder> comparators) {
             this.comparators.putAll(comparators);
             return this;
@@ -280,7 +542,71 @@ public class Sorter<T> implements BiFunction<ConcurrentList<T>, Boolean, Concurr
          * @param order how the comparators are sorted
          */
         public Builder<T> withFunctions(@NotNull SortOrder order, @NotNull Iterable<Function<T, ? extends Comparable>> functions) {
-            functions.forEach(function -> this.comparators.put(Comparator.comparing(function), order));
+            functions.forEach(function -> this.withKey(order, new ObjectKey<>(function)));
+            return this;
+        }
+
+        /**
+         * Add custom primitive {@code long} sort functions for the {@link Item FieldItems}.
+         *
+         * @param functions a variable amount of sort functions
+         */
+        @SafeVarargs
+        public final Builder<T> withLongFunctions(@NotNull ToLongFunction<T>... functions) {
+            return this.withLongFunctions(SortOrder.DESCENDING, functions);
+        }
+
+        /**
+         * Add custom primitive {@code long} sort functions for the {@link Item FieldItems}.
+         *
+         * @param functions a variable amount of sort functions
+         * @param order how the comparators are sorted
+         */
+        @SafeVarargs
+        public final Builder<T> withLongFunctions(@NotNull SortOrder order, @NotNull ToLongFunction<T>... functions) {
+            return this.withLongFunctions(order, Arrays.asList(functions));
+        }
+
+        /**
+         * Add custom primitive {@code long} sort functions for the {@link Item FieldItems}.
+         *
+         * @param functions a collection of sort functions
+         * @param order how the comparators are sorted
+         */
+        public Builder<T> withLongFunctions(@NotNull SortOrder order, @NotNull Iterable<ToLongFunction<T>> functions) {
+            functions.forEach(function -> this.withKey(order, new LongKey<>(function)));
+            return this;
+        }
+
+        /**
+         * Add custom primitive {@code double} sort functions for the {@link Item FieldItems}.
+         *
+         * @param functions a variable amount of sort functions
+         */
+        @SafeVarargs
+        public final Builder<T> withDoubleFunctions(@NotNull ToDoubleFunction<T>... functions) {
+            return this.withDoubleFunctions(SortOrder.DESCENDING, functions);
+        }
+
+        /**
+         * Add custom primitive {@code double} sort functions for the {@link Item FieldItems}.
+         *
+         * @param functions a variable amount of sort functions
+         * @param order how the comparators are sorted
+         */
+        @SafeVarargs
+        public final Builder<T> withDoubleFunctions(@NotNull SortOrder order, @NotNull ToDoubleFunction<T>... functions) {
+            return this.withDoubleFunctions(order, Arrays.asList(functions));
+        }
+
+        /**
+         * Add custom primitive {@code double} sort functions for the {@link Item FieldItems}.
+         *
+         * @param functions a collection of sort functions
+         * @param order how the comparators are sorted
+         */
+        public Builder<T> withDoubleFunctions(@NotNull SortOrder order, @NotNull Iterable<ToDoubleFunction<T>> functions) {
+            functions.forEach(function -> this.withKey(order, new DoubleKey<>(function)));
             return this;
         }
 
@@ -330,7 +656,32 @@ public class Sorter<T> implements BiFunction<ConcurrentList<T>, Boolean, Concurr
 
         @Override
         public @NotNull Sorter<T> build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
+
+            // Each descending level reverses the chain built so far, so a level's
+            // effective direction depends on every level added after it
+            ConcurrentList<Map.Entry<Comparator<? extends T>, SortOrder>> entries = Concurrent.newList(this.comparators.entrySet());
+            ConcurrentList<Level<T>> levels = Concurrent.newList();
+            boolean reversed = this.order == SortOrder.DESCENDING;
+            boolean extractable = true;
+
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                Map.Entry<Comparator<? extends T>, SortOrder> entry = entries.get(i);
+                reversed ^= entry.getValue() == SortOrder.DESCENDING;
+                Key<T> key = this.keys.get(entry.getKey());
+                extractable &= key != null;
+                levels.add(0, new Level<>((Comparator<T>) entry.getKey(), key, reversed));
+            }
+
+            Comparator<T> comparator = null;
+
+            for (Level<T> level : levels) {
+                Comparator<T> next = level.reversed ? level.comparator.reversed() : level.comparator;
+                comparator = comparator == null ? next : comparator.thenComparing(next);
+            }
+
+            if (comparator == null)
+                comparator = (o1, o2) -> 0;
 
             return new Sorter<>(
                 this.identifier,
@@ -338,7 +689,10 @@ public class Sorter<T> implements BiFunction<ConcurrentList<T>, Boolean, Concurr
                 this.description,
                 this.enabled,
                 this.comparators.toUnmodifiableMap(),
-                this.order
+                this.order,
+                comparator,
+                levels.toUnmodifiableList(),
+                extractable && levels.notEmpty()
             );
         }
 
@@ -0,0 +1,30 @@
+package dev.sbs.discordapi.response.handler;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Source of globally increasing version stamps for {@link OutputHandler} state.
+ *
+ * <p>
+ * Every handler draws a new stamp from this sequence whenever its state changes,
+ * so the maximum stamp across a group of handlers also increases whenever any
+ * one of them changes, regardless of which handlers are grouped together.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VersionStamp {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * Returns a new version stamp greater than every previously returned stamp.
+     *
+     * @return the next version stamp
+     */
+    public static long next() {
+        return SEQUENCE.incrementAndGet();
+    }
+
+}
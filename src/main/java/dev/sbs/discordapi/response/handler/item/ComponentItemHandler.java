@@ -4,9 +4,7 @@ import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
 import dev.sbs.api.collection.concurrent.ConcurrentMap;
 import dev.sbs.api.function.TriFunction;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.tuple.pair.Pair;
-import dev.sbs.api.tuple.triple.Triple;
 import dev.sbs.api.util.NumberUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
@@ -15,16 +13,27 @@ import dev.sbs.discordapi.component.layout.Section;
 import dev.sbs.discordapi.component.scope.ContainerComponent;
 import dev.sbs.discordapi.response.handler.Filter;
 import dev.sbs.discordapi.response.handler.FilterHandler;
+import dev.sbs.discordapi.response.handler.ItemExecutor;
 import dev.sbs.discordapi.response.handler.Search;
 import dev.sbs.discordapi.response.handler.SearchHandler;
+import dev.sbs.discordapi.response.handler.SearchIndex;
 import dev.sbs.discordapi.response.handler.SortHandler;
 import dev.sbs.discordapi.response.handler.Sorter;
+import dev.sbs.discordapi.response.handler.VersionStamp;
+import dev.sbs.discordapi.util.BuildFlags;
+import dev.sbs.discordapi.util.SharedList;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.stream.IntStream;
 
 /**
  * An {@link ItemHandler} implementation that renders items as {@link Section Sections}
@@ -43,11 +52,16 @@ import java.util.function.BiFunction;
 public final class ComponentItemHandler<T> implements ItemHandler<T> {
 
     private final @NotNull ConcurrentList<T> items;
+    private final @NotNull Optional<ItemSource<T>> source;
     private final @NotNull ConcurrentList<ContainerComponent> staticItems;
     private final @NotNull ConcurrentMap<String, Object> variables;
     private final @NotNull TriFunction<T, Long, Long, Section> transformer;
+    private final @NotNull Optional<TriFunction<T, Long, Long, Mono<Section>>> asyncTransformer;
+    private final @NotNull Optional<TriFunction<ConcurrentList<T>, Long, Long, Mono<ConcurrentList<Section>>>> batchTransformer;
+    private final @NotNull Duration transformTimeout;
     private final @NotNull BiFunction<ContainerComponent, ConcurrentMap<String, Object>, ContainerComponent> staticItemApplier;
     private final boolean editorEnabled;
+    private final boolean prefetching;
     private final int amountPerPage;
 
     // Handlers
@@ -58,28 +72,48 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
     // Caching
     private int currentIndex = 1;
     private boolean cacheUpdateRequired = true;
+    private long version = VersionStamp.next();
     private ConcurrentList<T> cachedFilteredItems = Concurrent.newUnmodifiableList();
+    private final ItemIndex<T> itemIndex = new ItemIndex<>();
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<Search<T>, SearchIndex<T>> searchIndexes = Concurrent.newMap();
+    private long itemsVersion = VersionStamp.next();
+    private long filteredVersion = -1;
+    private final ItemWindow<T> itemWindow = new ItemWindow<>();
+    private final PagePrefetch<Section> pagePrefetch = new PagePrefetch<>();
     private ConcurrentList<ContainerComponent> cachedStaticItems = Concurrent.newUnmodifiableList();
+    private long cachedStaticVersion = -1;
     private ConcurrentList<Section> cachedSections = Concurrent.newUnmodifiableList();
+    private long cachedSectionsVersion = -1;
 
     private ComponentItemHandler(
         @NotNull ConcurrentList<T> items,
+        @NotNull Optional<ItemSource<T>> source,
         @NotNull ConcurrentList<ContainerComponent> staticItems,
         @NotNull ConcurrentMap<String, Object> variables,
         @NotNull TriFunction<T, Long, Long, Section> transformer,
+        @NotNull Optional<TriFunction<T, Long, Long, Mono<Section>>> asyncTransformer,
+        @NotNull Optional<TriFunction<ConcurrentList<T>, Long, Long, Mono<ConcurrentList<Section>>>> batchTransformer,
+        @NotNull Duration transformTimeout,
         @NotNull BiFunction<ContainerComponent, ConcurrentMap<String, Object>, ContainerComponent> staticItemApplier,
         boolean editorEnabled,
+        boolean prefetching,
         int amountPerPage,
         @NotNull SortHandler<T> sortHandler,
         @NotNull FilterHandler<T> filterHandler,
         @NotNull SearchHandler<T> searchHandler
     ) {
         this.items = items;
+        this.source = source;
         this.staticItems = staticItems;
         this.variables = variables;
         this.transformer = transformer;
+        this.asyncTransformer = asyncTransformer;
+        this.batchTransformer = batchTransformer;
+        this.transformTimeout = transformTimeout;
         this.staticItemApplier = staticItemApplier;
         this.editorEnabled = editorEnabled;
+        this.prefetching = prefetching;
         this.amountPerPage = amountPerPage;
         this.sortHandler = sortHandler;
         this.filterHandler = filterHandler;
@@ -98,8 +132,10 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
         ComponentItemHandler<?> that = (ComponentItemHandler<?>) o;
 
         return Objects.equals(this.getItems(), that.getItems())
+            && Objects.equals(this.getSource(), that.getSource())
             && Objects.equals(this.getVariables(), that.getVariables())
             && this.isEditorEnabled() == that.isEditorEnabled()
+            && this.isPrefetching() == that.isPrefetching()
             && this.getAmountPerPage() == that.getAmountPerPage()
             && Objects.equals(this.getSortHandler(), that.getSortHandler())
             && Objects.equals(this.getFilterHandler(), that.getFilterHandler())
@@ -109,17 +145,31 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
     }
 
     public static <T> @NotNull Builder<T> from(@NotNull ComponentItemHandler<T> handler) {
-        return new Builder<T>()
-            .withItems(handler.getItems())
-            .withStaticItems(handler.staticItems)
+        Builder<T> builder = new Builder<T>()
+            .withSource(handler.getSource())
             .withVariables(handler.getVariables())
             .withTransformer(handler.getTransformer())
+            .withAsyncTransformer(handler.getAsyncTransformer())
+            .withBatchTransformer(handler.getBatchTransformer())
+            .withTransformTimeout(handler.getTransformTimeout())
             .withStaticItemApplier(handler.staticItemApplier)
             .isEditorEnabled(handler.isEditorEnabled())
+            .isLazySorting(handler.getSortHandler().isLazy())
+            .isPrefetching(handler.isPrefetching())
             .withAmountPerPage(handler.getAmountPerPage())
             .withSorters(handler.getSortHandler().getItems())
             .withFilters(handler.getFilterHandler().getItems())
             .withSearch(handler.getSearchHandler().getItems());
+
+        // Structurally Share Unmodified Lists
+        builder.items.share(handler.getItems());
+        builder.staticItems.share(handler.staticItems);
+        return builder;
+    }
+
+    /** The asynchronous source of the items, replacing the item list when present. */
+    public @NotNull Optional<ItemSource<T>> getSource() {
+        return this.source;
     }
 
     /** The transformer used to convert items into sections. */
@@ -127,6 +177,21 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
         return this.transformer;
     }
 
+    /** The asynchronous transformer used to convert items into sections, falling back to the transformer. */
+    public @NotNull Optional<TriFunction<T, Long, Long, Mono<Section>>> getAsyncTransformer() {
+        return this.asyncTransformer;
+    }
+
+    /** The batch transformer used to convert every visible item of a page into sections at once. */
+    public @NotNull Optional<TriFunction<ConcurrentList<T>, Long, Long, Mono<ConcurrentList<Section>>>> getBatchTransformer() {
+        return this.batchTransformer;
+    }
+
+    /** How long the asynchronous and batch transformers may take before falling back to the transformer. */
+    public @NotNull Duration getTransformTimeout() {
+        return this.transformTimeout;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -137,7 +202,11 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
      */
     @Override
     public @NotNull ConcurrentList<ContainerComponent> getCachedStaticItems() {
-        if (this.isCacheUpdateRequired()) {
+        long version = this.getVersion();
+
+        // Keyed on the version, the flags may be cleared before a coalesced edit renders
+        if (this.isCacheUpdateRequired() || this.cachedStaticVersion != version) {
+            this.cachedStaticVersion = version;
             this.cachedStaticItems = this.staticItems.stream()
                 .map(item -> this.staticItemApplier.apply(item, this.getVariables()))
                 .collect(Concurrent.toUnmodifiableList());
@@ -152,35 +221,50 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
      * @return the cached sections
      */
     public @NotNull ConcurrentList<Section> getCachedSections() {
-        if (this.isCacheUpdateRequired()) {
-            ConcurrentList<T> filteredItems = this.getFilteredItems();
-            ConcurrentList<Section> filteredSections = filteredItems.indexedStream()
-                .collapseToSingle(this.transformer)
-                .filter(Objects::nonNull)
-                .collect(Concurrent.toUnmodifiableList());
-
-            // Custom Search
-            this.getSearchHandler()
-                .getPending()
-                .flatMap(search -> filteredItems.indexedStream()
-                    .filter((item, index, size) -> search.getPredicates()
-                        .stream()
-                        .anyMatch(predicate -> predicate.test(item, search.getLastMatch().orElseThrow()))
-                    )
-                    .map(Triple::getMiddle)
-                    .findFirst()
-                )
-                .filter(index -> index > -1)
-                .map(index -> Math.ceil((double) index / this.getAmountPerPage()))
-                .map(Double::intValue)
-                .map(index -> NumberUtil.ensureRange(index, 1, filteredSections.size()))
-                .ifPresent(index -> this.currentIndex = index);
-
-            int startIndex = (this.getCurrentIndex() - 1) * this.getAmountPerPage();
-            int endIndex = Math.min(startIndex + this.getAmountPerPage(), filteredSections.size());
-            this.cachedSections = filteredSections.subList(startIndex, endIndex);
-
-            this.variables.put("FILTERED_SIZE", filteredSections.size());
+        long version = this.getVersion();
+
+        // Keyed on the version, the flags may be cleared before a coalesced edit renders
+        if (this.isCacheUpdateRequired() || this.cachedSectionsVersion != version) {
+            this.cachedSectionsVersion = version;
+            ConcurrentList<T> pageItems;
+            int startIndex;
+            int size;
+
+            // Transform Current Page Only
+            if (this.getSource().isPresent()) {
+                // Loaded Window, adjacent pages are not on the heap and are never prefetched
+                pageItems = this.itemWindow.getItems();
+                startIndex = (int) this.itemWindow.getOffset();
+                size = (int) this.itemWindow.getCount();
+                this.cachedSections = this.pagePrefetch.render(
+                    this.getFilteredVersion(),
+                    startIndex / this.getAmountPerPage() + 1,
+                    0,
+                    false,
+                    page -> this.transform(pageItems, startIndex, size),
+                    page -> this.transformAsync(pageItems, startIndex, size)
+                );
+            } else {
+                // Load Filtered Items
+                ConcurrentList<T> filteredItems = this.getFilteredItems();
+                this.gotoPendingSearch(filteredItems);
+
+                size = filteredItems.size();
+                startIndex = this.getPageStart(this.getCurrentIndex(), size);
+                pageItems = this.getPageItems(filteredItems, this.getCurrentIndex());
+                this.cachedSections = this.pagePrefetch.render(
+                    this.filteredVersion,
+                    this.getCurrentIndex(),
+                    NumberUtil.roundUp((double) size / this.getAmountPerPage(), 1),
+                    this.isPrefetching(),
+                    page -> this.transform(this.getPageItems(filteredItems, page), this.getPageStart(page, size), size),
+                    page -> this.transformAsync(this.getPageItems(filteredItems, page), this.getPageStart(page, size), size)
+                );
+            }
+
+            int endIndex = startIndex + pageItems.size();
+
+            this.variables.put("FILTERED_SIZE", size);
             this.variables.put("CACHED_SIZE", this.cachedSections.size());
             this.variables.put("START_INDEX", startIndex);
             this.variables.put("END_INDEX", endIndex);
@@ -223,6 +307,11 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
         return this.editorEnabled;
     }
 
+    /** Whether the pages adjacent to the current page are rendered in the background. */
+    public boolean isPrefetching() {
+        return this.prefetching;
+    }
+
     @Override
     public @NotNull SortHandler<T> getSortHandler() {
         return this.sortHandler;
@@ -240,24 +329,84 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
 
     @Override
     public @NotNull ConcurrentList<T> getCachedFilteredItems() {
-        return this.cachedFilteredItems;
+        return this.getSource().isPresent() ? this.itemWindow.getItems() : this.getFilteredItems(Integer.MAX_VALUE);
+    }
+
+    private @Nullable SearchIndex<T> getSearchIndex(@NotNull Search<T> search, @NotNull ConcurrentList<T> filteredItems) {
+        if (!search.isIndexed())
+            return null;
+
+        return this.searchIndexes.compute(search, (__, index) -> index == null || index.getItems() != filteredItems ? search.buildIndex(filteredItems) : index);
     }
 
     private @NotNull ConcurrentList<T> getFilteredItems() {
-        if (this.isCacheUpdateRequired()) {
-            this.cachedFilteredItems = this.getSortHandler()
-                .getCurrent()
-                .map(sorter -> sorter.apply(this.getItems(), this.getSortHandler().isReversed()))
-                .orElse(this.getItems())
-                .indexedStream()
-                .filter((t, index, size) -> this.getFilterHandler()
-                    .getItems()
-                    .stream()
-                    .allMatch(filter -> filter.test(t, index, size))
+        // Searches can match any item, pages only need the items up to their end, or the next page's end when prefetching
+        return this.getFilteredItems(
+            this.getSearchHandler().getPending().isPresent() ? Integer.MAX_VALUE : (this.getCurrentIndex() + (this.isPrefetching() ? 1 : 0)) * this.getAmountPerPage()
+        );
+    }
+
+    private @NotNull ConcurrentList<T> getPageItems(@NotNull ConcurrentList<T> filteredItems, int page) {
+        int startIndex = this.getPageStart(page, filteredItems.size());
+        return filteredItems.subList(startIndex, Math.min(startIndex + this.getAmountPerPage(), filteredItems.size()));
+    }
+
+    private int getPageStart(int page, int size) {
+        return Math.min((page - 1) * this.getAmountPerPage(), size);
+    }
+
+    private void gotoPendingSearch(@NotNull ConcurrentList<T> filteredItems) {
+        this.getSearchHandler()
+            .getPending()
+            .map(search -> search.indexOf(filteredItems, search.getLastMatch().orElseThrow(), this.getSearchIndex(search, filteredItems)))
+            .filter(index -> index > -1)
+            .map(index -> index / this.getAmountPerPage() + 1)
+            .map(index -> NumberUtil.ensureRange(index, 1, Math.max(1, this.getTotalPages())))
+            .ifPresent(index -> this.currentIndex = index);
+    }
+
+    private @NotNull ConcurrentList<Section> transform(@NotNull ConcurrentList<T> pageItems, int startIndex, int size) {
+        return ItemExecutor.execute(pageItems.size(), parallel -> {
+            IntStream range = IntStream.range(0, pageItems.size());
+
+            return (parallel ? range.parallel() : range)
+                .mapToObj(offset -> this.transformer.apply(pageItems.get(offset), (long) (startIndex + offset), (long) size))
+                .filter(Objects::nonNull)
+                .collect(Concurrent.toUnmodifiableList());
+        });
+    }
+
+    private @NotNull Mono<ConcurrentList<Section>> transformAsync(@NotNull ConcurrentList<T> pageItems, int startIndex, int size) {
+        if (this.getBatchTransformer().isPresent()) {
+            return this.getBatchTransformer()
+                .get()
+                .apply(pageItems, (long) startIndex, (long) size)
+                .map(ConcurrentList::toUnmodifiableList)
+                .timeout(this.getTransformTimeout())
+                .onErrorResume(throwable -> Mono.empty())
+                .switchIfEmpty(Mono.fromSupplier(() -> this.transform(pageItems, startIndex, size)));
+        }
+
+        if (this.getAsyncTransformer().isPresent()) {
+            TriFunction<T, Long, Long, Mono<Section>> asyncTransformer = this.getAsyncTransformer().get();
+
+            return Flux.range(0, pageItems.size())
+                .flatMapSequential(offset -> asyncTransformer.apply(pageItems.get(offset), (long) (startIndex + offset), (long) size)
+                    .timeout(this.getTransformTimeout())
+                    .onErrorResume(throwable -> Mono.justOrEmpty(this.transformer.apply(pageItems.get(offset), (long) (startIndex + offset), (long) size)))
                 )
-                .map(Triple::getLeft)
                 .collect(Concurrent.toUnmodifiableList());
+        }
+
+        return Mono.fromSupplier(() -> this.transform(pageItems, startIndex, size));
+    }
 
+    private @NotNull ConcurrentList<T> getFilteredItems(int depth) {
+        long filteredVersion = this.getFilteredVersion();
+
+        if (this.filteredVersion != filteredVersion || this.itemIndex.isStale(this.getItems()) || this.itemIndex.getOrderedDepth() < depth) {
+            this.cachedFilteredItems = this.itemIndex.apply(this.getItems(), this.itemsVersion, this.getSortHandler(), this.getFilterHandler(), depth);
+            this.filteredVersion = filteredVersion;
             this.variables.put("TOTAL_SIZE", this.getItems().size());
         }
 
@@ -274,15 +423,28 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
         return this.getCurrentIndex();
     }
 
+    private int getFilteredSize() {
+        return this.getSource().isPresent() ? (int) this.itemWindow.getCount() : this.getFilteredItems().size();
+    }
+
+    private long getFilteredVersion() {
+        // Only item, sort and filter changes require re-filtering, page navigation does not
+        return Math.max(
+            this.itemsVersion,
+            Math.max(this.getSortHandler().getVersion(), this.getFilterHandler().getVersion())
+        );
+    }
+
     @Override
     public int getTotalPages() {
-        return NumberUtil.roundUp((double) this.getFilteredItems().size() / this.getAmountPerPage(), 1);
+        return NumberUtil.roundUp((double) this.getFilteredSize() / this.getAmountPerPage(), 1);
     }
 
     @Override
     public void gotoPage(@NotNull Integer index) {
-        this.currentIndex = NumberUtil.ensureRange(index, 1, this.getFilteredItems().size());
-        this.setCacheUpdateRequired();
+        this.currentIndex = NumberUtil.ensureRange(index, 1, this.getFilteredSize());
+        this.cacheUpdateRequired = true;
+        this.version = VersionStamp.next();
     }
 
     @Override
@@ -307,7 +469,7 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.getItems(), this.getVariables(), this.isEditorEnabled(), this.getAmountPerPage(), this.getSortHandler(), this.getFilterHandler(), this.getSearchHandler(), this.isCacheUpdateRequired(), this.getCurrentIndex());
+        return Objects.hash(this.getItems(), this.getSource(), this.getVariables(), this.isEditorEnabled(), this.isPrefetching(), this.getAmountPerPage(), this.getSortHandler(), this.getFilterHandler(), this.getSearchHandler(), this.isCacheUpdateRequired(), this.getCurrentIndex());
     }
 
     @Override
@@ -320,6 +482,17 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
         return this.currentIndex > 1;
     }
 
+    @Override
+    public long getVersion() {
+        return Math.max(
+            this.version,
+            Math.max(
+                this.getSortHandler().getVersion(),
+                Math.max(this.getFilterHandler().getVersion(), this.getSearchHandler().getVersion())
+            )
+        );
+    }
+
     @Override
     public boolean isCacheUpdateRequired() {
         return this.cacheUpdateRequired ||
@@ -328,13 +501,97 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
             this.getSearchHandler().isCacheUpdateRequired();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Counts the matching items and fetches the current page window from the
+     * {@link ItemSource}, if present, clamping the current page to the count.
+     * The current page is then transformed by the asynchronous or batch
+     * transformer, if present, falling back to the transformer on error or
+     * timeout.
+     */
+    @Override
+    public @NotNull Mono<Void> load() {
+        return Mono.justOrEmpty(this.getSource())
+            .flatMap(source -> {
+                long filteredVersion = this.getFilteredVersion();
+                ConcurrentList<Filter<T>> filters = this.getFilterHandler()
+                    .getItems()
+                    .stream()
+                    .filter(Filter::isEnabled)
+                    .collect(Concurrent.toUnmodifiableList());
+
+                return this.itemWindow.count(source, filteredVersion, filters)
+                    .flatMap(count -> {
+                        int totalPages = NumberUtil.roundUp((double) count / this.getAmountPerPage(), 1);
+                        this.currentIndex = NumberUtil.ensureRange(this.currentIndex, 1, Math.max(1, totalPages));
+                        long offset = (long) (this.currentIndex - 1) * this.getAmountPerPage();
+                        return this.itemWindow.fetch(source, filteredVersion, offset, this.getAmountPerPage(), this.getSortHandler(), filters);
+                    });
+            })
+            .filter(Boolean::booleanValue)
+            .doOnNext(loaded -> {
+                this.cacheUpdateRequired = true;
+                this.version = VersionStamp.next();
+            })
+            .then(Mono.defer(this::loadPage));
+    }
+
+    private @NotNull Mono<Void> loadPage() {
+        if (this.getAsyncTransformer().isEmpty() && this.getBatchTransformer().isEmpty())
+            return Mono.empty();
+
+        if (this.getSource().isPresent()) {
+            ConcurrentList<T> pageItems = this.itemWindow.getItems();
+            int startIndex = (int) this.itemWindow.getOffset();
+            int size = (int) this.itemWindow.getCount();
+
+            return this.pagePrefetch.load(
+                this.getFilteredVersion(),
+                startIndex / this.getAmountPerPage() + 1,
+                page -> this.transformAsync(pageItems, startIndex, size)
+            );
+        }
+
+        ConcurrentList<T> filteredItems = this.getFilteredItems();
+        this.gotoPendingSearch(filteredItems);
+
+        return this.pagePrefetch.load(
+            this.filteredVersion,
+            this.getCurrentIndex(),
+            page -> this.transformAsync(this.getPageItems(filteredItems, page), this.getPageStart(page, filteredItems.size()), filteredItems.size())
+        );
+    }
+
     public @NotNull Builder<T> mutate() {
         return from(this);
     }
 
+    @Override
+    public void releaseCache() {
+        this.cachedFilteredItems = Concurrent.newUnmodifiableList();
+        this.itemIndex.clear();
+        this.itemWindow.clear();
+        this.pagePrefetch.clear();
+        this.searchIndexes.clear();
+        this.filteredVersion = -1;
+        this.cachedStaticItems = Concurrent.newUnmodifiableList();
+        this.cachedStaticVersion = -1;
+        this.cachedSections = Concurrent.newUnmodifiableList();
+        this.cachedSectionsVersion = -1;
+        this.cacheUpdateRequired = true;
+    }
+
     @Override
     public void setCacheUpdateRequired(boolean cacheUpdateRequired) {
         this.cacheUpdateRequired = cacheUpdateRequired;
+
+        if (cacheUpdateRequired) {
+            this.version = VersionStamp.next();
+            this.itemsVersion = this.version;
+        }
+
         this.getSortHandler().setCacheUpdateRequired(cacheUpdateRequired);
         this.getFilterHandler().setCacheUpdateRequired(cacheUpdateRequired);
         this.getSearchHandler().setCacheUpdateRequired(cacheUpdateRequired);
@@ -342,17 +599,24 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
 
     public static class Builder<T> implements ClassBuilder<ComponentItemHandler<T>> {
 
-        private final ConcurrentList<T> items = Concurrent.newList();
-        private final ConcurrentList<ContainerComponent> staticItems = Concurrent.newList();
+        private final SharedList<T> items = new SharedList<>();
+        private Optional<ItemSource<T>> source = Optional.empty();
+        private final SharedList<ContainerComponent> staticItems = new SharedList<>();
         private final ConcurrentList<Sorter<T>> sorters = Concurrent.newList();
         private final ConcurrentList<Filter<T>> filters = Concurrent.newList();
         private final ConcurrentList<Search<T>> searchers = Concurrent.newList();
         private final ConcurrentMap<String, Object> variables = Concurrent.newMap();
         @BuildFlag(nonNull = true)
         private TriFunction<T, Long, Long, Section> transformer = (t, index, size) -> Section.builder().build();
+        private Optional<TriFunction<T, Long, Long, Mono<Section>>> asyncTransformer = Optional.empty();
+        private Optional<TriFunction<ConcurrentList<T>, Long, Long, Mono<ConcurrentList<Section>>>> batchTransformer = Optional.empty();
+        @BuildFlag(nonNull = true)
+        private Duration transformTimeout = Duration.ofSeconds(2);
         @BuildFlag(nonNull = true)
         private BiFunction<ContainerComponent, ConcurrentMap<String, Object>, ContainerComponent> staticItemApplier = (component, vars) -> component;
         private boolean editorEnabled = false;
+        private boolean lazySorting = false;
+        private boolean prefetching = false;
         private int amountPerPage = 12;
 
         private Builder() {}
@@ -371,6 +635,24 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
             return this;
         }
 
+        public Builder<T> isLazySorting() {
+            return this.isLazySorting(true);
+        }
+
+        public Builder<T> isLazySorting(boolean value) {
+            this.lazySorting = value;
+            return this;
+        }
+
+        public Builder<T> isPrefetching() {
+            return this.isPrefetching(true);
+        }
+
+        public Builder<T> isPrefetching(boolean value) {
+            this.prefetching = value;
+            return this;
+        }
+
         public Builder<T> withAmountPerPage(int amountPerPage) {
             this.amountPerPage = NumberUtil.ensureRange(amountPerPage, 1, 24);
             return this;
@@ -389,8 +671,28 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
             return this.withItems(Arrays.asList(items));
         }
 
+        /**
+         * Add items to the item list.
+         *
+         * <p>
+         * Sorted orders and filter results are cached per items version, so
+         * changes made to the built handler's {@link ComponentItemHandler#getItems() items}
+         * in place must be followed by {@link ComponentItemHandler#setCacheUpdateRequired(boolean)
+         * setCacheUpdateRequired(true)}.
+         *
+         * @param items Collection of items to add.
+         */
         public Builder<T> withItems(@NotNull Iterable<T> items) {
-            items.forEach(this.items::add);
+            this.items.withAll(items);
+            return this;
+        }
+
+        public Builder<T> withSource(@Nullable ItemSource<T> source) {
+            return this.withSource(Optional.ofNullable(source));
+        }
+
+        public Builder<T> withSource(@NotNull Optional<ItemSource<T>> source) {
+            this.source = source;
             return this;
         }
 
@@ -417,7 +719,7 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
         }
 
         public Builder<T> withStaticItems(@NotNull Iterable<ContainerComponent> items) {
-            items.forEach(this.staticItems::add);
+            this.staticItems.withAll(items);
             return this;
         }
 
@@ -431,6 +733,53 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
             return this;
         }
 
+        /**
+         * Sets the asynchronous transformer used to convert items into sections.
+         *
+         * <p>
+         * Items that fail or exceed the transform timeout are rendered by the transformer instead.
+         *
+         * @param asyncTransformer the asynchronous section transformer
+         */
+        public Builder<T> withAsyncTransformer(@Nullable TriFunction<T, Long, Long, Mono<Section>> asyncTransformer) {
+            return this.withAsyncTransformer(Optional.ofNullable(asyncTransformer));
+        }
+
+        public Builder<T> withAsyncTransformer(@NotNull Optional<TriFunction<T, Long, Long, Mono<Section>>> asyncTransformer) {
+            this.asyncTransformer = asyncTransformer;
+            return this;
+        }
+
+        /**
+         * Sets the batch transformer used to convert every visible item of a page into sections at once.
+         *
+         * <p>
+         * Receives the page items, the index of the first page item and the filtered
+         * size. Pages that fail or exceed the transform timeout are rendered by the
+         * transformer instead. Takes priority over the asynchronous transformer.
+         *
+         * @param batchTransformer the batch section transformer
+         */
+        public Builder<T> withBatchTransformer(@Nullable TriFunction<ConcurrentList<T>, Long, Long, Mono<ConcurrentList<Section>>> batchTransformer) {
+            return this.withBatchTransformer(Optional.ofNullable(batchTransformer));
+        }
+
+        public Builder<T> withBatchTransformer(@NotNull Optional<TriFunction<ConcurrentList<T>, Long, Long, Mono<ConcurrentList<Section>>>> batchTransformer) {
+            this.batchTransformer = batchTransformer;
+            return this;
+        }
+
+        /**
+         * Sets how long the asynchronous and batch transformers may take before
+         * falling back to the transformer, defaults to 2 seconds.
+         *
+         * @param transformTimeout the maximum transform duration
+         */
+        public Builder<T> withTransformTimeout(@NotNull Duration transformTimeout) {
+            this.transformTimeout = transformTimeout;
+            return this;
+        }
+
         /**
          * Sets the function used to apply pagination variables to each static item
          * on cache refresh.
@@ -466,18 +815,23 @@ public final class ComponentItemHandler<T> implements ItemHandler<T> {
 
         @Override
         public @NotNull ComponentItemHandler<T> build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
             this.variables.put("SIZE", this.items.size());
 
             return new ComponentItemHandler<>(
                 this.items.toUnmodifiableList(),
+                this.source,
                 this.staticItems.toUnmodifiableList(),
                 this.variables,
                 this.transformer,
+                this.asyncTransformer,
+                this.batchTransformer,
+                this.transformTimeout,
                 this.staticItemApplier,
                 this.editorEnabled,
+                this.prefetching,
                 this.amountPerPage,
-                new SortHandler<>(this.sorters),
+                new SortHandler<>(this.sorters, this.lazySorting),
                 new FilterHandler<>(this.filters),
                 new SearchHandler<>(this.searchers)
             );
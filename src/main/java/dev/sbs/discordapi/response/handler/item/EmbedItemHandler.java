@@ -4,9 +4,7 @@ import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
 import dev.sbs.api.collection.concurrent.ConcurrentMap;
 import dev.sbs.api.function.TriFunction;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.tuple.pair.Pair;
-import dev.sbs.api.tuple.triple.Triple;
 import dev.sbs.api.util.NumberUtil;
 import dev.sbs.api.util.StreamUtil;
 import dev.sbs.api.util.StringUtil;
@@ -16,25 +14,34 @@ import dev.sbs.discordapi.response.embed.Embed;
 import dev.sbs.discordapi.response.embed.Field;
 import dev.sbs.discordapi.response.handler.Filter;
 import dev.sbs.discordapi.response.handler.FilterHandler;
+import dev.sbs.discordapi.response.handler.ItemExecutor;
 import dev.sbs.discordapi.response.handler.Search;
 import dev.sbs.discordapi.response.handler.SearchHandler;
+import dev.sbs.discordapi.response.handler.SearchIndex;
 import dev.sbs.discordapi.response.handler.SortHandler;
 import dev.sbs.discordapi.response.handler.Sorter;
+import dev.sbs.discordapi.response.handler.VersionStamp;
 import dev.sbs.discordapi.response.page.Page;
 import dev.sbs.discordapi.response.page.item.Item;
 import dev.sbs.discordapi.response.page.item.field.FieldItem;
 import dev.sbs.discordapi.response.page.item.field.StringItem;
+import dev.sbs.discordapi.util.BuildFlags;
+import dev.sbs.discordapi.util.SharedList;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.intellij.lang.annotations.PrintFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 /**
  * An {@link ItemHandler} implementation that renders items as embed {@link Field Fields}.
@@ -52,12 +59,17 @@ import java.util.Optional;
 public final class EmbedItemHandler<T> implements ItemHandler<T> {
 
     private final @NotNull ConcurrentList<T> items;
+    private final @NotNull Optional<ItemSource<T>> source;
     private final @NotNull ConcurrentList<Item> staticItems;
     private final @NotNull ConcurrentMap<String, Object> variables;
     private final @NotNull ItemHandler.FieldStyle fieldStyle;
     private final @NotNull TriFunction<T, Long, Long, FieldItem<?>> transformer;
+    private final @NotNull Optional<TriFunction<T, Long, Long, Mono<FieldItem<?>>>> asyncTransformer;
+    private final @NotNull Optional<TriFunction<ConcurrentList<T>, Long, Long, Mono<ConcurrentList<FieldItem<?>>>>> batchTransformer;
+    private final @NotNull Duration transformTimeout;
     private final @NotNull Optional<String> listTitle;
     private final boolean editorEnabled;
+    private final boolean prefetching;
     private final int amountPerPage;
 
     // Handlers
@@ -68,9 +80,27 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
     // Caching
     private int currentIndex = 1;
     private boolean cacheUpdateRequired = true;
+    @Getter(AccessLevel.NONE)
+    private long version = VersionStamp.next();
     private ConcurrentList<T> cachedFilteredItems = Concurrent.newUnmodifiableList();
+    @Getter(AccessLevel.NONE)
+    private final ItemIndex<T> itemIndex = new ItemIndex<>();
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<Search<T>, SearchIndex<T>> searchIndexes = Concurrent.newMap();
+    @Getter(AccessLevel.NONE)
+    private long itemsVersion = VersionStamp.next();
+    @Getter(AccessLevel.NONE)
+    private long filteredVersion = -1;
+    @Getter(AccessLevel.NONE)
+    private final ItemWindow<T> itemWindow = new ItemWindow<>();
+    @Getter(AccessLevel.NONE)
+    private final PagePrefetch<FieldItem<?>> pagePrefetch = new PagePrefetch<>();
     private ConcurrentList<FieldItem<?>> cachedFieldItems = Concurrent.newUnmodifiableList();
+    @Getter(AccessLevel.NONE)
+    private long cachedFieldVersion = -1;
     private ConcurrentList<Item> cachedStaticItems = Concurrent.newUnmodifiableList();
+    @Getter(AccessLevel.NONE)
+    private long cachedStaticVersion = -1;
 
     public static <T> @NotNull Builder<T> builder() {
         return new Builder<>();
@@ -84,41 +114,64 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
         EmbedItemHandler<?> that = (EmbedItemHandler<?>) o;
 
         return Objects.equals(this.getItems(), that.getItems())
+            && Objects.equals(this.getSource(), that.getSource())
             && Objects.equals(this.getStaticItems(), that.getStaticItems())
             && Objects.equals(this.getVariables(), that.getVariables())
             && Objects.equals(this.getFieldStyle(), that.getFieldStyle())
             && Objects.equals(this.getTransformer(), that.getTransformer())
+            && Objects.equals(this.getAsyncTransformer(), that.getAsyncTransformer())
+            && Objects.equals(this.getBatchTransformer(), that.getBatchTransformer())
+            && Objects.equals(this.getTransformTimeout(), that.getTransformTimeout())
             && Objects.equals(this.getListTitle(), that.getListTitle())
             && this.isEditorEnabled() == that.isEditorEnabled()
+            && this.isPrefetching() == that.isPrefetching()
             && this.getAmountPerPage() == that.getAmountPerPage()
             && Objects.equals(this.getSortHandler(), that.getSortHandler())
             && Objects.equals(this.getFilterHandler(), that.getFilterHandler())
             && Objects.equals(this.getSearchHandler(), that.getSearchHandler())
             && this.isCacheUpdateRequired() == that.isCacheUpdateRequired()
             && this.getCurrentIndex() == that.getCurrentIndex()
-            && Objects.equals(this.getCachedFilteredItems(), that.getCachedFilteredItems())
+            && Objects.equals(this.cachedFilteredItems, that.cachedFilteredItems)
             && Objects.equals(this.getCachedFieldItems(), that.getCachedFieldItems())
             && Objects.equals(this.getCachedStaticItems(), that.getCachedStaticItems());
     }
 
     public static <T> @NotNull Builder<T> from(@NotNull EmbedItemHandler<T> itemHandler) {
-        return new Builder<T>()
-            .withItems(itemHandler.getItems())
-            .withStaticItems(itemHandler.getStaticItems())
+        Builder<T> builder = new Builder<T>()
+            .withSource(itemHandler.getSource())
             .withVariables(itemHandler.getVariables())
             .withFieldStyle(itemHandler.getFieldStyle())
             .withTransformer(itemHandler.getTransformer())
+            .withAsyncTransformer(itemHandler.getAsyncTransformer())
+            .withBatchTransformer(itemHandler.getBatchTransformer())
+            .withTransformTimeout(itemHandler.getTransformTimeout())
             .withListTitle(itemHandler.getListTitle())
             .isEditorEnabled(itemHandler.isEditorEnabled())
+            .isLazySorting(itemHandler.getSortHandler().isLazy())
+            .isPrefetching(itemHandler.isPrefetching())
             .withAmountPerPage(itemHandler.getAmountPerPage())
             .withSorters(itemHandler.getSortHandler().getItems())
             .withFilters(itemHandler.getFilterHandler().getItems())
             .withSearch(itemHandler.getSearchHandler().getItems());
+
+        // Structurally Share Unmodified Lists
+        builder.items.share(itemHandler.getItems());
+        builder.staticItems.share(itemHandler.getStaticItems());
+        return builder;
+    }
+
+    @Override
+    public @NotNull ConcurrentList<T> getCachedFilteredItems() {
+        return this.getSource().isPresent() ? this.itemWindow.getItems() : this.getFilteredItems(Integer.MAX_VALUE);
     }
 
     @Override
     public @NotNull ConcurrentList<Item> getCachedStaticItems() {
-        if (this.isCacheUpdateRequired()) {
+        long version = this.getVersion();
+
+        // Keyed on the version, the flags may be cleared before a coalesced edit renders
+        if (this.isCacheUpdateRequired() || this.cachedStaticVersion != version) {
+            this.cachedStaticVersion = version;
             this.cachedStaticItems = this.staticItems.stream()
                 .map(item -> item.applyVariables(this.getVariables()))
                 .collect(Concurrent.toUnmodifiableList());
@@ -128,38 +181,51 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
     }
 
     public @NotNull ConcurrentList<FieldItem<?>> getCachedFieldItems() {
-        if (this.isCacheUpdateRequired()) {
-            // Load Filtered Items
-            ConcurrentList<T> filteredItems = this.getFilteredItems();
-            ConcurrentList<FieldItem<?>> filteredFieldItems = filteredItems.indexedStream()
-                .collapseToSingle(this.getTransformer())
-                .filter(Objects::nonNull)
-                .collect(Concurrent.toUnmodifiableList());
-
-            // Custom Search
-            this.getSearchHandler()
-                .getPending()
-                .flatMap(search -> filteredItems.indexedStream()
-                    .filter((item, index, size) -> search.getPredicates()
-                        .stream()
-                        .anyMatch(predicate -> predicate.test(item, search.getLastMatch().orElseThrow()))
-                    )
-                    .map(Triple::getMiddle)
-                    .findFirst()
-                )
-                .filter(index -> index > -1)
-                .map(index -> Math.ceil((double) index / this.getAmountPerPage()))
-                .map(Double::intValue)
-                .map(index -> NumberUtil.ensureRange(index, 1, filteredFieldItems.size()))
-                .ifPresent(index -> this.currentIndex = index); // Do not call this.gotoItemPage(index)
-
-            // Cache Sublist
-            int startIndex = (this.getCurrentIndex() - 1) * this.getAmountPerPage();
-            int endIndex = Math.min(startIndex + this.getAmountPerPage(), filteredFieldItems.size());
-            this.cachedFieldItems = filteredFieldItems.subList(startIndex, endIndex);
+        long version = this.getVersion();
+
+        // Keyed on the version, the flags may be cleared before a coalesced edit renders
+        if (this.isCacheUpdateRequired() || this.cachedFieldVersion != version) {
+            this.cachedFieldVersion = version;
+            ConcurrentList<T> pageItems;
+            int startIndex;
+            int size;
+
+            // Transform Current Page Only
+            if (this.getSource().isPresent()) {
+                // Loaded Window, adjacent pages are not on the heap and are never prefetched
+                pageItems = this.itemWindow.getItems();
+                startIndex = (int) this.itemWindow.getOffset();
+                size = (int) this.itemWindow.getCount();
+                this.cachedFieldItems = this.pagePrefetch.render(
+                    this.getFilteredVersion(),
+                    startIndex / this.getAmountPerPage() + 1,
+                    0,
+                    false,
+                    page -> this.transform(pageItems, startIndex, size),
+                    page -> this.transformAsync(pageItems, startIndex, size)
+                );
+            } else {
+                // Load Filtered Items
+                ConcurrentList<T> filteredItems = this.getFilteredItems();
+                this.gotoPendingSearch(filteredItems);
+
+                size = filteredItems.size();
+                startIndex = this.getPageStart(this.getCurrentIndex(), size);
+                pageItems = this.getPageItems(filteredItems, this.getCurrentIndex());
+                this.cachedFieldItems = this.pagePrefetch.render(
+                    this.filteredVersion,
+                    this.getCurrentIndex(),
+                    NumberUtil.roundUp((double) size / this.getAmountPerPage(), 1),
+                    this.isPrefetching(),
+                    page -> this.transform(this.getPageItems(filteredItems, page), this.getPageStart(page, size), size),
+                    page -> this.transformAsync(this.getPageItems(filteredItems, page), this.getPageStart(page, size), size)
+                );
+            }
+
+            int endIndex = startIndex + pageItems.size();
 
             // Cache Variables
-            this.variables.put("FILTERED_SIZE", filteredFieldItems.size());
+            this.variables.put("FILTERED_SIZE", size);
             this.variables.put("CACHED_SIZE", this.cachedFieldItems.size());
             this.variables.put("START_INDEX", startIndex);
             this.variables.put("END_INDEX", endIndex);
@@ -168,21 +234,81 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
         return this.cachedFieldItems;
     }
 
+    private @Nullable SearchIndex<T> getSearchIndex(@NotNull Search<T> search, @NotNull ConcurrentList<T> filteredItems) {
+        if (!search.isIndexed())
+            return null;
+
+        return this.searchIndexes.compute(search, (__, index) -> index == null || index.getItems() != filteredItems ? search.buildIndex(filteredItems) : index);
+    }
+
     private @NotNull ConcurrentList<T> getFilteredItems() {
-        if (this.isCacheUpdateRequired()) {
-            this.cachedFilteredItems = this.getSortHandler()
-                .getCurrent()
-                .map(sorter -> sorter.apply(this.getItems(), this.getSortHandler().isReversed()))
-                .orElse(this.getItems())
-                .indexedStream()
-                .filter((t, index, size) -> this.getFilterHandler()
-                    .getItems()
-                    .stream()
-                    .allMatch(filter -> filter.test(t, index, size))
+        // Searches can match any item, pages only need the items up to their end, or the next page's end when prefetching
+        return this.getFilteredItems(
+            this.getSearchHandler().getPending().isPresent() ? Integer.MAX_VALUE : (this.getCurrentIndex() + (this.isPrefetching() ? 1 : 0)) * this.getAmountPerPage()
+        );
+    }
+
+    private @NotNull ConcurrentList<T> getPageItems(@NotNull ConcurrentList<T> filteredItems, int page) {
+        int startIndex = this.getPageStart(page, filteredItems.size());
+        return filteredItems.subList(startIndex, Math.min(startIndex + this.getAmountPerPage(), filteredItems.size()));
+    }
+
+    private int getPageStart(int page, int size) {
+        return Math.min((page - 1) * this.getAmountPerPage(), size);
+    }
+
+    private void gotoPendingSearch(@NotNull ConcurrentList<T> filteredItems) {
+        this.getSearchHandler()
+            .getPending()
+            .map(search -> search.indexOf(filteredItems, search.getLastMatch().orElseThrow(), this.getSearchIndex(search, filteredItems)))
+            .filter(index -> index > -1)
+            .map(index -> index / this.getAmountPerPage() + 1)
+            .map(index -> NumberUtil.ensureRange(index, 1, Math.max(1, this.getTotalPages())))
+            .ifPresent(index -> this.currentIndex = index); // Do not call this.gotoItemPage(index)
+    }
+
+    private @NotNull ConcurrentList<FieldItem<?>> transform(@NotNull ConcurrentList<T> pageItems, int startIndex, int size) {
+        return ItemExecutor.execute(pageItems.size(), parallel -> {
+            IntStream range = IntStream.range(0, pageItems.size());
+
+            return (parallel ? range.parallel() : range)
+                .mapToObj(offset -> this.getTransformer().apply(pageItems.get(offset), (long) (startIndex + offset), (long) size))
+                .filter(Objects::nonNull)
+                .collect(Concurrent.toUnmodifiableList());
+        });
+    }
+
+    private @NotNull Mono<ConcurrentList<FieldItem<?>>> transformAsync(@NotNull ConcurrentList<T> pageItems, int startIndex, int size) {
+        if (this.getBatchTransformer().isPresent()) {
+            return this.getBatchTransformer()
+                .get()
+                .apply(pageItems, (long) startIndex, (long) size)
+                .map(ConcurrentList::toUnmodifiableList)
+                .timeout(this.getTransformTimeout())
+                .onErrorResume(throwable -> Mono.empty())
+                .switchIfEmpty(Mono.fromSupplier(() -> this.transform(pageItems, startIndex, size)));
+        }
+
+        if (this.getAsyncTransformer().isPresent()) {
+            TriFunction<T, Long, Long, Mono<FieldItem<?>>> asyncTransformer = this.getAsyncTransformer().get();
+
+            return Flux.range(0, pageItems.size())
+                .flatMapSequential(offset -> asyncTransformer.apply(pageItems.get(offset), (long) (startIndex + offset), (long) size)
+                    .timeout(this.getTransformTimeout())
+                    .onErrorResume(throwable -> Mono.justOrEmpty(this.getTransformer().apply(pageItems.get(offset), (long) (startIndex + offset), (long) size)))
                 )
-                .map(Triple::getLeft)
                 .collect(Concurrent.toUnmodifiableList());
+        }
+
+        return Mono.fromSupplier(() -> this.transform(pageItems, startIndex, size));
+    }
+
+    private @NotNull ConcurrentList<T> getFilteredItems(int depth) {
+        long filteredVersion = this.getFilteredVersion();
 
+        if (this.filteredVersion != filteredVersion || this.itemIndex.isStale(this.getItems()) || this.itemIndex.getOrderedDepth() < depth) {
+            this.cachedFilteredItems = this.itemIndex.apply(this.getItems(), this.itemsVersion, this.getSortHandler(), this.getFilterHandler(), depth);
+            this.filteredVersion = filteredVersion;
             this.variables.put("TOTAL_SIZE", this.getItems().size());
         }
 
@@ -220,15 +346,28 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
         return this.getCurrentIndex();
     }
 
+    private int getFilteredSize() {
+        return this.getSource().isPresent() ? (int) this.itemWindow.getCount() : this.getFilteredItems().size();
+    }
+
+    private long getFilteredVersion() {
+        // Only item, sort and filter changes require re-filtering, page navigation does not
+        return Math.max(
+            this.itemsVersion,
+            Math.max(this.getSortHandler().getVersion(), this.getFilterHandler().getVersion())
+        );
+    }
+
     @Override
     public int getTotalPages() {
-        return NumberUtil.roundUp((double) this.getFilteredItems().size() / this.getAmountPerPage(), 1);
+        return NumberUtil.roundUp((double) this.getFilteredSize() / this.getAmountPerPage(), 1);
     }
 
     @Override
     public void gotoPage(@NotNull Integer index) {
-        this.currentIndex = NumberUtil.ensureRange(index, 1, this.getFilteredItems().size());
-        this.setCacheUpdateRequired();
+        this.currentIndex = NumberUtil.ensureRange(index, 1, this.getFilteredSize());
+        this.cacheUpdateRequired = true;
+        this.version = VersionStamp.next();
     }
 
     @Override
@@ -253,7 +392,7 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.getItems(), this.getStaticItems(), this.getVariables(), this.getFieldStyle(), this.getTransformer(), this.getListTitle(), this.isEditorEnabled(), this.getAmountPerPage(), this.getSortHandler(), this.getFilterHandler(), this.getSearchHandler(), this.isCacheUpdateRequired(), this.getCurrentIndex(), this.getCachedFilteredItems(), this.getCachedFieldItems(), this.getCachedStaticItems());
+        return Objects.hash(this.getItems(), this.getSource(), this.getStaticItems(), this.getVariables(), this.getFieldStyle(), this.getTransformer(), this.getAsyncTransformer(), this.getBatchTransformer(), this.getTransformTimeout(), this.getListTitle(), this.isEditorEnabled(), this.isPrefetching(), this.getAmountPerPage(), this.getSortHandler(), this.getFilterHandler(), this.getSearchHandler(), this.isCacheUpdateRequired(), this.getCurrentIndex(), this.cachedFilteredItems, this.getCachedFieldItems(), this.getCachedStaticItems());
     }
 
     @Override
@@ -266,6 +405,17 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
         return this.currentIndex > 1;
     }
 
+    @Override
+    public long getVersion() {
+        return Math.max(
+            this.version,
+            Math.max(
+                this.getSortHandler().getVersion(),
+                Math.max(this.getFilterHandler().getVersion(), this.getSearchHandler().getVersion())
+            )
+        );
+    }
+
     @Override
     public boolean isCacheUpdateRequired() {
         return this.cacheUpdateRequired ||
@@ -274,13 +424,97 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
             this.getSearchHandler().isCacheUpdateRequired();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Counts the matching items and fetches the current page window from the
+     * {@link ItemSource}, if present, clamping the current page to the count.
+     * The current page is then transformed by the asynchronous or batch
+     * transformer, if present, falling back to the transformer on error or
+     * timeout.
+     */
+    @Override
+    public @NotNull Mono<Void> load() {
+        return Mono.justOrEmpty(this.getSource())
+            .flatMap(source -> {
+                long filteredVersion = this.getFilteredVersion();
+                ConcurrentList<Filter<T>> filters = this.getFilterHandler()
+                    .getItems()
+                    .stream()
+                    .filter(Filter::isEnabled)
+                    .collect(Concurrent.toUnmodifiableList());
+
+                return this.itemWindow.count(source, filteredVersion, filters)
+                    .flatMap(count -> {
+                        int totalPages = NumberUtil.roundUp((double) count / this.getAmountPerPage(), 1);
+                        this.currentIndex = NumberUtil.ensureRange(this.currentIndex, 1, Math.max(1, totalPages));
+                        long offset = (long) (this.currentIndex - 1) * this.getAmountPerPage();
+                        return this.itemWindow.fetch(source, filteredVersion, offset, this.getAmountPerPage(), this.getSortHandler(), filters);
+                    });
+            })
+            .filter(Boolean::booleanValue)
+            .doOnNext(loaded -> {
+                this.cacheUpdateRequired = true;
+                this.version = VersionStamp.next();
+            })
+            .then(Mono.defer(this::loadPage));
+    }
+
+    private @NotNull Mono<Void> loadPage() {
+        if (this.getAsyncTransformer().isEmpty() && this.getBatchTransformer().isEmpty())
+            return Mono.empty();
+
+        if (this.getSource().isPresent()) {
+            ConcurrentList<T> pageItems = this.itemWindow.getItems();
+            int startIndex = (int) this.itemWindow.getOffset();
+            int size = (int) this.itemWindow.getCount();
+
+            return this.pagePrefetch.load(
+                this.getFilteredVersion(),
+                startIndex / this.getAmountPerPage() + 1,
+                page -> this.transformAsync(pageItems, startIndex, size)
+            );
+        }
+
+        ConcurrentList<T> filteredItems = this.getFilteredItems();
+        this.gotoPendingSearch(filteredItems);
+
+        return this.pagePrefetch.load(
+            this.filteredVersion,
+            this.getCurrentIndex(),
+            page -> this.transformAsync(this.getPageItems(filteredItems, page), this.getPageStart(page, filteredItems.size()), filteredItems.size())
+        );
+    }
+
     public @NotNull Builder<T> mutate() {
         return from(this);
     }
 
+    @Override
+    public void releaseCache() {
+        this.cachedFilteredItems = Concurrent.newUnmodifiableList();
+        this.itemIndex.clear();
+        this.itemWindow.clear();
+        this.pagePrefetch.clear();
+        this.searchIndexes.clear();
+        this.filteredVersion = -1;
+        this.cachedFieldItems = Concurrent.newUnmodifiableList();
+        this.cachedFieldVersion = -1;
+        this.cachedStaticItems = Concurrent.newUnmodifiableList();
+        this.cachedStaticVersion = -1;
+        this.cacheUpdateRequired = true;
+    }
+
     @Override
     public void setCacheUpdateRequired(boolean cacheUpdateRequired) {
         this.cacheUpdateRequired = cacheUpdateRequired;
+
+        if (cacheUpdateRequired) {
+            this.version = VersionStamp.next();
+            this.itemsVersion = this.version;
+        }
+
         this.getSortHandler().setCacheUpdateRequired(cacheUpdateRequired);
         this.getFilterHandler().setCacheUpdateRequired(cacheUpdateRequired);
         this.getSearchHandler().setCacheUpdateRequired(cacheUpdateRequired);
@@ -289,8 +523,9 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
     @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
     public static class Builder<T> implements ClassBuilder<EmbedItemHandler<T>> {
 
-        private final ConcurrentList<T> items = Concurrent.newList();
-        private final ConcurrentList<Item> staticItems = Concurrent.newList();
+        private final SharedList<T> items = new SharedList<>();
+        private Optional<ItemSource<T>> source = Optional.empty();
+        private final SharedList<Item> staticItems = new SharedList<>();
         private final ConcurrentList<Sorter<T>> sorters = Concurrent.newList();
         private final ConcurrentList<Filter<T>> filters = Concurrent.newList();
         private final ConcurrentList<Search<T>> searchers = Concurrent.newList();
@@ -299,8 +534,14 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
         private ItemHandler.FieldStyle fieldStyle = ItemHandler.FieldStyle.DEFAULT;
         @BuildFlag(nonNull = true)
         private TriFunction<T, Long, Long, FieldItem<?>> transformer = (t, index, size) -> StringItem.builder().build();
+        private Optional<TriFunction<T, Long, Long, Mono<FieldItem<?>>>> asyncTransformer = Optional.empty();
+        private Optional<TriFunction<ConcurrentList<T>, Long, Long, Mono<ConcurrentList<FieldItem<?>>>>> batchTransformer = Optional.empty();
+        @BuildFlag(nonNull = true)
+        private Duration transformTimeout = Duration.ofSeconds(2);
         private Optional<String> listTitle = Optional.empty();
         private boolean editorEnabled = false;
+        private boolean lazySorting = false;
+        private boolean prefetching = false;
         private int amountPerPage = 12;
 
         /**
@@ -336,6 +577,44 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
             return this;
         }
 
+        /**
+         * Enables lazy sorting.
+         */
+        public Builder<T> isLazySorting() {
+            return this.isLazySorting(true);
+        }
+
+        /**
+         * Sets if only the items up to the current page are sorted, completing
+         * the sort once a deep page or a search requires it.
+         *
+         * @param value True to enable lazy sorting.
+         */
+        public Builder<T> isLazySorting(boolean value) {
+            this.lazySorting = value;
+            return this;
+        }
+
+        /**
+         * Enables prefetching.
+         */
+        public Builder<T> isPrefetching() {
+            return this.isPrefetching(true);
+        }
+
+        /**
+         * Sets if the pages adjacent to the current {@link Page} are rendered
+         * in the background, so paging to them does not wait on the transformer.
+         * Handlers backed by an {@link ItemSource} only hold the current page
+         * and do not prefetch.
+         *
+         * @param value True to enable prefetching.
+         */
+        public Builder<T> isPrefetching(boolean value) {
+            this.prefetching = value;
+            return this;
+        }
+
         /**
          * Sets the amount of {@link Item PageItems} to render per {@link Page}.
          * <br><br>
@@ -389,10 +668,35 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
         /**
          * Add {@link T Items} to the {@link Page} item list.
          *
+         * <p>
+         * Sorted orders and filter results are cached per items version, so
+         * changes made to the built handler's {@link EmbedItemHandler#getItems() items}
+         * in place must be followed by {@link EmbedItemHandler#setCacheUpdateRequired(boolean)
+         * setCacheUpdateRequired(true)}.
+         *
          * @param items Collection of items to add.
          */
         public Builder<T> withItems(@NotNull Iterable<T> items) {
-            items.forEach(this.items::add);
+            this.items.withAll(items);
+            return this;
+        }
+
+        /**
+         * Sets the {@link ItemSource} to fetch the {@link Page} items from instead of the item list.
+         *
+         * @param source the source to fetch items from
+         */
+        public Builder<T> withSource(@Nullable ItemSource<T> source) {
+            return this.withSource(Optional.ofNullable(source));
+        }
+
+        /**
+         * Sets the {@link ItemSource} to fetch the {@link Page} items from instead of the item list.
+         *
+         * @param source the source to fetch items from
+         */
+        public Builder<T> withSource(@NotNull Optional<ItemSource<T>> source) {
+            this.source = source;
             return this;
         }
 
@@ -484,6 +788,68 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
             return this;
         }
 
+        /**
+         * Sets the asynchronous transformer used to convert {@link T} to a {@link FieldItem}.
+         * <br><br>
+         * Items that fail or exceed the transform timeout are rendered by the transformer instead.
+         *
+         * @param asyncTransformer How to asynchronously render {@link T} as a FieldItem.
+         */
+        public Builder<T> withAsyncTransformer(@Nullable TriFunction<T, Long, Long, Mono<FieldItem<?>>> asyncTransformer) {
+            return this.withAsyncTransformer(Optional.ofNullable(asyncTransformer));
+        }
+
+        /**
+         * Sets the asynchronous transformer used to convert {@link T} to a {@link FieldItem}.
+         * <br><br>
+         * Items that fail or exceed the transform timeout are rendered by the transformer instead.
+         *
+         * @param asyncTransformer How to asynchronously render {@link T} as a FieldItem.
+         */
+        public Builder<T> withAsyncTransformer(@NotNull Optional<TriFunction<T, Long, Long, Mono<FieldItem<?>>>> asyncTransformer) {
+            this.asyncTransformer = asyncTransformer;
+            return this;
+        }
+
+        /**
+         * Sets the batch transformer used to convert every visible {@link T} of a {@link Page} to {@link FieldItem FieldItems} at once.
+         * <br><br>
+         * Receives the page items, the index of the first page item and the filtered size.<br>
+         * Pages that fail or exceed the transform timeout are rendered by the transformer instead.<br>
+         * Takes priority over the asynchronous transformer.
+         *
+         * @param batchTransformer How to asynchronously render a page of {@link T} as FieldItems.
+         */
+        public Builder<T> withBatchTransformer(@Nullable TriFunction<ConcurrentList<T>, Long, Long, Mono<ConcurrentList<FieldItem<?>>>> batchTransformer) {
+            return this.withBatchTransformer(Optional.ofNullable(batchTransformer));
+        }
+
+        /**
+         * Sets the batch transformer used to convert every visible {@link T} of a {@link Page} to {@link FieldItem FieldItems} at once.
+         * <br><br>
+         * Receives the page items, the index of the first page item and the filtered size.<br>
+         * Pages that fail or exceed the transform timeout are rendered by the transformer instead.<br>
+         * Takes priority over the asynchronous transformer.
+         *
+         * @param batchTransformer How to asynchronously render a page of {@link T} as FieldItems.
+         */
+        public Builder<T> withBatchTransformer(@NotNull Optional<TriFunction<ConcurrentList<T>, Long, Long, Mono<ConcurrentList<FieldItem<?>>>>> batchTransformer) {
+            this.batchTransformer = batchTransformer;
+            return this;
+        }
+
+        /**
+         * Sets how long the asynchronous and batch transformers may take before falling back to the transformer.
+         * <br><br>
+         * Defaults to 2 seconds.
+         *
+         * @param transformTimeout The maximum transform duration.
+         */
+        public Builder<T> withTransformTimeout(@NotNull Duration transformTimeout) {
+            this.transformTimeout = transformTimeout;
+            return this;
+        }
+
         /**
          * Add a variable to be evaluated when building the dynamic {@link Embed}.
          *
@@ -525,19 +891,24 @@ public final class EmbedItemHandler<T> implements ItemHandler<T> {
 
         @Override
         public @NotNull EmbedItemHandler<T> build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
             this.variables.put("SIZE", this.items.size());
 
             return new EmbedItemHandler<>(
                 this.items.toUnmodifiableList(),
+                this.source,
                 this.staticItems.toUnmodifiableList(),
                 this.variables,
                 this.fieldStyle,
                 this.transformer,
+                this.asyncTransformer,
+                this.batchTransformer,
+                this.transformTimeout,
                 this.listTitle,
                 this.editorEnabled,
+                this.prefetching,
                 this.amountPerPage,
-                new SortHandler<>(this.sorters),
+                new SortHandler<>(this.sorters, this.lazySorting),
                 new FilterHandler<>(this.filters),
                 new SearchHandler<>(this.searchers)
             );
@@ -10,6 +10,7 @@ import dev.sbs.discordapi.response.page.Paging;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import reactor.core.publisher.Mono;
 
 /**
  * Manages a paginated collection of items with sort, filter, and search capabilities.
@@ -67,7 +68,12 @@ public interface ItemHandler<T> extends OutputHandler<T>, Paging<Integer> {
     /** The search handler managing item search. */
     @NotNull SearchHandler<T> getSearchHandler();
 
-    /** The cached list of items after filtering and sorting. */
+    /**
+     * The list of items after filtering and sorting, rebuilt if the cache is stale.
+     *
+     * <p>
+     * Handlers backed by an {@link ItemSource} return only the loaded page window.
+     */
     @NotNull ConcurrentList<T> getCachedFilteredItems();
 
     /**
@@ -91,6 +97,29 @@ public interface ItemHandler<T> extends OutputHandler<T>, Paging<Integer> {
     /** Whether the editor mode is enabled. */
     boolean isEditorEnabled();
 
+    /**
+     * Loads the items of the current page from an asynchronous {@link ItemSource}.
+     *
+     * <p>
+     * Handlers holding their items in memory have nothing to load.
+     *
+     * @return a {@link Mono} completing when the current page is loaded
+     */
+    default @NotNull Mono<Void> load() {
+        return Mono.empty();
+    }
+
+    /**
+     * Releases the cached filtered and rendered items.
+     *
+     * <p>
+     * The caches are rebuilt from the source items and the current sort,
+     * filter and search state on the next access, so releasing them never
+     * changes what is rendered. Handlers without derived caches have nothing
+     * to release.
+     */
+    default void releaseCache() { }
+
     /**
      * Rendering style for embed-based item display.
      *
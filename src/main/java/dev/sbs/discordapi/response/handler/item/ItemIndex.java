@@ -0,0 +1,190 @@
+package dev.sbs.discordapi.response.handler.item;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.api.collection.concurrent.ConcurrentMap;
+import dev.sbs.api.function.TriPredicate;
+import dev.sbs.discordapi.response.handler.Filter;
+import dev.sbs.discordapi.response.handler.FilterHandler;
+import dev.sbs.discordapi.response.handler.ItemExecutor;
+import dev.sbs.discordapi.response.handler.SortHandler;
+import dev.sbs.discordapi.response.handler.Sorter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Incrementally maintained sorted and filtered view over the items of an {@link ItemHandler}.
+ *
+ * <p>
+ * The sorted order is cached per {@link Sorter} and every enabled {@link Filter} is
+ * evaluated once per item into a {@link BitSet} over the current order. Switching
+ * between already used sorters reuses their order, and toggling filters only
+ * intersects cached bitsets, so neither re-runs comparators or predicates.
+ *
+ * <p>
+ * Filter predicates receive the item's index in the sorted order, so the cached
+ * bitsets are discarded whenever the order changes.
+ *
+ * <p>
+ * With a {@link SortHandler#isLazy() lazy} sort handler and no enabled filters,
+ * only the leading items up to the requested depth are sorted, and the depth
+ * at least doubles each time a deeper page is requested.
+ *
+ * <p>
+ * Sorting and filter evaluation over lists reaching the {@link ItemExecutor}
+ * threshold run in parallel inside the item pool.
+ *
+ * @param <T> the item type
+ */
+final class ItemIndex<T> {
+
+    private final @NotNull ConcurrentMap<Sorter<T>, ConcurrentList<T>> sorted = Concurrent.newMap();
+    private final @NotNull ConcurrentMap<ConcurrentList<TriPredicate<T, Long, Long>>, BitSet> matches = Concurrent.newMap();
+    private @NotNull ConcurrentList<T> ordered = Concurrent.newUnmodifiableList();
+    private @Nullable Sorter<T> orderedBy;
+    private boolean orderedReversed;
+    private int orderedDepth;
+    private long itemsVersion = -1;
+    private @Nullable ConcurrentList<T> source;
+    private int sourceSize = -1;
+
+    /**
+     * Releases every cached order and filter bitset.
+     */
+    public void clear() {
+        this.source = null;
+        this.sourceSize = -1;
+        this.sorted.clear();
+        this.matches.clear();
+        this.ordered = Concurrent.newUnmodifiableList();
+        this.orderedBy = null;
+        this.orderedDepth = 0;
+        this.itemsVersion = -1;
+    }
+
+    /**
+     * The number of leading items in the last result that are in their exact
+     * sorted order.
+     *
+     * @return the sorted depth, {@link Integer#MAX_VALUE} when fully sorted
+     */
+    public int getOrderedDepth() {
+        return this.orderedDepth;
+    }
+
+    /**
+     * Whether the cached orders were built from another list or item count
+     * than the given items, such as after items were added or removed in place
+     * without a new items version.
+     *
+     * @param items the source items
+     * @return true if the cached orders must be rebuilt
+     */
+    public boolean isStale(@NotNull ConcurrentList<T> items) {
+        return this.source != items || this.sourceSize != items.size();
+    }
+
+    /**
+     * Sorts and filters the given items, reusing every cached order and filter
+     * result that is still valid.
+     *
+     * @param items the source items
+     * @param itemsVersion the version of the source items, caches built against another version are discarded
+     * @param sortHandler the sort handler providing the current sorter
+     * @param filterHandler the filter handler providing the filters
+     * @param depth the number of leading items that must be in their exact sorted order
+     * @return the sorted and filtered items
+     */
+    public @NotNull ConcurrentList<T> apply(@NotNull ConcurrentList<T> items, long itemsVersion, @NotNull SortHandler<T> sortHandler, @NotNull FilterHandler<T> filterHandler, int depth) {
+        if (this.itemsVersion != itemsVersion || this.isStale(items)) {
+            this.clear();
+            this.itemsVersion = itemsVersion;
+            this.source = items;
+            this.sourceSize = items.size();
+        }
+
+        ConcurrentList<Filter<T>> filters = filterHandler.getItems()
+            .stream()
+            .filter(Filter::isEnabled)
+            .collect(Concurrent.toList());
+
+        // Current Order
+        Optional<Sorter<T>> sorter = sortHandler.getCurrent();
+        boolean reversed = sortHandler.isReversed();
+        boolean sameOrder = this.orderedDepth > 0 && this.orderedBy == sorter.orElse(null) && this.orderedReversed == reversed;
+        int required = filters.notEmpty() || !sortHandler.isLazy() ? Integer.MAX_VALUE : depth; // Filters see every item's sorted index
+
+        if (!sameOrder || this.orderedDepth < required) {
+            int target = sameOrder ? (int) Math.max(required, Math.min(Integer.MAX_VALUE, this.orderedDepth * 2L)) : required;
+            this.ordered = sorter.map(current -> this.order(items, current, reversed, target)).orElse(items);
+            this.orderedBy = sorter.orElse(null);
+            this.orderedReversed = reversed;
+            this.orderedDepth = sorter.isEmpty() || this.sorted.containsKey(sorter.get()) ? Integer.MAX_VALUE : target;
+            this.matches.clear();
+        }
+
+        // Intersect Enabled Filters
+        BitSet result = null;
+
+        for (Filter<T> filter : filters) {
+            BitSet bits = this.matches.computeIfAbsent(filter.getPredicates(), this::evaluate);
+
+            if (result == null)
+                result = (BitSet) bits.clone();
+            else
+                result.and(bits);
+        }
+
+        if (result == null)
+            return this.ordered;
+
+        ConcurrentList<T> filtered = Concurrent.newList();
+
+        for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1))
+            filtered.add(this.ordered.get(i));
+
+        return filtered.toUnmodifiableList();
+    }
+
+    private @NotNull ConcurrentList<T> order(@NotNull ConcurrentList<T> items, @NotNull Sorter<T> sorter, boolean reversed, int depth) {
+        ConcurrentList<T> sorted = this.sorted.get(sorter);
+
+        if (sorted == null) {
+            if (depth < items.size())
+                return sorter.apply(items, reversed, depth);
+
+            sorted = sorter.apply(items, false);
+            this.sorted.put(sorter, sorted);
+        }
+
+        return reversed ? sorted.reversed() : sorted;
+    }
+
+    private @NotNull BitSet evaluate(@NotNull ConcurrentList<TriPredicate<T, Long, Long>> predicates) {
+        ConcurrentList<T> ordered = this.ordered;
+        long size = ordered.size();
+        boolean[] matched = new boolean[ordered.size()];
+
+        ItemExecutor.execute(matched.length, parallel -> {
+            IntStream range = IntStream.range(0, matched.length);
+            (parallel ? range.parallel() : range).forEach(i -> matched[i] = predicates.stream()
+                .allMatch(predicate -> predicate.test(ordered.get(i), (long) i, size))
+            );
+            return matched;
+        });
+
+        BitSet bits = new BitSet(matched.length);
+
+        for (int i = 0; i < matched.length; i++) {
+            if (matched[i])
+                bits.set(i);
+        }
+
+        return bits;
+    }
+
+}
@@ -0,0 +1,48 @@
+package dev.sbs.discordapi.response.handler.item;
+
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.discordapi.response.handler.Filter;
+import dev.sbs.discordapi.response.handler.Sorter;
+import org.jetbrains.annotations.NotNull;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Asynchronous source of items backing an {@link ItemHandler}, pushing counting,
+ * sorting, filtering and pagination down to the underlying data store.
+ *
+ * <p>
+ * Only the window of the current page is fetched and kept on the heap. Sorters
+ * and filters are handed to the source as configured on the handler, sources
+ * identify them by {@link Sorter#getIdentifier()} and {@link Filter#getIdentifier()}
+ * and apply the equivalent ordering and restrictions themselves, for example as
+ * an {@code ORDER BY} and {@code WHERE} clause of a query.
+ *
+ * @param <T> the item type
+ * @see EmbedItemHandler.Builder#withSource(ItemSource)
+ * @see ComponentItemHandler.Builder#withSource(ItemSource)
+ */
+public interface ItemSource<T> {
+
+    /**
+     * Counts the items matching the given filters.
+     *
+     * @param filters the enabled filters
+     * @return a {@link Mono} emitting the number of matching items
+     */
+    @NotNull Mono<Long> count(@NotNull ConcurrentList<Filter<T>> filters);
+
+    /**
+     * Fetches a window of the items matching the given filters in the given order.
+     *
+     * @param offset the number of matching items to skip
+     * @param limit the maximum number of items to fetch
+     * @param sorter the current sorter, if any
+     * @param reversed true if the sort order is reversed
+     * @param filters the enabled filters
+     * @return a {@link Mono} emitting the fetched items
+     */
+    @NotNull Mono<ConcurrentList<T>> fetch(long offset, int limit, @NotNull Optional<Sorter<T>> sorter, boolean reversed, @NotNull ConcurrentList<Filter<T>> filters);
+
+}
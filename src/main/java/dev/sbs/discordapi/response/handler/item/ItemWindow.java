@@ -0,0 +1,90 @@
+package dev.sbs.discordapi.response.handler.item;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.discordapi.response.handler.Filter;
+import dev.sbs.discordapi.response.handler.SortHandler;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import reactor.core.publisher.Mono;
+
+/**
+ * The currently loaded page window of an {@link ItemSource}.
+ *
+ * <p>
+ * The item count is cached per sort and filter version, and the window is only
+ * fetched again when that version or its offset changes.
+ *
+ * @param <T> the item type
+ */
+@Getter
+final class ItemWindow<T> {
+
+    /** The loaded items of the current page. */
+    private @NotNull ConcurrentList<T> items = Concurrent.newUnmodifiableList();
+
+    /** The position of the first loaded item among all matching items. */
+    private long offset;
+
+    /** The number of matching items. */
+    private long count;
+
+    @Getter(AccessLevel.NONE)
+    private long countVersion = -1;
+    @Getter(AccessLevel.NONE)
+    private long itemsVersion = -1;
+
+    /**
+     * Releases the loaded window.
+     */
+    public void clear() {
+        this.items = Concurrent.newUnmodifiableList();
+        this.countVersion = -1;
+        this.itemsVersion = -1;
+    }
+
+    /**
+     * Counts the matching items, reusing the count loaded for the same version.
+     *
+     * @param source the item source
+     * @param version the combined item, sort and filter version
+     * @param filters the enabled filters
+     * @return a {@link Mono} emitting the number of matching items
+     */
+    public @NotNull Mono<Long> count(@NotNull ItemSource<T> source, long version, @NotNull ConcurrentList<Filter<T>> filters) {
+        if (this.countVersion == version)
+            return Mono.just(this.count);
+
+        return source.count(filters)
+            .doOnNext(count -> {
+                this.count = count;
+                this.countVersion = version;
+            });
+    }
+
+    /**
+     * Fetches the window at the given offset unless it is already loaded for the same version.
+     *
+     * @param source the item source
+     * @param version the combined item, sort and filter version
+     * @param offset the position of the first item to fetch
+     * @param limit the maximum number of items to fetch
+     * @param sortHandler the sort handler providing the current sorter
+     * @param filters the enabled filters
+     * @return a {@link Mono} emitting true if a new window was loaded
+     */
+    public @NotNull Mono<Boolean> fetch(@NotNull ItemSource<T> source, long version, long offset, int limit, @NotNull SortHandler<T> sortHandler, @NotNull ConcurrentList<Filter<T>> filters) {
+        if (this.itemsVersion == version && this.offset == offset)
+            return Mono.just(false);
+
+        return source.fetch(offset, limit, sortHandler.getCurrent(), sortHandler.isReversed(), filters)
+            .map(items -> {
+                this.items = items.toUnmodifiableList();
+                this.offset = offset;
+                this.itemsVersion = version;
+                return true;
+            });
+    }
+
+}
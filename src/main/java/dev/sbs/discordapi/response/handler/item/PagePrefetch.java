@@ -0,0 +1,139 @@
+package dev.sbs.discordapi.response.handler.item;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.api.collection.concurrent.ConcurrentMap;
+import org.jetbrains.annotations.NotNull;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+/**
+ * Rendered pages of an {@link ItemHandler}, loaded ahead of the synchronous render.
+ *
+ * <p>
+ * Pages can be {@link #load loaded} asynchronously before sending, and after a
+ * page is rendered the previous and next pages can be prefetched on low-priority
+ * daemon threads, so paging to them only swaps in the ready result. Pages that
+ * are still loading, or failed to load, are rendered again on the calling thread.
+ *
+ * <p>
+ * Rendered pages are kept for a single filtered version, and only the current
+ * page and its neighbours are retained.
+ *
+ * @param <R> the rendered item type
+ */
+final class PagePrefetch<R> {
+
+    private static final Scheduler SCHEDULER = Schedulers.fromExecutorService(
+        Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 4),
+            runnable -> {
+                Thread thread = new Thread(runnable, "item-prefetch");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }
+        ),
+        "item-prefetch"
+    );
+    private final @NotNull ConcurrentMap<Integer, CompletableFuture<ConcurrentList<R>>> pages = Concurrent.newMap();
+    private volatile long version = -1;
+
+    /**
+     * Releases every rendered page.
+     */
+    public void clear() {
+        this.pages.values().forEach(page -> page.cancel(false));
+        this.pages.clear();
+        this.version = -1;
+    }
+
+    /**
+     * Loads the given page unless it is already loaded or loading.
+     *
+     * <p>
+     * The loaded page is discarded if the pages were reset to another
+     * filtered version while it was loading.
+     *
+     * @param version the filtered version the pages are rendered from
+     * @param page the page to load
+     * @param loader loads the given page
+     * @return a {@link Mono} completing when the page is loaded
+     */
+    public @NotNull Mono<Void> load(long version, int page, @NotNull IntFunction<Mono<ConcurrentList<R>>> loader) {
+        this.reset(version);
+        CompletableFuture<ConcurrentList<R>> loaded = this.pages.get(page);
+
+        if (loaded != null && !loaded.isCompletedExceptionally())
+            return Mono.fromFuture(loaded).onErrorResume(throwable -> Mono.empty()).then();
+
+        return Mono.defer(() -> loader.apply(page))
+            .doOnNext(rendered -> {
+                // Discard pages rendered from a replaced filtered version
+                if (this.version != version)
+                    return;
+
+                CompletableFuture<ConcurrentList<R>> result = CompletableFuture.completedFuture(rendered);
+                this.pages.put(page, result);
+
+                if (this.version != version)
+                    this.pages.remove(page, result);
+            })
+            .then();
+    }
+
+    /**
+     * Renders the given page, reusing its loaded result when ready.
+     *
+     * @param version the filtered version the pages are rendered from
+     * @param page the page to render
+     * @param totalPages the number of pages
+     * @param prefetch true to load the adjacent pages in the background
+     * @param renderer renders the given page on the calling thread
+     * @param loader loads the given page
+     * @return the rendered page
+     */
+    public @NotNull ConcurrentList<R> render(
+        long version,
+        int page,
+        int totalPages,
+        boolean prefetch,
+        @NotNull IntFunction<ConcurrentList<R>> renderer,
+        @NotNull IntFunction<Mono<ConcurrentList<R>>> loader
+    ) {
+        this.reset(version);
+        CompletableFuture<ConcurrentList<R>> loaded = this.pages.get(page);
+        ConcurrentList<R> rendered = loaded != null && loaded.isDone() && !loaded.isCompletedExceptionally()
+            ? loaded.join()
+            : renderer.apply(page);
+
+        this.pages.keySet().removeIf(index -> Math.abs(index - page) > 1);
+        this.pages.put(page, CompletableFuture.completedFuture(rendered));
+
+        if (prefetch) {
+            for (int adjacent : new int[] { page + 1, page - 1 }) {
+                if (adjacent >= 1 && adjacent <= totalPages) {
+                    this.pages.computeIfAbsent(adjacent, index -> Mono.defer(() -> loader.apply(index))
+                        .subscribeOn(SCHEDULER)
+                        .toFuture()
+                    );
+                }
+            }
+        }
+
+        return rendered;
+    }
+
+    private void reset(long version) {
+        if (this.version != version) {
+            this.clear();
+            this.version = version;
+        }
+    }
+
+}
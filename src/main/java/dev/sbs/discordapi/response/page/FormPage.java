@@ -2,7 +2,6 @@ package dev.sbs.discordapi.response.page;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.discordapi.component.interaction.SelectMenu;
@@ -10,6 +9,7 @@ import dev.sbs.discordapi.component.scope.LayoutComponent;
 import dev.sbs.discordapi.response.Emoji;
 import dev.sbs.discordapi.response.handler.HistoryHandler;
 import dev.sbs.discordapi.response.handler.item.ItemHandler;
+import dev.sbs.discordapi.util.BuildFlags;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -242,7 +242,7 @@ public final class FormPage implements Page {
          */
         @Override
         public @NotNull FormPage build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new FormPage(
                 this.optionBuilder.build(),
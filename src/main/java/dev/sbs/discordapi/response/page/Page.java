@@ -1,6 +1,5 @@
 package dev.sbs.discordapi.response.page;
 
-import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
@@ -14,6 +13,7 @@ import dev.sbs.discordapi.response.Emoji;
 import dev.sbs.discordapi.response.handler.HistoryHandler;
 import dev.sbs.discordapi.response.handler.item.ItemHandler;
 import dev.sbs.discordapi.response.page.item.Item;
+import dev.sbs.discordapi.util.SharedList;
 import org.intellij.lang.annotations.PrintFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -84,8 +84,8 @@ public interface Page {
 
         @BuildFlag(nonNull = true)
         protected SelectMenu.Option.Builder optionBuilder = SelectMenu.Option.builder();
-        protected ConcurrentList<LayoutComponent> components = Concurrent.newList();
-        protected ConcurrentList<Emoji> reactions = Concurrent.newList();
+        protected final SharedList<LayoutComponent> components = new SharedList<>();
+        protected final SharedList<Emoji> reactions = new SharedList<>();
         @BuildFlag(nonNull = true)
         protected ItemHandler<?> itemHandler = ItemHandler.<Item>embed().build();
 
@@ -177,7 +177,7 @@ public interface Page {
          * @param components Collection of layout components to add.
          */
         public Builder withComponents(@NotNull Iterable<LayoutComponent> components) {
-            components.forEach(this.components::add);
+            this.components.withAll(components);
             return this;
         }
         
@@ -269,7 +269,7 @@ public interface Page {
          * @param reactions The reactions to add to the response.
          */
         public Builder withReactions(@NotNull Iterable<Emoji> reactions) {
-            reactions.forEach(this.reactions::add);
+            this.reactions.withAll(reactions);
             return this;
         }
 
@@ -1,12 +1,12 @@
 package dev.sbs.discordapi.response.page;
 
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.api.util.builder.BuildFlag;
 import dev.sbs.api.util.builder.ClassBuilder;
 import dev.sbs.discordapi.component.TextDisplay;
 import dev.sbs.discordapi.component.layout.Section;
 import dev.sbs.discordapi.response.page.item.field.FieldItem;
+import dev.sbs.discordapi.util.BuildFlags;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -209,7 +209,7 @@ public class Question<T> {
 
         @Override
         public @NotNull Question<T> build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             return new Question<>(
                 this.identifier,
@@ -1,8 +1,6 @@
 package dev.sbs.discordapi.response.page;
 
-import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
-import dev.sbs.api.reflection.Reflection;
 import dev.sbs.api.util.StringUtil;
 import dev.sbs.discordapi.component.interaction.SelectMenu;
 import dev.sbs.discordapi.component.scope.LayoutComponent;
@@ -11,6 +9,8 @@ import dev.sbs.discordapi.response.embed.Embed;
 import dev.sbs.discordapi.response.handler.HistoryHandler;
 import dev.sbs.discordapi.response.handler.item.ItemHandler;
 import dev.sbs.discordapi.response.page.item.Item;
+import dev.sbs.discordapi.util.BuildFlags;
+import dev.sbs.discordapi.util.SharedList;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -58,14 +58,17 @@ public final class TreePage implements Page, Subpages<TreePage> {
     }
 
     public static @NotNull TreePageBuilder from(@NotNull TreePage page) {
-        return new TreePageBuilder()
+        TreePageBuilder builder = new TreePageBuilder()
             .withOption(page.getOption())
-            .withComponents(page.getComponents())
-            .withReactions(page.getReactions())
             .withItemHandler(page.getItemHandler())
-            .withPages(page.getPages())
-            .withContent(page.getContent())
-            .withEmbeds(page.getEmbeds());
+            .withContent(page.getContent());
+
+        // Structurally Share Unmodified Lists
+        builder.components.share(page.getComponents());
+        builder.reactions.share(page.getReactions());
+        builder.pages.share(page.getPages());
+        builder.embeds.share(page.getEmbeds());
+        return builder;
     }
 
     @Override
@@ -87,8 +90,8 @@ public final class TreePage implements Page, Subpages<TreePage> {
     public static class TreePageBuilder extends Builder {
 
         private Optional<String> content = Optional.empty();
-        private final ConcurrentList<TreePage> pages = Concurrent.newList();
-        private final ConcurrentList<Embed> embeds = Concurrent.newList();
+        private final SharedList<TreePage> pages = new SharedList<>();
+        private final SharedList<Embed> embeds = new SharedList<>();
         private ItemHandler<?> itemHandler = ItemHandler.<Item>embed().build();
 
         /**
@@ -108,14 +111,25 @@ public final class TreePage implements Page, Subpages<TreePage> {
         public TreePageBuilder disableComponents(boolean recursive) {
             super.disableComponents(recursive);
 
-            if (recursive)
-                this.pages.forEach(page -> this.editPage(page.mutate().disableComponents(true).build()));
+            if (recursive) {
+                // Only Rebuild Subtrees With Components
+                for (int i = 0; i < this.pages.size(); i++) {
+                    TreePage page = this.pages.get(i);
+
+                    if (hasComponents(page))
+                        this.pages.set(i, page.mutate().disableComponents(true).build());
+                }
+            }
 
             // Remove Empty Layout Components
             this.components.removeIf(layoutComponent -> layoutComponent.getComponents().isEmpty());
             return this;
         }
 
+        private static boolean hasComponents(@NotNull TreePage page) {
+            return page.getComponents().notEmpty() || page.getPages().stream().anyMatch(TreePageBuilder::hasComponents);
+        }
+
         /**
          * Clear all pages from the {@link TreePage}.
          */
@@ -253,7 +267,7 @@ public final class TreePage implements Page, Subpages<TreePage> {
          * @param embeds Collection of embeds to add.
          */
         public TreePageBuilder withEmbeds(@NotNull Iterable<Embed> embeds) {
-            embeds.forEach(this.embeds::add);
+            this.embeds.withAll(embeds);
             return this;
         }
 
@@ -311,7 +325,7 @@ public final class TreePage implements Page, Subpages<TreePage> {
          * @param subPages Collection of pages to add.
          */
         public TreePageBuilder withPages(@NotNull Iterable<TreePage> subPages) {
-            subPages.forEach(this.pages::add);
+            this.pages.withAll(subPages);
             return this;
         }
 
@@ -355,7 +369,7 @@ public final class TreePage implements Page, Subpages<TreePage> {
          */
         @Override
         public @NotNull TreePage build() {
-            Reflection.validateFlags(this);
+            BuildFlags.validate(this);
 
             // Prevent Empty Rows
             this.components.removeIf(layoutComponent -> layoutComponent.getComponents().isEmpty());
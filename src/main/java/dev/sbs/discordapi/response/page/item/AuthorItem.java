@@ -26,14 +26,23 @@ public final class AuthorItem implements Item {
     private final @NotNull Optional<String> name;
     private final @NotNull Optional<String> iconUrl;
     private final @NotNull Optional<String> url;
+    @Getter(AccessLevel.NONE)
+    private final @NotNull VariableTemplate<AuthorItem> template = new VariableTemplate<>();
 
     @Override
     public @NotNull AuthorItem applyVariables(@NotNull ConcurrentMap<String, Object> variables) {
-        return this.mutate()
-            .withName(this.getName().map(value -> StringUtil.format(value, variables)))
-            .withIconUrl(this.getIconUrl().map(value -> StringUtil.format(value, variables)))
-            .withUrl(this.getUrl().map(value -> StringUtil.format(value, variables)))
-            .build();
+        return this.template.apply(
+            this,
+            variables,
+            values -> this.mutate()
+                .withName(values.get(0))
+                .withIconUrl(values.get(1))
+                .withUrl(values.get(2))
+                .build(),
+            this.getName(),
+            this.getIconUrl(),
+            this.getUrl()
+        );
     }
 
     public @NotNull Author asAuthor() {
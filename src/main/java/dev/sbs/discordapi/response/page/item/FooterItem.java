@@ -27,13 +27,21 @@ public final class FooterItem implements Item {
     private final @NotNull Optional<String> text;
     private final @NotNull Optional<String> iconUrl;
     private final @NotNull Optional<Instant> timestamp;
+    @Getter(AccessLevel.NONE)
+    private final @NotNull VariableTemplate<FooterItem> template = new VariableTemplate<>();
 
     @Override
     public @NotNull FooterItem applyVariables(@NotNull ConcurrentMap<String, Object> variables) {
-        return this.mutate()
-            .withText(this.getText().map(value -> StringUtil.format(value, variables)))
-            .withIconUrl(this.getIconUrl().map(value -> StringUtil.format(value, variables)))
-            .build();
+        return this.template.apply(
+            this,
+            variables,
+            values -> this.mutate()
+                .withText(values.get(0))
+                .withIconUrl(values.get(1))
+                .build(),
+            this.getText(),
+            this.getIconUrl()
+        );
     }
 
     public @NotNull Footer asFooter() {
@@ -23,12 +23,19 @@ public final class ThumbnailUrlItem implements Item {
     private final @NotNull SelectMenu.Option option;
     private final boolean editable;
     private final @NotNull Optional<String> value;
+    @Getter(AccessLevel.NONE)
+    private final @NotNull VariableTemplate<ThumbnailUrlItem> template = new VariableTemplate<>();
 
     @Override
     public @NotNull ThumbnailUrlItem applyVariables(@NotNull ConcurrentMap<String, Object> variables) {
-        return this.mutate()
-            .withValue(this.getValue().map(value -> StringUtil.format(value, variables)))
-            .build();
+        return this.template.apply(
+            this,
+            variables,
+            values -> this.mutate()
+                .withValue(values.get(0))
+                .build(),
+            this.getValue()
+        );
     }
 
     public static @NotNull Builder builder() {
@@ -24,13 +24,21 @@ public final class TitleItem implements Item {
     private final boolean editable;
     private final @NotNull Optional<String> text;
     private final @NotNull Optional<String> url;
+    @Getter(AccessLevel.NONE)
+    private final @NotNull VariableTemplate<TitleItem> template = new VariableTemplate<>();
 
     @Override
     public @NotNull TitleItem applyVariables(@NotNull ConcurrentMap<String, Object> variables) {
-        return this.mutate()
-            .withText(this.getText().map(value -> StringUtil.format(value, variables)))
-            .withUrl(this.getUrl().map(value -> StringUtil.format(value, variables)))
-            .build();
+        return this.template.apply(
+            this,
+            variables,
+            values -> this.mutate()
+                .withText(values.get(0))
+                .withUrl(values.get(1))
+                .build(),
+            this.getText(),
+            this.getUrl()
+        );
     }
 
     public static @NotNull Builder builder() {
@@ -0,0 +1,181 @@
+package dev.sbs.discordapi.response.page.item;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Precompiled {@code {NAME}} variable templates of the text properties of an {@link Item}.
+ *
+ * <p>
+ * The properties are compiled once into literal segments and variable slots,
+ * with every referenced variable resolved to an index into a single value
+ * array. Applying variables converts each referenced variable to its string
+ * once and returns the previously applied item when none of the strings
+ * changed, so mutable variable values are compared by what they render to.
+ * Otherwise the properties are rendered into a reused {@link StringBuilder}
+ * and the item is rebuilt. Items without variables are returned as is.
+ *
+ * <p>
+ * Variables missing from the applied map are left in place.
+ *
+ * @param <I> the item type
+ */
+public final class VariableTemplate<I extends Item> {
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+    private volatile @Nullable Compiled compiled;
+    private volatile @Nullable Applied<I> applied;
+
+    /**
+     * Applies the given variables to the given item properties.
+     *
+     * @param item the item owning the properties
+     * @param variables the variables to apply
+     * @param builder rebuilds the item from the rendered properties, in the given order
+     * @param properties the item properties, compiled on first use
+     * @return the given item if it has no variables, the previously applied item if no referenced variable changed, otherwise the rebuilt item
+     */
+    @SafeVarargs
+    public final @NotNull I apply(@NotNull I item, @NotNull Map<String, Object> variables, @NotNull Function<ConcurrentList<Optional<String>>, I> builder, @NotNull Optional<String>... properties) {
+        if (this.compiled == null)
+            this.compiled = Compiled.of(properties);
+
+        Compiled compiled = this.compiled;
+
+        if (compiled.getNames().length == 0)
+            return item;
+
+        String[] values = new String[compiled.getNames().length];
+
+        for (int i = 0; i < values.length; i++)
+            values[i] = Objects.toString(variables.get(compiled.getNames()[i]), null);
+
+        Applied<I> applied = this.applied;
+
+        if (applied != null && Arrays.equals(applied.getValues(), values))
+            return applied.getItem();
+
+        ConcurrentList<Optional<String>> rendered = Concurrent.newList();
+
+        for (int i = 0; i < properties.length; i++) {
+            Property property = compiled.getProperties()[i];
+            rendered.add(properties[i].map(__ -> property.render(values, compiled.getNames())));
+        }
+
+        I appliedItem = builder.apply(rendered);
+        this.applied = new Applied<>(values, appliedItem);
+        return appliedItem;
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Applied<I> {
+
+        private final @NotNull String[] values;
+        private final @NotNull I item;
+
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Compiled {
+
+        private final @NotNull String[] names;
+        private final @NotNull Property[] properties;
+
+        private static @NotNull Compiled of(@NotNull Optional<String>[] properties) {
+            ConcurrentList<String> names = Concurrent.newList();
+            Property[] compiled = new Property[properties.length];
+
+            for (int i = 0; i < properties.length; i++)
+                compiled[i] = Property.compile(properties[i].orElse(""), names);
+
+            return new Compiled(names.toArray(new String[0]), compiled);
+        }
+
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Property {
+
+        private final @NotNull String[] literals;
+        private final int[] slots;
+
+        private static @NotNull Property compile(@NotNull String template, @NotNull ConcurrentList<String> names) {
+            ConcurrentList<String> literals = Concurrent.newList();
+            ConcurrentList<Integer> slots = Concurrent.newList();
+            int literalStart = 0;
+            int open = template.indexOf('{');
+
+            while (open >= 0) {
+                int close = template.indexOf('}', open + 1);
+
+                if (close < 0)
+                    break;
+
+                String name = template.substring(open + 1, close);
+
+                if (isName(name)) {
+                    if (!names.contains(name))
+                        names.add(name);
+
+                    literals.add(template.substring(literalStart, open));
+                    slots.add(names.indexOf(name));
+                    literalStart = close + 1;
+                    open = template.indexOf('{', literalStart);
+                } else
+                    open = template.indexOf('{', open + 1);
+            }
+
+            literals.add(template.substring(literalStart));
+            return new Property(literals.toArray(new String[0]), slots.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        private static boolean isName(@NotNull String name) {
+            if (name.isEmpty())
+                return false;
+
+            for (int i = 0; i < name.length(); i++) {
+                char character = name.charAt(i);
+
+                if (!Character.isLetterOrDigit(character) && character != '_')
+                    return false;
+            }
+
+            return true;
+        }
+
+        private @NotNull String render(@NotNull String[] values, @NotNull String[] names) {
+            if (this.slots.length == 0)
+                return this.literals[0];
+
+            StringBuilder builder = BUFFER.get();
+            builder.setLength(0);
+
+            for (int i = 0; i < this.slots.length; i++) {
+                builder.append(this.literals[i]);
+                String value = values[this.slots[i]];
+
+                if (value != null)
+                    builder.append(value);
+                else
+                    builder.append('{').append(names[this.slots[i]]).append('}');
+            }
+
+            return builder.append(this.literals[this.slots.length]).toString();
+        }
+
+    }
+
+}
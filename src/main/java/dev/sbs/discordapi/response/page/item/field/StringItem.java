@@ -7,6 +7,7 @@ import dev.sbs.discordapi.component.interaction.SelectMenu;
 import dev.sbs.discordapi.response.Emoji;
 import dev.sbs.discordapi.response.embed.Field;
 import dev.sbs.discordapi.response.page.item.Item;
+import dev.sbs.discordapi.response.page.item.VariableTemplate;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -25,12 +26,19 @@ public class StringItem implements FieldItem<String> {
     private final boolean editable;
     private final boolean inline;
     private final @NotNull Optional<String> value;
+    @Getter(AccessLevel.NONE)
+    private final @NotNull VariableTemplate<StringItem> template = new VariableTemplate<>();
 
     @Override
     public @NotNull StringItem applyVariables(@NotNull ConcurrentMap<String, Object> variables) {
-        return this.mutate()
-            .withValue(this.getValue().map(value -> StringUtil.format(value, variables)))
-            .build();
+        return this.template.apply(
+            this,
+            variables,
+            values -> this.mutate()
+                .withValue(values.get(0))
+                .build(),
+            this.getValue()
+        );
     }
 
     public static @NotNull Builder builder() {
@@ -0,0 +1,155 @@
+package dev.sbs.discordapi.util;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.api.collection.concurrent.ConcurrentSet;
+import dev.sbs.api.reflection.Reflection;
+import dev.sbs.api.util.builder.BuildFlag;
+import dev.sbs.api.util.builder.ClassBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-class cached {@link BuildFlag} validation for {@link ClassBuilder ClassBuilders}.
+ *
+ * <p>
+ * The {@link BuildFlag} fields of a builder class are discovered by reflection
+ * once and compiled into {@link MethodHandle getters}. Every build reads the
+ * flagged values into a signature of the properties the flags constrain,
+ * their presence, emptiness and whether they are within the limit, and only
+ * runs {@link Reflection#validateFlags(Object)} for signatures that have not
+ * already passed validation for that class.
+ *
+ * <p>
+ * Invalid builders are always passed to {@link Reflection#validateFlags(Object)},
+ * so they fail with the same exception as before.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BuildFlags {
+
+    private static final ClassValue<Validator> VALIDATORS = new ClassValue<>() {
+        @Override
+        protected @NotNull Validator computeValue(@NotNull Class<?> type) {
+            return Validator.of(type);
+        }
+    };
+
+    /**
+     * Validates the {@link BuildFlag} fields of the given builder.
+     *
+     * @param builder the builder to validate
+     */
+    public static void validate(@NotNull Object builder) {
+        VALIDATORS.get(builder.getClass()).validate(builder);
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Validator {
+
+        private static final int BITS = 5;
+        private final @NotNull ConcurrentList<Flagged> fields;
+        private final @NotNull ConcurrentSet<BitSet> validated = Concurrent.newSet();
+
+        private static @NotNull Validator of(@NotNull Class<?> type) {
+            ConcurrentList<Flagged> fields = Concurrent.newList();
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    BuildFlag flag = field.getAnnotation(BuildFlag.class);
+
+                    if (flag == null)
+                        continue;
+
+                    try {
+                        field.setAccessible(true);
+                        fields.add(new Flagged(lookup.unreflectGetter(field), flag));
+                    } catch (ReflectiveOperationException | RuntimeException exception) {
+                        return new Validator(Concurrent.newUnmodifiableList()); // Always Validate Reflectively
+                    }
+                }
+            }
+
+            return new Validator(fields.toUnmodifiableList());
+        }
+
+        private void validate(@NotNull Object builder) {
+            BitSet signature = this.getSignature(builder);
+
+            if (signature == null || !this.validated.contains(signature)) {
+                Reflection.validateFlags(builder);
+
+                if (signature != null)
+                    this.validated.add(signature);
+            }
+        }
+
+        private @Nullable BitSet getSignature(@NotNull Object builder) {
+            if (this.fields.isEmpty())
+                return null;
+
+            BitSet signature = new BitSet(this.fields.size() * BITS);
+
+            for (int i = 0; i < this.fields.size(); i++) {
+                Flagged flagged = this.fields.get(i);
+                Object value;
+
+                try {
+                    value = flagged.getter.invoke(builder);
+                } catch (Throwable throwable) {
+                    return null;
+                }
+
+                int bit = i * BITS;
+                signature.set(bit, value != null);
+
+                if (value instanceof Optional<?> optional) {
+                    signature.set(bit + 1, optional.isPresent());
+                    value = optional.orElse(null);
+                }
+
+                int length = getLength(value);
+                signature.set(bit + 2, length == 0);
+                signature.set(bit + 3, length > flagged.flag.limit());
+                signature.set(bit + 4, value instanceof CharSequence sequence && sequence.toString().isBlank());
+            }
+
+            return signature;
+        }
+
+        private static int getLength(@Nullable Object value) {
+            if (value instanceof CharSequence sequence)
+                return sequence.length();
+            else if (value instanceof Collection<?> collection)
+                return collection.size();
+            else if (value instanceof Map<?, ?> map)
+                return map.size();
+            else if (value != null && value.getClass().isArray())
+                return Array.getLength(value);
+            else
+                return -1;
+        }
+
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Flagged {
+
+        private final @NotNull MethodHandle getter;
+        private final @NotNull BuildFlag flag;
+
+    }
+
+}
@@ -0,0 +1,256 @@
+package dev.sbs.discordapi.util;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.api.collection.concurrent.ConcurrentMap;
+import dev.sbs.api.reflection.Reflection;
+import dev.sbs.discordapi.DiscordBot;
+import dev.sbs.discordapi.command.DiscordCommand;
+import dev.sbs.discordapi.listener.DiscordListener;
+import discord4j.core.event.domain.Event;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Build-time index of the {@link DiscordListener} and {@link DiscordCommand} classes on the classpath.
+ *
+ * <p>
+ * Every module compiled with the {@code dev.sbs.discordapi.processor.DiscordIndexProcessor}
+ * annotation processor contributes a generated {@link Registry}, listed in
+ * {@value #RESOURCE}, which registers each of its concrete listener and command
+ * classes together with a constructor reference. Looking classes up in the index
+ * replaces scanning the classpath, and instantiating them through their factories
+ * replaces reflective construction. Listeners registered with their event type
+ * skip resolving it from their type arguments.
+ *
+ * <p>
+ * Packages without indexed classes are scanned as before, and classes without an
+ * accessible constructor are still instantiated reflectively.
+ */
+@Log4j2
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DiscordIndex {
+
+    /** The classpath resource listing the generated registries. */
+    public static final @NotNull String RESOURCE = "META-INF/discordapi/index";
+    private static volatile @Nullable DiscordIndex instance;
+
+    private final @NotNull ConcurrentList<Class<? extends DiscordListener>> listeners;
+    private final @NotNull ConcurrentList<Class<? extends DiscordCommand>> commands;
+    private final @NotNull ConcurrentMap<Class<?>, Function<DiscordBot, ?>> factories;
+    private final @NotNull ConcurrentMap<Class<?>, Class<? extends Event>> eventClasses;
+
+    /**
+     * The index of every registry on the classpath, loaded on first use.
+     *
+     * @return the loaded index
+     */
+    public static @NotNull DiscordIndex get() {
+        if (instance == null) {
+            synchronized (DiscordIndex.class) {
+                if (instance == null)
+                    instance = load(DiscordIndex.class.getClassLoader());
+            }
+        }
+
+        return instance;
+    }
+
+    private static @NotNull DiscordIndex load(@NotNull ClassLoader classLoader) {
+        Entries entries = new Entries(classLoader);
+
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                        String registry = line.trim();
+
+                        if (registry.isEmpty() || registry.startsWith("#"))
+                            continue;
+
+                        try {
+                            ((Registry) Class.forName(registry, true, classLoader).getDeclaredConstructor().newInstance()).register(entries);
+                        } catch (ReflectiveOperationException | ClassCastException | LinkageError exception) {
+                            log.warn("Unable to load discord index registry '{}'", registry, exception);
+                        }
+                    }
+                }
+            }
+        } catch (IOException exception) {
+            log.warn("Unable to read discord index", exception);
+        }
+
+        return new DiscordIndex(
+            entries.listeners.toUnmodifiableList(),
+            entries.commands.toUnmodifiableList(),
+            entries.factories,
+            entries.eventClasses
+        );
+    }
+
+    /**
+     * The indexed command classes in the given package and its subpackages.
+     *
+     * @param packagePath the package to look up
+     * @return the indexed commands, empty if the package has none
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull ConcurrentList<Class<DiscordCommand>> getCommands(@NotNull String packagePath) {
+        return this.commands.stream()
+            .filter(type -> isInPackage(type, packagePath))
+            .map(type -> (Class<DiscordCommand>) type)
+            .collect(Concurrent.toUnmodifiableList());
+    }
+
+    /**
+     * The indexed event type of the given listener class.
+     *
+     * @param type the listener class
+     * @return the indexed event type, empty if the listener was not indexed with one
+     * @param <T> the event type
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Event> @NotNull Optional<Class<T>> getEventClass(@NotNull Class<?> type) {
+        return Optional.ofNullable((Class<T>) this.eventClasses.get(type));
+    }
+
+    /**
+     * The indexed listener classes in the given package and its subpackages.
+     *
+     * @param packagePath the package to look up
+     * @return the indexed listeners, empty if the package has none
+     */
+    public @NotNull ConcurrentList<Class<? extends DiscordListener>> getListeners(@NotNull String packagePath) {
+        return this.listeners.stream()
+            .filter(type -> isInPackage(type, packagePath))
+            .collect(Concurrent.toUnmodifiableList());
+    }
+
+    /**
+     * Creates a new instance of the given listener or command class, using its
+     * indexed factory when available.
+     *
+     * @param type the class to instantiate
+     * @param discordBot the bot to pass to the constructor
+     * @return the created instance
+     * @param <T> the instance type
+     */
+    public <T> @NotNull T newInstance(@NotNull Class<T> type, @NotNull DiscordBot discordBot) {
+        Function<DiscordBot, ?> factory = this.factories.get(type);
+        return factory != null ? type.cast(factory.apply(discordBot)) : new Reflection<>(type).newInstance(discordBot);
+    }
+
+    private static boolean isInPackage(@NotNull Class<?> type, @NotNull String packagePath) {
+        String packageName = type.getPackageName();
+        return packageName.equals(packagePath) || packageName.startsWith(packagePath + ".");
+    }
+
+    /**
+     * Generated registration of the listener and command classes of a single module.
+     */
+    public interface Registry {
+
+        /**
+         * Registers every indexed class of the module.
+         *
+         * @param entries the index entries to register with
+         */
+        void register(@NotNull Entries entries);
+
+    }
+
+    /**
+     * Index entries collected from the {@link Registry registries}.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Entries {
+
+        private final @NotNull ClassLoader classLoader;
+        private final @NotNull ConcurrentList<Class<? extends DiscordListener>> listeners = Concurrent.newList();
+        private final @NotNull ConcurrentList<Class<? extends DiscordCommand>> commands = Concurrent.newList();
+        private final @NotNull ConcurrentMap<Class<?>, Function<DiscordBot, ?>> factories = Concurrent.newMap();
+        private final @NotNull ConcurrentMap<Class<?>, Class<? extends Event>> eventClasses = Concurrent.newMap();
+
+        /**
+         * Registers a command class with its factory.
+         *
+         * @param type the command class
+         * @param factory creates the command
+         * @param <T> the command type
+         */
+        public <T extends DiscordCommand> void command(@NotNull Class<T> type, @NotNull Function<DiscordBot, T> factory) {
+            this.commands.add(type);
+            this.factories.put(type, factory);
+        }
+
+        /**
+         * Registers an inaccessible command class by its binary name.
+         *
+         * @param className the binary class name
+         */
+        public void command(@NotNull String className) {
+            this.forName(className, DiscordCommand.class).ifPresent(this.commands::add);
+        }
+
+        /**
+         * Registers a listener class with its factory.
+         *
+         * @param type the listener class
+         * @param factory creates the listener
+         * @param <T> the listener type
+         */
+        public <T extends DiscordListener> void listener(@NotNull Class<T> type, @NotNull Function<DiscordBot, T> factory) {
+            this.listeners.add(type);
+            this.factories.put(type, factory);
+        }
+
+        /**
+         * Registers a listener class with its factory and event type.
+         *
+         * @param type the listener class
+         * @param factory creates the listener
+         * @param eventClass the event type the listener handles
+         * @param <T> the listener type
+         */
+        public <T extends DiscordListener> void listener(@NotNull Class<T> type, @NotNull Function<DiscordBot, T> factory, @NotNull Class<? extends Event> eventClass) {
+            this.listener(type, factory);
+            this.eventClasses.put(type, eventClass);
+        }
+
+        /**
+         * Registers an inaccessible listener class by its binary name.
+         *
+         * @param className the binary class name
+         */
+        public void listener(@NotNull String className) {
+            this.forName(className, DiscordListener.class).ifPresent(this.listeners::add);
+        }
+
+        private <T> @NotNull Optional<Class<? extends T>> forName(@NotNull String className, @NotNull Class<T> baseType) {
+            try {
+                return Optional.of(Class.forName(className, false, this.classLoader).asSubclass(baseType));
+            } catch (ClassNotFoundException | ClassCastException | LinkageError exception) {
+                log.warn("Unable to load indexed class '{}'", className, exception);
+                return Optional.empty();
+            }
+        }
+
+    }
+
+}
@@ -93,7 +93,7 @@ public abstract class DiscordReference {
      * @return an unmodifiable list of five emojis representing the progress bar
      */
     protected final @NotNull ConcurrentList<Emoji> buildProgressBar(@NotNull ProgressBar progressBar, double percentage) {
-        return progressBar.render(percentage, this.getDiscordBot().getEmojiHandler().getEmojis());
+        return progressBar.render(percentage, this.getDiscordBot().getEmojiHandler().getIndex());
     }
 
     /**
@@ -105,8 +105,8 @@ public abstract class DiscordReference {
     protected final @NotNull Optional<Emoji> getEmoji(@NotNull String name) {
         return this.getDiscordBot()
             .getEmojiHandler()
-            .getEmojis()
-            .matchFirst(emoji -> emoji.getName().equalsIgnoreCase(name));
+            .getIndex()
+            .get(name);
     }
 
     /**
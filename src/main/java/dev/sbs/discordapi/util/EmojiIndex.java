@@ -0,0 +1,89 @@
+package dev.sbs.discordapi.util;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.discordapi.handler.EmojiHandler;
+import dev.sbs.discordapi.response.Emoji;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable case-insensitive index over a list of {@link Emoji Emojis}.
+ *
+ * <p>
+ * Emojis are hashed by their lower-cased name, keeping the first emoji of each
+ * name, and every {@link ProgressBar} step of every color is resolved once into
+ * a ready list of its five emojis. {@link EmojiHandler} replaces its index as a
+ * whole whenever its emojis are reloaded.
+ */
+public final class EmojiIndex {
+
+    private static final @NotNull EmojiIndex EMPTY = new EmojiIndex(Concurrent.newUnmodifiableList());
+
+    /** The indexed emojis, in their original order. */
+    @Getter
+    private final @NotNull ConcurrentList<Emoji> emojis;
+    private final @NotNull Map<String, Emoji> names = new HashMap<>();
+    private final @Nullable ConcurrentList<Emoji>[][] progressBars;
+
+    @SuppressWarnings("unchecked")
+    private EmojiIndex(@NotNull ConcurrentList<Emoji> emojis) {
+        this.emojis = emojis;
+        emojis.forEach(emoji -> this.names.putIfAbsent(normalize(emoji.getName()), emoji));
+        this.progressBars = new ConcurrentList[ProgressBar.values().length][];
+
+        for (ProgressBar progressBar : ProgressBar.values())
+            this.progressBars[progressBar.ordinal()] = progressBar.compile(this);
+    }
+
+    /**
+     * The index of no emojis.
+     *
+     * @return the empty index
+     */
+    public static @NotNull EmojiIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Indexes the given emojis.
+     *
+     * @param emojis the unmodifiable emojis to index
+     * @return the built index
+     */
+    public static @NotNull EmojiIndex of(@NotNull ConcurrentList<Emoji> emojis) {
+        return emojis.isEmpty() ? EMPTY : new EmojiIndex(emojis);
+    }
+
+    /**
+     * Finds the emoji with the given name, ignoring case.
+     *
+     * @param name the emoji name to look up
+     * @return the matching emoji, or empty if not found
+     */
+    public @NotNull Optional<Emoji> get(@NotNull String name) {
+        return Optional.ofNullable(this.names.get(normalize(name)));
+    }
+
+    /**
+     * The precomputed emojis of the given progress bar step.
+     *
+     * @param progressBar the progress bar color
+     * @param step the progress bar step
+     * @return the five step emojis, or null if any of them is missing
+     */
+    @Nullable ConcurrentList<Emoji> getProgressBar(@NotNull ProgressBar progressBar, int step) {
+        return this.progressBars[progressBar.ordinal()][step];
+    }
+
+    private static @NotNull String normalize(@NotNull String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -4,7 +4,10 @@ import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
 import dev.sbs.discordapi.response.Emoji;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 /**
@@ -20,42 +23,97 @@ public enum ProgressBar {
     RED;
 
     private static final int[] PIECE = { 1, 2, 2, 2, 3 };
+    private static final int STEPS = 11;
 
     /**
      * Renders a five-segment progress bar for the given percentage by
      * looking up the appropriate emojis from the provided list.
      *
+     * <p>
+     * Only the five emojis of the rendered step are looked up, prefer
+     * {@link #render(double, EmojiIndex)} when rendering repeatedly.
+     *
      * @param percentage the completion percentage (0-100)
      * @param emojis the cached application emoji list
      * @return an unmodifiable list of five emojis representing the progress bar
      */
     public @NotNull ConcurrentList<Emoji> render(double percentage, @NotNull ConcurrentList<Emoji> emojis) {
-        int step = Math.clamp((int) (percentage / 10), 0, 10);
+        return this.resolve(getStep(percentage), name -> emojis.stream()
+            .filter(emoji -> emoji.getName().equalsIgnoreCase(name))
+            .findFirst()
+        );
+    }
 
-        return IntStream.range(0, 5)
-            .mapToObj(position -> resolveEmoji(step, position, emojis))
+    /**
+     * Renders a five-segment progress bar for the given percentage from the
+     * steps precomputed by the provided index.
+     *
+     * @param percentage the completion percentage (0-100)
+     * @param index the cached application emoji index
+     * @return an unmodifiable list of five emojis representing the progress bar
+     */
+    public @NotNull ConcurrentList<Emoji> render(double percentage, @NotNull EmojiIndex index) {
+        int step = getStep(percentage);
+        ConcurrentList<Emoji> emojis = index.getProgressBar(this, step);
+
+        // Steps are only missing when an emoji is, resolving reports which
+        return emojis != null ? emojis : this.resolve(step, index::get);
+    }
+
+    /**
+     * Resolves the emojis of every step of this progress bar.
+     *
+     * @param index the emoji index to resolve from
+     * @return the five emojis of each step, null for steps with missing emojis
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable ConcurrentList<Emoji>[] compile(@NotNull EmojiIndex index) {
+        ConcurrentList<Emoji>[] steps = new ConcurrentList[STEPS];
+
+        for (int step = 0; step < STEPS; step++) {
+            Emoji[] emojis = new Emoji[PIECE.length];
+
+            for (int position = 0; position < PIECE.length; position++) {
+                emojis[position] = index.get(this.getName(step, position)).orElse(null);
+
+                if (emojis[position] == null) {
+                    emojis = null;
+                    break;
+                }
+            }
+
+            if (emojis != null)
+                steps[step] = Concurrent.newList(emojis).toUnmodifiableList();
+        }
+
+        return steps;
+    }
+
+    private @NotNull ConcurrentList<Emoji> resolve(int step, @NotNull Function<String, Optional<Emoji>> lookup) {
+        return IntStream.range(0, PIECE.length)
+            .mapToObj(position -> {
+                String name = this.getName(step, position);
+                return lookup.apply(name).orElseThrow(() -> new IllegalStateException("Emoji not found: '%s'".formatted(name)));
+            })
             .collect(Concurrent.toUnmodifiableList());
     }
 
-    private @NotNull Emoji resolveEmoji(int step, int position, @NotNull ConcurrentList<Emoji> emojis) {
+    private static int getStep(double percentage) {
+        return Math.clamp((int) (percentage / 10), 0, STEPS - 1);
+    }
+
+    private @NotNull String getName(int step, int position) {
         int piece = PIECE[position];
         int startStep = 2 * position + 1;
-        String name;
 
         if (step < startStep)
-            name = String.format("EMPTY_PB_%d_HF", piece);
+            return "EMPTY_PB_" + piece + "_HF";
         else if (step == startStep)
-            name = String.format("%s_PB_%d_HF", this.name(), piece);
+            return this.name() + "_PB_" + piece + "_HF";
         else if (step == startStep + 1)
-            name = String.format("%s_PB_%d_F", this.name(), piece);
+            return this.name() + "_PB_" + piece + "_F";
         else
-            name = String.format("%s_PB_%d_C", this.name(), piece);
-
-        String emojiName = name;
-        return emojis.stream()
-            .filter(emoji -> emoji.getName().equalsIgnoreCase(emojiName))
-            .findFirst()
-            .orElseThrow(() -> new IllegalStateException("Emoji not found: '%s'".formatted(emojiName)));
+            return this.name() + "_PB_" + piece + "_C";
     }
 
 }
@@ -0,0 +1,121 @@
+package dev.sbs.discordapi.util;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Copy-on-write builder list over the unmodifiable lists of built models.
+ *
+ * <p>
+ * Builders created from an existing model {@link #share share} its unmodifiable
+ * lists instead of copying them, and a shared list is only copied on its first
+ * modification. {@link #toUnmodifiableList()} freezes the list and returns the
+ * shared instance when it was never modified, so rebuilding a model after
+ * editing one part of it reuses every untouched list, and the elements within it.
+ *
+ * <p>
+ * Adding every element of another {@code SharedList} to an empty list shares
+ * its frozen contents as well.
+ *
+ * @param <E> the element type
+ */
+public final class SharedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private @NotNull ConcurrentList<E> list = Concurrent.newList();
+    private boolean shared;
+
+    /**
+     * Shares the given unmodifiable list, or adds its elements if this list is not empty.
+     *
+     * @param source the unmodifiable list to share
+     * @return this list
+     */
+    public @NotNull SharedList<E> share(@NotNull ConcurrentList<E> source) {
+        if (this.isEmpty()) {
+            this.list = source;
+            this.shared = true;
+            this.modCount++;
+        } else
+            this.addAll(source);
+
+        return this;
+    }
+
+    /**
+     * Adds every given element, sharing the contents of another {@code SharedList} when this list is empty.
+     *
+     * @param values the elements to add
+     * @return this list
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull SharedList<E> withAll(@NotNull Iterable<? extends E> values) {
+        if (values instanceof SharedList<? extends E> other)
+            return this.share((ConcurrentList<E>) other.toUnmodifiableList()); // Read Only
+
+        values.forEach(this::add);
+        return this;
+    }
+
+    @Override
+    public E get(int index) {
+        return this.list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.list.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return this.mutable().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        this.mutable().add(index, element);
+        this.modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = this.mutable().remove(index);
+        this.modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        this.list = Concurrent.newList();
+        this.shared = false;
+        this.modCount++;
+    }
+
+    /**
+     * Freezes this list, it is copied again on its next modification.
+     *
+     * @return the unmodifiable contents of this list
+     */
+    public @NotNull ConcurrentList<E> toUnmodifiableList() {
+        if (!this.shared) {
+            this.list = this.list.toUnmodifiableList();
+            this.shared = true;
+        }
+
+        return this.list;
+    }
+
+    private @NotNull ConcurrentList<E> mutable() {
+        if (this.shared) {
+            this.list = Concurrent.newList(this.list);
+            this.shared = false;
+        }
+
+        return this.list;
+    }
+
+}
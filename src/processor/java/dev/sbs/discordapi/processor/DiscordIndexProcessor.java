@@ -0,0 +1,309 @@
+package dev.sbs.discordapi.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Generates the build-time index of the {@code DiscordListener} and {@code DiscordCommand} classes of a module.
+ *
+ * <p>
+ * Every concrete listener and command class among the root elements is collected,
+ * and a {@code GeneratedDiscordIndex} registry is generated in their common package
+ * in the first round that finds any, so the generated source is compiled and
+ * processed like any other. Without a common package the registry is generated in
+ * the first indexed package, and classes in the unnamed package, which cannot be
+ * referenced from it, are left to classpath scanning. The registry registers each
+ * class with a constructor reference when it is publicly constructible, or by name
+ * otherwise, and is listed in {@code META-INF/discordapi/index}. Classes only
+ * introduced by sources other processors generate in later rounds cannot be added
+ * to the written registry and are reported as warnings instead.
+ *
+ * <p>
+ * Constructible listeners are registered with the event type resolved from their
+ * {@code DiscordListener} type argument, so listeners skip resolving it reflectively.
+ * Commands without a {@code @Structure} annotation, which are ignored when
+ * registering commands, are reported as warnings. The annotation values themselves
+ * are still read from the loaded command class, as annotation lookups are cached
+ * by the JVM and copying every attribute into the registry would duplicate them.
+ *
+ * <p>
+ * The processor is registered with Gradle as {@code aggregating}, and every
+ * indexed class is passed as an originating element of the generated files.
+ *
+ * <p>
+ * Types are referenced by name only, so the processor has no dependency on the
+ * library it indexes.
+ */
+@SupportedAnnotationTypes("*")
+public final class DiscordIndexProcessor extends AbstractProcessor {
+
+    private static final String DISCORD_BOT = "dev.sbs.discordapi.DiscordBot";
+    private static final String DISCORD_LISTENER = "dev.sbs.discordapi.listener.DiscordListener";
+    private static final String DISCORD_COMMAND = "dev.sbs.discordapi.command.DiscordCommand";
+    private static final String STRUCTURE = "dev.sbs.discordapi.command.Structure";
+    private static final String REGISTRY = "dev.sbs.discordapi.util.DiscordIndex.Registry";
+    private static final String ENTRIES = "dev.sbs.discordapi.util.DiscordIndex.Entries";
+    private static final String RESOURCE = "META-INF/discordapi/index";
+    private static final String CLASS_NAME = "GeneratedDiscordIndex";
+
+    private final Map<String, Entry> entries = new TreeMap<>();
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver())
+            return false;
+
+        TypeElement listenerType = this.processingEnv.getElementUtils().getTypeElement(DISCORD_LISTENER);
+        TypeElement commandType = this.processingEnv.getElementUtils().getTypeElement(DISCORD_COMMAND);
+
+        if (listenerType == null && commandType == null)
+            return false;
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements()))
+            this.collect(type, listenerType, commandType);
+
+        if (!this.generated && !this.entries.isEmpty()) {
+            this.generated = true;
+            this.generate();
+        }
+
+        return false;
+    }
+
+    private void collect(TypeElement type, TypeElement listenerType, TypeElement commandType) {
+        for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements()))
+            this.collect(member, listenerType, commandType);
+
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT))
+            return;
+
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))
+            return;
+
+        String kind;
+
+        if (this.isSubtype(type, listenerType))
+            kind = "listener";
+        else if (this.isSubtype(type, commandType))
+            kind = "command";
+        else
+            return;
+
+        String binaryName = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+
+        if (this.processingEnv.getElementUtils().getPackageOf(type).isUnnamed()) {
+            this.processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.WARNING,
+                "The " + kind + " '" + binaryName + "' is in the unnamed package and is not included in the discord index",
+                type
+            );
+            return;
+        }
+
+        if (kind.equals("command") && !this.hasAnnotation(type, STRUCTURE)) {
+            this.processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.WARNING,
+                "The command '" + binaryName + "' is missing the @Structure annotation and will be ignored",
+                type
+            );
+        }
+
+        if (this.generated) {
+            this.processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.WARNING,
+                "Generated " + kind + " '" + binaryName + "' is not included in the discord index",
+                type
+            );
+            return;
+        }
+
+        String canonicalName = this.isAccessible(type) ? type.getQualifiedName().toString() : null;
+        String eventName = canonicalName != null && kind.equals("listener") ? this.getEventType(type, listenerType) : null;
+        this.entries.put(binaryName, new Entry(kind, binaryName, canonicalName, eventName, type));
+    }
+
+    private boolean hasAnnotation(TypeElement type, String annotationName) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName))
+                return true;
+        }
+
+        return false;
+    }
+
+    private String getEventType(TypeElement type, TypeElement listenerType) {
+        Types types = this.processingEnv.getTypeUtils();
+        TypeMirror listenerErasure = types.erasure(listenerType.asType());
+        TypeMirror current = type.asType();
+
+        // Walk the superclasses, substituting type arguments along the way
+        while (current.getKind() == TypeKind.DECLARED) {
+            TypeMirror superclass = null;
+
+            for (TypeMirror supertype : types.directSupertypes(current)) {
+                if (((DeclaredType) supertype).asElement().getKind() == ElementKind.CLASS) {
+                    superclass = supertype;
+                    break;
+                }
+            }
+
+            if (superclass == null)
+                return null;
+
+            if (types.isSameType(types.erasure(superclass), listenerErasure)) {
+                List<? extends TypeMirror> arguments = ((DeclaredType) superclass).getTypeArguments();
+
+                if (arguments.size() != 1 || arguments.get(0).getKind() != TypeKind.DECLARED)
+                    return null;
+
+                TypeElement event = (TypeElement) ((DeclaredType) arguments.get(0)).asElement();
+                return this.isPublic(event) ? event.getQualifiedName().toString() : null;
+            }
+
+            current = superclass;
+        }
+
+        return null;
+    }
+
+    private boolean isPublic(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC))
+                return false;
+        }
+
+        return true;
+    }
+
+    private boolean isSubtype(TypeElement type, TypeElement baseType) {
+        if (baseType == null)
+            return false;
+
+        TypeMirror erasure = this.processingEnv.getTypeUtils().erasure(baseType.asType());
+        return this.processingEnv.getTypeUtils().isSubtype(this.processingEnv.getTypeUtils().erasure(type.asType()), erasure);
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        if (!this.isPublic(type))
+            return false;
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC)
+                && constructor.getParameters().size() == 1
+                && this.processingEnv.getTypeUtils().erasure(constructor.getParameters().get(0).asType()).toString().equals(DISCORD_BOT))
+                return true;
+        }
+
+        return false;
+    }
+
+    private void generate() {
+        String packageName = this.getCommonPackage();
+        String qualifiedName = packageName + "." + CLASS_NAME;
+        Element[] originatingElements = this.entries.values()
+            .stream()
+            .map(entry -> entry.element)
+            .toArray(Element[]::new);
+
+        try {
+            JavaFileObject source = this.processingEnv.getFiler().createSourceFile(qualifiedName, originatingElements);
+
+            try (Writer writer = source.openWriter()) {
+                writer.write("package " + packageName + ";\n\n");
+
+                writer.write("@javax.annotation.processing.Generated(\"" + DiscordIndexProcessor.class.getName() + "\")\n");
+                writer.write("public final class " + CLASS_NAME + " implements " + REGISTRY + " {\n\n");
+                writer.write("    @Override\n");
+                writer.write("    public void register(" + ENTRIES + " entries) {\n");
+
+                for (Entry entry : this.entries.values()) {
+                    if (entry.eventName != null)
+                        writer.write(String.format("        entries.%s(%s.class, %s::new, %s.class);%n", entry.kind, entry.canonicalName, entry.canonicalName, entry.eventName));
+                    else if (entry.canonicalName != null)
+                        writer.write(String.format("        entries.%s(%s.class, %s::new);%n", entry.kind, entry.canonicalName, entry.canonicalName));
+                    else
+                        writer.write(String.format("        entries.%s(\"%s\");%n", entry.kind, entry.binaryName));
+                }
+
+                writer.write("    }\n\n");
+                writer.write("}\n");
+            }
+
+            FileObject resource = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE, originatingElements);
+
+            try (Writer writer = resource.openWriter()) {
+                writer.write(qualifiedName + "\n");
+            }
+        } catch (IOException exception) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to generate discord index: " + exception.getMessage());
+        }
+    }
+
+    private String getCommonPackage() {
+        String first = null;
+        String common = null;
+
+        for (Entry entry : this.entries.values()) {
+            String packageName = this.processingEnv.getElementUtils().getPackageOf(entry.element).getQualifiedName().toString();
+
+            if (common == null)
+                first = common = packageName;
+            else {
+                while (!common.isEmpty() && !packageName.equals(common) && !packageName.startsWith(common + "."))
+                    common = common.contains(".") ? common.substring(0, common.lastIndexOf('.')) : "";
+            }
+        }
+
+        // Unrelated top-level packages share no common package
+        return common.isEmpty() ? first : common;
+    }
+
+    private static final class Entry {
+
+        private final String kind;
+        private final String binaryName;
+        private final String canonicalName;
+        private final String eventName;
+        private final TypeElement element;
+
+        private Entry(String kind, String binaryName, String canonicalName, String eventName, TypeElement element) {
+            this.kind = kind;
+            this.binaryName = binaryName;
+            this.canonicalName = canonicalName;
+            this.eventName = eventName;
+            this.element = element;
+        }
+
+    }
+
+}
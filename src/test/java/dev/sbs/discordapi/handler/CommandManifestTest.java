@@ -0,0 +1,146 @@
+package dev.sbs.discordapi.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import discord4j.common.JacksonResources;
+import discord4j.core.object.command.ApplicationCommand;
+import discord4j.core.object.command.ApplicationCommandOption;
+import discord4j.discordjson.json.ApplicationCommandOptionData;
+import discord4j.discordjson.json.ApplicationCommandRequest;
+import discord4j.discordjson.json.ImmutableApplicationCommandOptionData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandManifestTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JacksonResources.create().getObjectMapper();
+
+    private static ApplicationCommandOptionData option(ApplicationCommandOption.Type type, String name, ApplicationCommandOptionData... options) {
+        ImmutableApplicationCommandOptionData.Builder builder = ApplicationCommandOptionData.builder()
+            .type(type.getValue())
+            .name(name)
+            .description(name);
+
+        if (options.length > 0)
+            builder.options(List.of(options));
+
+        return builder.build();
+    }
+
+    private static ApplicationCommandRequest command(String name, ApplicationCommandOptionData... options) {
+        return ApplicationCommandRequest.builder()
+            .name(name)
+            .description(name)
+            .type(ApplicationCommand.Type.CHAT_INPUT.getValue())
+            .options(List.of(options))
+            .build();
+    }
+
+    private static ApplicationCommandOptionData parameter(String name) {
+        return option(ApplicationCommandOption.Type.STRING, name);
+    }
+
+    private static ApplicationCommandOptionData subcommand(String name, ApplicationCommandOptionData... parameters) {
+        return option(ApplicationCommandOption.Type.SUB_COMMAND, name, parameters);
+    }
+
+    private static ApplicationCommandOptionData group(String name, ApplicationCommandOptionData... subcommands) {
+        return option(ApplicationCommandOption.Type.SUB_COMMAND_GROUP, name, subcommands);
+    }
+
+    private static String hash(long applicationId, ApplicationCommandRequest... requests) throws JsonProcessingException {
+        return CommandManifest.hash(OBJECT_MAPPER, applicationId, List.of(requests));
+    }
+
+    @Test
+    void commandAndSubcommandOrder_doesNotChangeHash() throws JsonProcessingException {
+        String hash = hash(
+            1,
+            command("alpha", subcommand("one", parameter("x"), parameter("y")), subcommand("two")),
+            command("beta", group("settings", subcommand("get"), subcommand("set", parameter("value")))),
+            command("gamma", parameter("a"), parameter("b"))
+        );
+
+        assertEquals(hash, hash(
+            1,
+            command("gamma", parameter("a"), parameter("b")),
+            command("beta", group("settings", subcommand("set", parameter("value")), subcommand("get"))),
+            command("alpha", subcommand("two"), subcommand("one", parameter("x"), parameter("y")))
+        ));
+    }
+
+    @Test
+    void parameterOrder_changesHash() throws JsonProcessingException {
+        assertNotEquals(
+            hash(1, command("gamma", parameter("a"), parameter("b"))),
+            hash(1, command("gamma", parameter("b"), parameter("a")))
+        );
+        assertNotEquals(
+            hash(1, command("alpha", subcommand("one", parameter("x"), parameter("y")))),
+            hash(1, command("alpha", subcommand("one", parameter("y"), parameter("x"))))
+        );
+    }
+
+    @Test
+    void hash_isBoundToTheApplication() throws JsonProcessingException {
+        assertEquals(hash(1, command("alpha")), hash(1, command("alpha")));
+        assertNotEquals(hash(1, command("alpha")), hash(2, command("alpha")));
+    }
+
+    @Test
+    void recordedCommands_requireTheSameHash(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("commands.properties");
+        Files.writeString(file, String.join("\n",
+            "global.hash=abc",
+            "global.command.1.alpha=100",
+            "global.command.2.Inspect\\ User=101",
+            "42.hash=def",
+            "42.command.1.beta=200",
+            "7.hash=broken",
+            "7.command.1.gamma=not-an-id"
+        ), StandardCharsets.UTF_8);
+
+        CommandManifest manifest = CommandManifest.load(Optional.of(file));
+        ConcurrentList<CommandManifest.Command> global = manifest.getCommands("global", "abc").orElseThrow();
+
+        assertEquals(2, global.size());
+        assertTrue(global.stream().anyMatch(command -> command.getName().equals("Inspect User") && command.getType() == 2 && command.getId() == 101));
+        assertEquals(1, manifest.getCommands("42", "def").orElseThrow().size());
+        assertTrue(manifest.getCommands("global", "changed").isEmpty());
+        assertTrue(manifest.getCommands("7", "broken").isEmpty());
+        assertTrue(manifest.getCommands("unknown", "abc").isEmpty());
+    }
+
+    @Test
+    void savedCommands_surviveReload(@TempDir Path directory) throws IOException {
+        Path source = directory.resolve("source.properties");
+        Files.writeString(source, "global.hash=abc\nglobal.command.1.alpha=100\n", StandardCharsets.UTF_8);
+        ConcurrentList<CommandManifest.Command> commands = CommandManifest.load(Optional.of(source)).getCommands("global", "abc").orElseThrow();
+
+        Path file = directory.resolve("nested").resolve("commands.properties");
+        CommandManifest manifest = CommandManifest.load(Optional.of(file));
+        manifest.save("global", "abc", commands);
+        manifest.save("42", "def", commands);
+
+        CommandManifest reloaded = CommandManifest.load(Optional.of(file));
+        CommandManifest.Command command = reloaded.getCommands("42", "def").orElseThrow().get(0);
+
+        assertEquals("alpha", command.getName());
+        assertEquals(1, command.getType());
+        assertEquals(100, command.getId());
+        assertTrue(reloaded.getCommands("global", "abc").isPresent());
+    }
+
+}
@@ -0,0 +1,402 @@
+package dev.sbs.discordapi.handler.response;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.discordapi.DiscordBot;
+import dev.sbs.discordapi.component.media.Attachment;
+import dev.sbs.discordapi.context.EventContext;
+import dev.sbs.discordapi.handler.DiscordConfig;
+import dev.sbs.discordapi.response.Response;
+import dev.sbs.discordapi.response.page.TreePage;
+import discord4j.common.util.Snowflake;
+import discord4j.core.event.domain.Event;
+import discord4j.core.object.entity.Guild;
+import discord4j.core.object.entity.User;
+import discord4j.core.object.entity.channel.MessageChannel;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseHandlerTest {
+
+    private static final Snowflake CHANNEL = Snowflake.of(100);
+    private static final Snowflake OTHER_CHANNEL = Snowflake.of(101);
+    private static final Snowflake USER = Snowflake.of(200);
+    private static final Snowflake OTHER_USER = Snowflake.of(201);
+
+    private static DiscordBot bot(UnaryOperator<DiscordConfig.Builder> configure) {
+        DiscordConfig config = configure.apply(
+            DiscordConfig.builder()
+                .withToken("test")
+                .withMainGuildId(1L)
+                .withEmojiManifest(Optional.empty())
+                .withCommandManifest(Optional.empty())
+        ).build();
+
+        return new DiscordBot(config) { };
+    }
+
+    private static Response response(DiscordBot discordBot) {
+        return Response.builder()
+            .withContext(new TestContext(discordBot))
+            .withPages(TreePage.builder().build())
+            .build();
+    }
+
+    /** Caches a new response and completes its initial interaction so it is no longer busy. */
+    private static CachedResponse cache(TestResponseHandler handler, Snowflake channelId, Snowflake userId, long messageId) {
+        return interact(handler.createAndGet(channelId, userId, Snowflake.of(messageId), handler.newResponse()));
+    }
+
+    /** Records an interaction strictly later than every interaction recorded before. */
+    private static CachedResponse interact(CachedResponse entry) {
+        long start = System.currentTimeMillis();
+
+        while (System.currentTimeMillis() == start)
+            Thread.onSpinWait();
+
+        return entry.updateLastInteract().block();
+    }
+
+    @Test
+    void lookups_resolveEveryIndex() {
+        TestResponseHandler handler = new TestResponseHandler(bot(UnaryOperator.identity()));
+        CachedResponse first = cache(handler, CHANNEL, USER, 1);
+        CachedResponse second = cache(handler, CHANNEL, OTHER_USER, 2);
+        CachedResponse third = cache(handler, OTHER_CHANNEL, USER, 3);
+        first.addFollowup("followup", CHANNEL, USER, Snowflake.of(11), handler.newResponse()).block();
+
+        assertEquals(3, handler.size());
+        assertSame(first, handler.findByMessageId(Snowflake.of(1)).orElseThrow());
+        assertSame(first, handler.findByMessageId(Snowflake.of(11)).orElseThrow());
+        assertSame(first, handler.findByFollowupId(Snowflake.of(11)).orElseThrow());
+        assertTrue(handler.findByFollowupId(Snowflake.of(1)).isEmpty());
+        assertSame(first, handler.findByMessageId(Snowflake.of(1), USER).orElseThrow());
+        assertTrue(handler.findByMessageId(Snowflake.of(1), OTHER_USER).isEmpty());
+        assertSame(second, handler.findByUniqueId(second.getResponse().getUniqueId()).orElseThrow());
+        assertTrue(handler.findByUniqueId(UUID.randomUUID()).isEmpty());
+
+        ConcurrentList<CachedResponse> byUser = handler.findByUserId(USER);
+        assertEquals(2, byUser.size());
+        assertTrue(byUser.contains(first) && byUser.contains(third));
+        ConcurrentList<CachedResponse> byChannel = handler.findByChannelId(CHANNEL);
+        assertEquals(2, byChannel.size());
+        assertTrue(byChannel.contains(first) && byChannel.contains(second));
+        assertEquals(first.getEstimatedSize() + second.getEstimatedSize() + third.getEstimatedSize(), handler.getEstimatedSize());
+
+        assertTrue(handler.remove(first));
+        assertFalse(handler.remove(first));
+        assertTrue(handler.findByMessageId(Snowflake.of(1)).isEmpty());
+        assertTrue(handler.findByMessageId(Snowflake.of(11)).isEmpty());
+        assertTrue(handler.findByUniqueId(first.getResponse().getUniqueId()).isEmpty());
+        assertEquals(1, handler.findByUserId(USER).size());
+        assertEquals(1, handler.findByChannelId(CHANNEL).size());
+        assertEquals(second.getEstimatedSize() + third.getEstimatedSize(), handler.getEstimatedSize());
+    }
+
+    @Test
+    void sameMessage_unindexesReplacedEntry() {
+        TestResponseHandler handler = new TestResponseHandler(bot(UnaryOperator.identity()));
+        CachedResponse replaced = cache(handler, CHANNEL, USER, 1);
+        replaced.addFollowup("followup", CHANNEL, USER, Snowflake.of(11), handler.newResponse()).block();
+        CachedResponse entry = cache(handler, OTHER_CHANNEL, OTHER_USER, 1);
+
+        assertEquals(1, handler.size());
+        assertSame(entry, handler.findByMessageId(Snowflake.of(1)).orElseThrow());
+        assertTrue(handler.findByUniqueId(replaced.getResponse().getUniqueId()).isEmpty());
+        assertTrue(handler.findByFollowupId(Snowflake.of(11)).isEmpty());
+        assertTrue(handler.findByUserId(USER).isEmpty());
+        assertTrue(handler.findByChannelId(CHANNEL).isEmpty());
+        assertEquals(entry.getEstimatedSize(), handler.getEstimatedSize());
+        assertTrue(handler.getRetired().isEmpty());
+
+        assertTrue(handler.remove(entry));
+        assertTrue(handler.isEmpty());
+        assertEquals(0, handler.getEstimatedSize());
+    }
+
+    @Test
+    void pollExpired_removesOnlyDueEntries() {
+        TestResponseHandler handler = new TestResponseHandler(bot(UnaryOperator.identity()));
+        CachedResponse expired = cache(handler, CHANNEL, USER, 1);
+        CachedResponse live = cache(handler, CHANNEL, USER, 2);
+        expired.armExpiry(System.currentTimeMillis() - 600_000);
+
+        ConcurrentList<CachedResponse> polled = handler.pollExpired();
+        assertEquals(1, polled.size());
+        assertSame(expired, polled.getFirst());
+        assertEquals(1, handler.getExpirationCount());
+        assertTrue(handler.findByMessageId(Snowflake.of(1)).isEmpty());
+        assertSame(live, handler.findByMessageId(Snowflake.of(2)).orElseThrow());
+        assertTrue(handler.pollExpired().isEmpty());
+        assertEquals(1, handler.getExpirationCount());
+    }
+
+    @Test
+    void pollExpired_rearmsBusyEntries() {
+        TestResponseHandler handler = new TestResponseHandler(bot(UnaryOperator.identity()));
+        CachedResponse entry = cache(handler, CHANNEL, USER, 1);
+        entry.setBusy();
+        entry.armExpiry(System.currentTimeMillis() - 600_000);
+
+        assertTrue(handler.pollExpired().isEmpty());
+        assertSame(entry, handler.findByMessageId(Snowflake.of(1)).orElseThrow());
+        assertTrue(entry.getExpiresAt() > System.currentTimeMillis());
+        assertEquals(0, handler.getExpirationCount());
+    }
+
+    @Test
+    void pollExpired_ignoresSupersededDeadlines() {
+        TestResponseHandler handler = new TestResponseHandler(bot(UnaryOperator.identity()));
+        CachedResponse entry = cache(handler, CHANNEL, USER, 1);
+        entry.armExpiry(System.currentTimeMillis() - 600_000);
+        interact(entry);
+
+        assertTrue(handler.pollExpired().isEmpty());
+        assertSame(entry, handler.findByMessageId(Snowflake.of(1)).orElseThrow());
+
+        // Deadlines of a removed entry do not expire its replacement
+        CachedResponse replacement = cache(handler, CHANNEL, USER, 1);
+        entry.armExpiry(System.currentTimeMillis() - 600_000);
+        assertTrue(handler.pollExpired().isEmpty());
+        assertSame(replacement, handler.findByMessageId(Snowflake.of(1)).orElseThrow());
+    }
+
+    @Test
+    void retireExpired_retiresPolledEntries() {
+        TestResponseHandler handler = new TestResponseHandler(bot(UnaryOperator.identity()));
+        CachedResponse entry = cache(handler, CHANNEL, USER, 1);
+        entry.armExpiry(System.currentTimeMillis() - 600_000);
+        handler.retireExpired();
+
+        assertTrue(handler.isEmpty());
+        assertEquals(1, handler.getRetired().size());
+        assertSame(entry, handler.getRetired().getFirst());
+    }
+
+    @Test
+    void defaultLimits_keepEveryResponse() {
+        TestResponseHandler handler = new TestResponseHandler(bot(UnaryOperator.identity()));
+
+        for (int i = 1; i <= 50; i++)
+            handler.createAndGet(CHANNEL, USER, Snowflake.of(i), handler.newResponse()).updateLastInteract().block();
+
+        assertEquals(50, handler.size());
+        assertEquals(0, handler.getEvictionCount());
+        assertTrue(handler.getRetired().isEmpty());
+    }
+
+    @Test
+    void userLimit_evictsLeastRecentlyInteracted() {
+        TestResponseHandler handler = new TestResponseHandler(bot(builder -> builder.withMaxResponsesPerUser(2)));
+        CachedResponse first = cache(handler, CHANNEL, USER, 1);
+        CachedResponse second = cache(handler, OTHER_CHANNEL, USER, 2);
+        CachedResponse other = cache(handler, CHANNEL, OTHER_USER, 3);
+        interact(first);
+        CachedResponse third = cache(handler, CHANNEL, USER, 4);
+
+        assertEquals(3, handler.size());
+        assertEquals(1, handler.getEvictionCount());
+        assertEquals(1, handler.getRetired().size());
+        assertSame(second, handler.getRetired().getFirst());
+        assertTrue(handler.findByMessageId(Snowflake.of(2)).isEmpty());
+        assertTrue(handler.findByUserId(USER).contains(first) && handler.findByUserId(USER).contains(third));
+        assertSame(other, handler.findByMessageId(Snowflake.of(3)).orElseThrow());
+    }
+
+    @Test
+    void channelLimit_evictsLeastRecentlyInteracted() {
+        TestResponseHandler handler = new TestResponseHandler(bot(builder -> builder.withMaxResponsesPerChannel(2)));
+        CachedResponse first = cache(handler, CHANNEL, USER, 1);
+        CachedResponse second = cache(handler, CHANNEL, OTHER_USER, 2);
+        interact(first);
+        cache(handler, CHANNEL, USER, 3);
+
+        assertEquals(2, handler.findByChannelId(CHANNEL).size());
+        assertEquals(1, handler.getEvictionCount());
+        assertSame(second, handler.getRetired().getFirst());
+        assertSame(first, handler.findByMessageId(Snowflake.of(1)).orElseThrow());
+    }
+
+    @Test
+    void responseLimit_evictsLeastRecentlyInteracted() {
+        TestResponseHandler handler = new TestResponseHandler(bot(builder -> builder.withMaxResponses(2)));
+        CachedResponse first = cache(handler, CHANNEL, USER, 1);
+        CachedResponse second = cache(handler, OTHER_CHANNEL, OTHER_USER, 2);
+        interact(first);
+        CachedResponse third = cache(handler, OTHER_CHANNEL, USER, 3);
+
+        assertEquals(2, handler.size());
+        assertEquals(1, handler.getEvictionCount());
+        assertSame(second, handler.getRetired().getFirst());
+        assertSame(first, handler.findByMessageId(Snowflake.of(1)).orElseThrow());
+        assertSame(third, handler.findByMessageId(Snowflake.of(3)).orElseThrow());
+        assertEquals(first.getEstimatedSize() + third.getEstimatedSize(), handler.getEstimatedSize());
+    }
+
+    @Test
+    void sizeLimit_evictsLeastRecentlyInteracted() {
+        long size = ResponseHandler.estimateSize(response(bot(UnaryOperator.identity())));
+        TestResponseHandler handler = new TestResponseHandler(bot(builder -> builder.withMaxResponseBytes(size * 2)));
+        CachedResponse first = cache(handler, CHANNEL, USER, 1);
+        CachedResponse second = cache(handler, CHANNEL, USER, 2);
+        cache(handler, CHANNEL, USER, 3);
+
+        assertEquals(2, handler.size());
+        assertEquals(size * 2, handler.getEstimatedSize());
+        assertSame(first, handler.getRetired().getFirst());
+        assertSame(second, handler.findByMessageId(Snowflake.of(2)).orElseThrow());
+    }
+
+    @Test
+    void busyEntries_areNotEvicted() {
+        TestResponseHandler handler = new TestResponseHandler(bot(builder -> builder.withMaxResponsesPerUser(1).withMaxResponses(1)));
+        CachedResponse busy = handler.createAndGet(CHANNEL, USER, Snowflake.of(1), handler.newResponse());
+        CachedResponse entry = handler.createAndGet(CHANNEL, USER, Snowflake.of(2), handler.newResponse());
+
+        assertEquals(2, handler.size());
+        assertEquals(0, handler.getEvictionCount());
+        assertTrue(handler.getRetired().isEmpty());
+
+        // Once idle, the older response is evicted by the next one
+        interact(busy);
+        interact(entry);
+        cache(handler, CHANNEL, USER, 3);
+        assertEquals(1, handler.size());
+        assertEquals(2, handler.getEvictionCount());
+        assertTrue(handler.getRetired().contains(busy) && handler.getRetired().contains(entry));
+    }
+
+    @Test
+    void isUnchanged_comparesSentFingerprint() {
+        TestResponseHandler handler = new TestResponseHandler(bot(UnaryOperator.identity()));
+        Response response = handler.newResponse("first");
+        CachedResponse entry = interact(handler.createAndGet(CHANNEL, USER, Snowflake.of(1), response));
+        ResponseFollowup followup = entry.addFollowup("followup", CHANNEL, USER, Snowflake.of(11), response).block();
+
+        // Nothing has been sent yet
+        assertFalse(entry.isUnchanged(response));
+        assertFalse(followup.isUnchanged(response));
+
+        entry.setSentFingerprint(response.render().getFingerprint());
+        followup.setSentFingerprint(response.render().getFingerprint());
+        assertTrue(entry.isUnchanged(response));
+        assertTrue(followup.isUnchanged(response));
+
+        // The fingerprint covers the payload, not the response instance
+        assertTrue(entry.isUnchanged(handler.newResponse("first")));
+        assertFalse(entry.isUnchanged(handler.newResponse("second")));
+        assertFalse(followup.isUnchanged(handler.newResponse("second")));
+
+        // Pending uploads are always sent
+        Response uploading = response.mutate()
+            .withAttachments(
+                Attachment.builder()
+                    .withName("upload.txt")
+                    .withStream(new ByteArrayInputStream(new byte[] { 1 }))
+                    .build()
+            )
+            .build();
+        assertFalse(entry.isUnchanged(uploading));
+    }
+
+    /** Records retired responses instead of editing their messages through the gateway. */
+    private static final class TestResponseHandler extends ResponseHandler {
+
+        private final @NotNull ConcurrentList<CachedResponse> retired = Concurrent.newList();
+
+        TestResponseHandler(@NotNull DiscordBot discordBot) {
+            super(discordBot);
+        }
+
+        @NotNull ConcurrentList<CachedResponse> getRetired() {
+            return this.retired;
+        }
+
+        @NotNull Response newResponse() {
+            return response(this.getDiscordBot());
+        }
+
+        @NotNull Response newResponse(@NotNull String content) {
+            return Response.builder()
+                .withContext(new TestContext(this.getDiscordBot()))
+                .withPages(TreePage.builder().withContent(content).build())
+                .isRenderingPagingComponents(false)
+                .build();
+        }
+
+        @Override
+        public void retire(@NotNull CachedResponse entry) {
+            this.retired.add(entry);
+        }
+
+    }
+
+    /** Minimal context that only supplies the bot a response is built with. */
+    private static final class TestContext implements EventContext<Event> {
+
+        private final @NotNull DiscordBot discordBot;
+        private final @NotNull UUID responseId = UUID.randomUUID();
+
+        TestContext(@NotNull DiscordBot discordBot) {
+            this.discordBot = discordBot;
+        }
+
+        @Override
+        public Mono<MessageChannel> getChannel() {
+            return Mono.empty();
+        }
+
+        @Override
+        public @NotNull Snowflake getChannelId() {
+            return CHANNEL;
+        }
+
+        @Override
+        public @NotNull DiscordBot getDiscordBot() {
+            return this.discordBot;
+        }
+
+        @Override
+        public @NotNull Event getEvent() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Guild> getGuild() {
+            return Mono.empty();
+        }
+
+        @Override
+        public Optional<Snowflake> getGuildId() {
+            return Optional.empty();
+        }
+
+        @Override
+        public @NotNull User getInteractUser() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public @NotNull Snowflake getInteractUserId() {
+            return USER;
+        }
+
+        @Override
+        public @NotNull UUID getResponseId() {
+            return this.responseId;
+        }
+
+    }
+
+}
@@ -2,15 +2,18 @@ package dev.sbs.discordapi.response;
 
 import dev.sbs.api.collection.concurrent.Concurrent;
 import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.discordapi.util.EmojiIndex;
 import dev.sbs.discordapi.util.ProgressBar;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ProgressBarTest {
 
@@ -185,4 +188,29 @@ class ProgressBarTest {
         }
     }
 
+    @Test
+    void indexedEmojis_matchListLookup() {
+        EmojiIndex index = EmojiIndex.of(emojis);
+
+        for (ProgressBar color : ProgressBar.values()) {
+            for (int pct = 0; pct <= 100; pct += 5)
+                assertEquals(color.render(pct, emojis), color.render(pct, index), "%s at %d%%".formatted(color, pct));
+        }
+    }
+
+    @Test
+    void missingEmoji_namesTheEmoji() {
+        ConcurrentList<Emoji> missing = emojis.stream()
+            .filter(emoji -> !emoji.getName().equals("BLUE_PB_2_HF"))
+            .collect(Concurrent.toList());
+
+        for (Executable render : List.<Executable>of(
+            () -> ProgressBar.BLUE.render(30, missing),
+            () -> ProgressBar.BLUE.render(30, EmojiIndex.of(missing))
+        )) {
+            IllegalStateException exception = assertThrows(IllegalStateException.class, render);
+            assertEquals("Emoji not found: 'BLUE_PB_2_HF'", exception.getMessage());
+        }
+    }
+
 }
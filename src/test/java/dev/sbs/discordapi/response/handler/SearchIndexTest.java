@@ -0,0 +1,117 @@
+package dev.sbs.discordapi.response.handler;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchIndexTest {
+
+    private static final String[] WORDS = { "Ape", "apex", "Aspect", "bee", "Beetle", "b", "cat", "Catalog", "dog", "Dogma", "élan", "zebra" };
+
+    private record Named(String name, String alias, int rank) { }
+
+    private static ConcurrentList<Named> randomItems(Random random, int size) {
+        return IntStream.range(0, size)
+            .mapToObj(rank -> new Named(randomPhrase(random), random.nextInt(4) == 0 ? null : randomPhrase(random), rank))
+            .collect(Concurrent.toUnmodifiableList());
+    }
+
+    private static String randomPhrase(Random random) {
+        StringBuilder phrase = new StringBuilder();
+
+        for (int i = 0, words = 1 + random.nextInt(3); i < words; i++)
+            phrase.append(i == 0 ? "" : " ".repeat(1 + random.nextInt(2))).append(WORDS[random.nextInt(WORDS.length)]);
+
+        return phrase.toString();
+    }
+
+    private static String randomQuery(Random random) {
+        String word = WORDS[random.nextInt(WORDS.length)];
+        String query = switch (random.nextInt(5)) {
+            case 0 -> word.toUpperCase(Locale.ROOT);
+            case 1 -> " " + word.substring(0, 1 + random.nextInt(word.length())) + " ";
+            case 2 -> word + " " + WORDS[random.nextInt(WORDS.length)].substring(0, 1);
+            case 3 -> "missing";
+            default -> word.substring(0, 1 + random.nextInt(word.length()));
+        };
+
+        return random.nextInt(20) == 0 ? " " : query;
+    }
+
+    /**
+     * Scans every item for a whole key or key word starting with the query.
+     */
+    private static boolean keyMatches(String key, String query) {
+        String prefix = query.trim().toLowerCase(Locale.ROOT);
+
+        if (key == null || prefix.isEmpty())
+            return false;
+
+        String normalized = key.trim().toLowerCase(Locale.ROOT);
+
+        if (normalized.startsWith(prefix))
+            return true;
+
+        for (String token : normalized.split("\\s+")) {
+            if (token.startsWith(prefix))
+                return true;
+        }
+
+        return false;
+    }
+
+    private static int linearIndexOf(ConcurrentList<Named> items, String query, boolean ranked) {
+        for (int i = 0; i < items.size(); i++) {
+            Named item = items.get(i);
+
+            if (keyMatches(item.name(), query) || keyMatches(item.alias(), query) || (ranked && String.valueOf(item.rank()).equals(query)))
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Test
+    void prefixIndex_matchesLinearScan() {
+        Random random = new Random(14);
+        ConcurrentList<Function<Named, String>> keys = Concurrent.newUnmodifiableList(Named::name, Named::alias);
+
+        for (int run = 0; run < 50; run++) {
+            ConcurrentList<Named> items = randomItems(random, random.nextInt(200));
+            SearchIndex<Named> index = SearchIndex.build(items, keys);
+
+            for (int i = 0; i < 100; i++) {
+                String query = randomQuery(random);
+                assertEquals(linearIndexOf(items, query, false), index.indexOf(query), String.format("run %s, query '%s'", run, query));
+            }
+        }
+    }
+
+    @Test
+    void indexedSearch_matchesLinearScan() {
+        Random random = new Random(15);
+        Search<Named> search = Search.<Named>builder()
+            .withIndexedKeys(Named::name, Named::alias)
+            .withPredicates((item, value) -> String.valueOf(item.rank()).equals(value))
+            .build();
+
+        for (int run = 0; run < 50; run++) {
+            ConcurrentList<Named> items = randomItems(random, 1 + random.nextInt(200));
+            SearchIndex<Named> index = search.buildIndex(items);
+
+            for (int i = 0; i < 100; i++) {
+                // Ranks are only matched by the predicate, before or after the first indexed match
+                String query = random.nextBoolean() ? randomQuery(random) : String.valueOf(random.nextInt(items.size()));
+                assertEquals(linearIndexOf(items, query, true), search.indexOf(items, query, index), String.format("run %s, query '%s'", run, query));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package dev.sbs.discordapi.response.handler;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.api.collection.query.SortOrder;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Shared items, sorters and the reference sort used to check the compiled
+ * {@link Sorter} and the cached item orders against the original behavior.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public final class SortFixtures {
+
+    private SortFixtures() { }
+
+    /**
+     * A test item whose keys fall in small ranges, so every sort level sees ties.
+     *
+     * @param id the source position, used to check stable ties
+     * @param group a key with few distinct values
+     * @param score a key with few distinct values
+     * @param weight a key with few distinct values
+     */
+    public record Entry(int id, int group, long score, double weight) { }
+
+    /**
+     * Creates the given number of random entries with heavily tied keys.
+     *
+     * @param random the random source
+     * @param size the number of entries
+     * @return the entries in source order
+     */
+    public static ConcurrentList<Entry> randomEntries(Random random, int size) {
+        return IntStream.range(0, size)
+            .mapToObj(id -> new Entry(id, random.nextInt(4), random.nextInt(5), random.nextInt(3) / 2.0))
+            .collect(Concurrent.toUnmodifiableList());
+    }
+
+    /**
+     * Creates a sorter with random key types and a random direction per level.
+     *
+     * @param random the random source
+     * @return the built sorter
+     */
+    public static Sorter<Entry> randomSorter(Random random) {
+        Sorter.Builder<Entry> builder = Sorter.<Entry>builder()
+            .withLabel("Random")
+            .withOrder(randomOrder(random));
+        boolean extracting = random.nextBoolean();
+        int levels = 1 + random.nextInt(3);
+
+        for (int i = 0; i < levels; i++) {
+            SortOrder order = randomOrder(random);
+
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    if (extracting)
+                        builder.withFunctions(order, Entry::group);
+                    else
+                        builder.withComparators(order, Comparator.comparingInt(Entry::group));
+                }
+                case 1 -> {
+                    if (extracting)
+                        builder.withLongFunctions(order, Entry::score);
+                    else
+                        builder.withComparators(order, Comparator.comparingLong(Entry::score));
+                }
+                default -> {
+                    if (extracting)
+                        builder.withDoubleFunctions(order, Entry::weight);
+                    else
+                        builder.withComparators(order, Comparator.comparingDouble(Entry::weight));
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static SortOrder randomOrder(Random random) {
+        return random.nextBoolean() ? SortOrder.ASCENDING : SortOrder.DESCENDING;
+    }
+
+    /**
+     * Sorts the given items exactly as sorters did before their comparator
+     * chain was compiled, rebuilding the chain on every comparison.
+     *
+     * @param list the items to sort
+     * @param sorter the sorter providing the comparators and order
+     * @param reversed true to reverse the results
+     * @return a sorted copy of the items
+     */
+    public static <T> ConcurrentList<T> referenceSort(ConcurrentList<T> list, Sorter<T> sorter, boolean reversed) {
+        ConcurrentList<T> copy = Concurrent.newList(list).sorted((o1, o2) -> {
+            Iterator<Map.Entry<Comparator<? extends T>, SortOrder>> iterator = sorter.getComparators().iterator();
+            Map.Entry<Comparator<? extends T>, SortOrder> entry = iterator.next();
+            Comparator comparator = entry.getKey();
+
+            if (entry.getValue() == SortOrder.DESCENDING)
+                comparator = comparator.reversed();
+
+            while (iterator.hasNext()) {
+                entry = iterator.next();
+                comparator = comparator.thenComparing(entry.getKey());
+
+                if (entry.getValue() == SortOrder.DESCENDING)
+                    comparator = comparator.reversed();
+            }
+
+            return sorter.getOrder() == SortOrder.ASCENDING ? comparator.compare(o1, o2) : comparator.compare(o2, o1);
+        });
+
+        // Reverse Results
+        if (reversed)
+            copy = copy.reversed();
+
+        return copy;
+    }
+
+}
@@ -0,0 +1,75 @@
+package dev.sbs.discordapi.response.handler;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.discordapi.response.handler.SortFixtures.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SorterTest {
+
+    private static void assertMatchesReference(long seed, int runs) {
+        Random random = new Random(seed);
+
+        for (int run = 0; run < runs; run++) {
+            ConcurrentList<Entry> items = SortFixtures.randomEntries(random, random.nextInt(400));
+            Sorter<Entry> sorter = SortFixtures.randomSorter(random);
+
+            for (boolean reversed : new boolean[] { false, true }) {
+                assertEquals(
+                    SortFixtures.referenceSort(items, sorter, reversed),
+                    sorter.apply(items, reversed),
+                    String.format("run %s, reversed %s", run, reversed)
+                );
+            }
+        }
+    }
+
+    @Test
+    void compiledChain_matchesReferenceSort() {
+        assertMatchesReference(10, 500);
+    }
+
+    @Test
+    void compiledChain_matchesReferenceSort_inParallel() {
+        ItemExecutor.configure(4, 1);
+
+        try {
+            assertMatchesReference(20, 100);
+        } finally {
+            ItemExecutor.configure(1, Integer.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void topK_matchesLeadingItemsOfFullSort() {
+        Random random = new Random(30);
+
+        for (int run = 0; run < 500; run++) {
+            ConcurrentList<Entry> items = SortFixtures.randomEntries(random, 1 + random.nextInt(400));
+            Sorter<Entry> sorter = SortFixtures.randomSorter(random);
+            int limit = random.nextInt(items.size() + 1);
+
+            for (boolean reversed : new boolean[] { false, true }) {
+                ConcurrentList<Entry> expected = SortFixtures.referenceSort(items, sorter, reversed);
+                ConcurrentList<Entry> actual = sorter.apply(items, reversed, limit);
+                String message = String.format("run %s, limit %s, reversed %s", run, limit, reversed);
+                ConcurrentList<Entry> top = expected.subList(0, limit).stream().collect(Concurrent.toList());
+
+                // Leading items, ties broken by source index
+                assertEquals(top, actual.subList(0, limit).stream().collect(Concurrent.toList()), message);
+
+                // Remaining items in source order
+                assertEquals(
+                    items.stream().filter(entry -> !top.contains(entry)).collect(Concurrent.toList()),
+                    actual.subList(limit, actual.size()).stream().collect(Concurrent.toList()),
+                    message
+                );
+            }
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package dev.sbs.discordapi.response.handler.item;
+
+import dev.sbs.discordapi.response.page.item.field.FieldItem;
+import dev.sbs.discordapi.response.page.item.field.StringItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class EmbedItemHandlerTest {
+
+    private static EmbedItemHandler<Integer> buildHandler() {
+        return ItemHandler.<Integer>embed()
+            .withItems(IntStream.range(0, 100).boxed().toList())
+            .withAmountPerPage(10)
+            .withTransformer((item, index, size) -> StringItem.builder()
+                .withValue(String.valueOf(item))
+                .build()
+            )
+            .build();
+    }
+
+    private static List<String> renderValues(EmbedItemHandler<Integer> handler) {
+        return handler.getCachedFieldItems()
+            .stream()
+            .map(FieldItem::getRenderValue)
+            .toList();
+    }
+
+    @Test
+    void twoClicksInOneCoalescingWindow_renderFinalPage() {
+        EmbedItemHandler<Integer> handler = buildHandler();
+        assertEquals("0", renderValues(handler).get(0));
+        handler.setCacheUpdateRequired(false); // Sent
+
+        // First click opens the window, its interaction completes before the edit is sent
+        handler.gotoNextPage();
+        handler.setCacheUpdateRequired(false);
+
+        // Second click inside the same window
+        handler.gotoNextPage();
+        handler.setCacheUpdateRequired(false);
+
+        // Window closes, the pending edit renders the latest state
+        List<String> values = renderValues(handler);
+        assertEquals(10, values.size());
+        assertEquals("20", values.get(0));
+        assertEquals("29", values.get(9));
+    }
+
+    @Test
+    void unchangedVersion_reusesCachedItems() {
+        EmbedItemHandler<Integer> handler = buildHandler();
+        List<FieldItem<?>> first = handler.getCachedFieldItems();
+        handler.setCacheUpdateRequired(false);
+
+        assertSame(first, handler.getCachedFieldItems());
+    }
+
+}
@@ -0,0 +1,150 @@
+package dev.sbs.discordapi.response.handler.item;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.discordapi.response.handler.Filter;
+import dev.sbs.discordapi.response.handler.FilterHandler;
+import dev.sbs.discordapi.response.handler.SortFixtures;
+import dev.sbs.discordapi.response.handler.SortFixtures.Entry;
+import dev.sbs.discordapi.response.handler.SortHandler;
+import dev.sbs.discordapi.response.handler.Sorter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ItemIndexTest {
+
+    private static final ConcurrentList<Filter<Entry>> FILTERS = Stream.of(
+        Filter.<Entry>builder()
+            .withLabel("Even Group")
+            .withPredicates(entry -> entry.group() % 2 == 0)
+            .build(),
+        Filter.<Entry>builder()
+            .withLabel("Skip Every Third")
+            .withTriPredicates((entry, index, size) -> index % 3 != 0)
+            .build(),
+        Filter.<Entry>builder()
+            .withLabel("First Half")
+            .withTriPredicates((entry, index, size) -> index < size / 2)
+            .build()
+    ).collect(Concurrent.toUnmodifiableList());
+
+    /**
+     * Sorts and filters the given items the way item handlers did before the
+     * orders and filter results were cached.
+     */
+    private static ConcurrentList<Entry> reference(ConcurrentList<Entry> items, SortHandler<Entry> sortHandler, FilterHandler<Entry> filterHandler) {
+        ConcurrentList<Entry> sorted = sortHandler.getCurrent()
+            .map(sorter -> SortFixtures.referenceSort(items, sorter, sortHandler.isReversed()))
+            .orElse(items);
+
+        return IntStream.range(0, sorted.size())
+            .filter(index -> filterHandler.getItems()
+                .stream()
+                .allMatch(filter -> filter.test(sorted.get(index), (long) index, (long) sorted.size()))
+            )
+            .mapToObj(sorted::get)
+            .collect(Concurrent.toUnmodifiableList());
+    }
+
+    private static FilterHandler<Entry> filterHandler(int enabledMask) {
+        return new FilterHandler<>(
+            IntStream.range(0, FILTERS.size())
+                .mapToObj(i -> FILTERS.get(i).mutate().isEnabled((enabledMask & (1 << i)) != 0).build())
+                .collect(Concurrent.toList())
+        );
+    }
+
+    @Test
+    void cachedOrdersAndFilters_matchSortThenFilter() {
+        Random random = new Random(11);
+
+        for (int run = 0; run < 25; run++) {
+            ConcurrentList<Entry> items = SortFixtures.randomEntries(random, 1 + random.nextInt(300));
+            SortHandler<Entry> sortHandler = new SortHandler<>(
+                Stream.of(SortFixtures.randomSorter(random), SortFixtures.randomSorter(random)).collect(Concurrent.toList())
+            );
+            ItemIndex<Entry> index = new ItemIndex<>();
+
+            // Revisit every sorter, direction and filter combination against one index
+            for (int pass = 0; pass < 2; pass++) {
+                for (int sorter = 0; sorter < sortHandler.getItems().size(); sorter++) {
+                    for (int direction = 0; direction < 2; direction++) {
+                        for (int mask = 0; mask < 1 << FILTERS.size(); mask++) {
+                            FilterHandler<Entry> filterHandler = filterHandler(mask);
+
+                            assertEquals(
+                                reference(items, sortHandler, filterHandler),
+                                index.apply(items, 1, sortHandler, filterHandler, Integer.MAX_VALUE),
+                                String.format("run %s, sorter %s, reversed %s, filters %s", run, sorter, sortHandler.isReversed(), mask)
+                            );
+                        }
+
+                        sortHandler.invertOrder();
+                    }
+
+                    sortHandler.gotoNext();
+                }
+            }
+        }
+    }
+
+    @Test
+    void noSorter_keepsSourceOrder() {
+        ConcurrentList<Entry> items = SortFixtures.randomEntries(new Random(3), 50);
+        SortHandler<Entry> sortHandler = new SortHandler<>(Concurrent.newList());
+        FilterHandler<Entry> filterHandler = filterHandler(0b010);
+
+        assertEquals(reference(items, sortHandler, filterHandler), new ItemIndex<Entry>().apply(items, 1, sortHandler, filterHandler, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void itemsResizedInPlace_rebuildOrder() {
+        Random random = new Random(5);
+        ConcurrentList<Entry> items = Concurrent.newList(SortFixtures.randomEntries(random, 40));
+        SortHandler<Entry> sortHandler = new SortHandler<>(Stream.of(SortFixtures.randomSorter(random)).collect(Concurrent.toList()));
+        FilterHandler<Entry> filterHandler = filterHandler(0b001);
+        ItemIndex<Entry> index = new ItemIndex<>();
+        index.apply(items, 1, sortHandler, filterHandler, Integer.MAX_VALUE);
+
+        // Same items version, the count change alone must invalidate the cached order
+        items.add(new Entry(40, 0, 0, 0));
+        assertEquals(reference(items, sortHandler, filterHandler), index.apply(items, 1, sortHandler, filterHandler, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void lazyDepth_matchesLeadingItemsOfFullSort() {
+        Random random = new Random(12);
+
+        for (int run = 0; run < 50; run++) {
+            ConcurrentList<Entry> items = SortFixtures.randomEntries(random, 100 + random.nextInt(300));
+            SortHandler<Entry> sortHandler = new SortHandler<>(Stream.of(SortFixtures.randomSorter(random)).collect(Concurrent.toList()), true);
+            FilterHandler<Entry> filterHandler = filterHandler(0);
+            ItemIndex<Entry> index = new ItemIndex<>();
+
+            for (int direction = 0; direction < 2; direction++) {
+                ConcurrentList<Entry> expected = reference(items, sortHandler, filterHandler);
+
+                // Page through, doubling the sorted depth until the full sort is cached
+                for (int depth = 10; depth <= items.size() + 25; depth += 15) {
+                    ConcurrentList<Entry> actual = index.apply(items, 1, sortHandler, filterHandler, depth);
+                    int checked = Math.min(Math.max(depth, index.getOrderedDepth()), items.size());
+
+                    assertEquals(items.size(), actual.size());
+                    assertEquals(
+                        expected.subList(0, checked).stream().collect(Concurrent.toList()),
+                        actual.subList(0, checked).stream().collect(Concurrent.toList()),
+                        String.format("run %s, depth %s, reversed %s", run, depth, sortHandler.isReversed())
+                    );
+                }
+
+                sortHandler.invertOrder();
+            }
+        }
+    }
+
+}
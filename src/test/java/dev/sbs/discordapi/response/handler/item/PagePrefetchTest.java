@@ -0,0 +1,39 @@
+package dev.sbs.discordapi.response.handler.item;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PagePrefetchTest {
+
+    private static ConcurrentList<String> page(String content) {
+        return Concurrent.newUnmodifiableList(content);
+    }
+
+    @Test
+    void loadedPage_isReused() {
+        PagePrefetch<String> prefetch = new PagePrefetch<>();
+        prefetch.load(1, 1, page -> Mono.just(page("loaded"))).block();
+
+        assertEquals(page("loaded"), prefetch.render(1, 1, 1, false, page -> page("rendered"), page -> Mono.just(page("loaded"))));
+    }
+
+    @Test
+    void loadCompletingAfterReset_isDiscarded() {
+        PagePrefetch<String> prefetch = new PagePrefetch<>();
+        Sinks.One<ConcurrentList<String>> pending = Sinks.one();
+        Mono<Void> load = prefetch.load(1, 1, page -> pending.asMono());
+        load.subscribe();
+
+        // The filtered items change while the old page is still loading
+        assertEquals(page("current"), prefetch.render(2, 1, 1, false, page -> page("current"), page -> Mono.never()));
+        pending.tryEmitValue(page("stale"));
+
+        assertEquals(page("current"), prefetch.render(2, 1, 1, false, page -> page("rerendered"), page -> Mono.never()));
+    }
+
+}
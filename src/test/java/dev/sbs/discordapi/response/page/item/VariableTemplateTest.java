@@ -0,0 +1,128 @@
+package dev.sbs.discordapi.response.page.item;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import dev.sbs.api.collection.concurrent.ConcurrentMap;
+import dev.sbs.discordapi.component.interaction.SelectMenu;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class VariableTemplateTest {
+
+    private static ConcurrentMap<String, Object> variables(Map<String, Object> values) {
+        ConcurrentMap<String, Object> variables = Concurrent.newMap();
+        variables.putAll(values);
+        return variables;
+    }
+
+    private static ConcurrentList<Optional<String>> render(ConcurrentMap<String, Object> variables, String... templates) {
+        return Text.of(templates).applyVariables(variables).getValues();
+    }
+
+    @Test
+    void bracesOutsideVariables_areLiterals() {
+        ConcurrentMap<String, Object> variables = variables(Map.of("X", 1));
+
+        assertEquals(Optional.of("{1}"), render(variables, "{{X}}").get(0));
+        assertEquals(Optional.of("}1{"), render(variables, "}{X}{").get(0));
+        assertEquals(Optional.of("{} {a-b} { X } 1"), render(variables, "{} {a-b} { X } {X}").get(0));
+        assertEquals(Optional.of("1 {X"), render(variables, "{X} {X").get(0));
+    }
+
+    @Test
+    void missingVariables_areLeftInPlace() {
+        assertEquals(Optional.of("1 {B}"), render(variables(Map.of("A", 1)), "{A} {B}").get(0));
+        assertEquals(Optional.of("{A} {B}"), render(variables(Map.of()), "{A} {B}").get(0));
+    }
+
+    @Test
+    void repeatedNames_resolveToTheSameValue() {
+        ConcurrentList<Optional<String>> rendered = render(variables(Map.of("A", 2, "B", 3)), "{A}-{A}", "{B}{A}", "{B}");
+
+        assertEquals(Optional.of("2-2"), rendered.get(0));
+        assertEquals(Optional.of("32"), rendered.get(1));
+        assertEquals(Optional.of("3"), rendered.get(2));
+    }
+
+    @Test
+    void emptyProperties_stayEmpty() {
+        Text text = new Text(Concurrent.newUnmodifiableList(Optional.empty(), Optional.of("{A}")));
+        ConcurrentList<Optional<String>> rendered = text.applyVariables(variables(Map.of("A", 1))).getValues();
+
+        assertEquals(Optional.empty(), rendered.get(0));
+        assertEquals(Optional.of("1"), rendered.get(1));
+    }
+
+    @Test
+    void unchangedValues_reuseTheAppliedItem() {
+        Text text = Text.of("{A}");
+        Text applied = text.applyVariables(variables(Map.of("A", 1)));
+
+        assertSame(applied, text.applyVariables(variables(Map.of("A", 1L))));
+        assertNotSame(applied, text.applyVariables(variables(Map.of("A", 2))));
+
+        Text plain = Text.of("plain");
+        assertSame(plain, plain.applyVariables(variables(Map.of("A", 1))));
+    }
+
+    @Test
+    void mutatedValues_areRenderedAgain() {
+        StringBuilder counter = new StringBuilder("1");
+        ConcurrentMap<String, Object> variables = variables(Map.of("COUNT", counter));
+        Text text = Text.of("{COUNT}");
+
+        assertEquals(Optional.of("1"), text.applyVariables(variables).getValues().get(0));
+        counter.append('0');
+        assertEquals(Optional.of("10"), text.applyVariables(variables).getValues().get(0));
+    }
+
+    private record Text(@NotNull ConcurrentList<Optional<String>> values, @NotNull VariableTemplate<Text> template) implements Item {
+
+        Text(@NotNull ConcurrentList<Optional<String>> values) {
+            this(values, new VariableTemplate<>());
+        }
+
+        static @NotNull Text of(@NotNull String... templates) {
+            ConcurrentList<Optional<String>> values = Concurrent.newList();
+
+            for (String template : templates)
+                values.add(Optional.of(template));
+
+            return new Text(values.toUnmodifiableList());
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public @NotNull Text applyVariables(@NotNull ConcurrentMap<String, Object> variables) {
+            return this.template.apply(this, variables, Text::new, this.values.toArray(new Optional[0]));
+        }
+
+        public @NotNull ConcurrentList<Optional<String>> getValues() {
+            return this.values;
+        }
+
+        @Override
+        public @NotNull SelectMenu.Option getOption() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public @NotNull Type getType() {
+            return Type.DESCRIPTION;
+        }
+
+        @Override
+        public boolean isEditable() {
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package dev.sbs.discordapi.util;
+
+import dev.sbs.api.collection.concurrent.Concurrent;
+import dev.sbs.api.collection.concurrent.ConcurrentList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SharedListTest {
+
+    private static ConcurrentList<String> source() {
+        return Concurrent.newUnmodifiableList("a", "b", "c");
+    }
+
+    @Test
+    void unmodifiedShare_returnsTheSharedList() {
+        ConcurrentList<String> source = source();
+        SharedList<String> list = new SharedList<String>().share(source);
+
+        assertEquals(source, list);
+        assertSame(source, list.toUnmodifiableList());
+    }
+
+    @Test
+    void modifiedShare_copiesOnFirstWrite() {
+        ConcurrentList<String> source = source();
+        SharedList<String> list = new SharedList<String>().share(source);
+        list.add("d");
+        list.set(0, "z");
+
+        assertEquals(List.of("a", "b", "c"), source);
+        assertEquals(List.of("z", "b", "c", "d"), list.toUnmodifiableList());
+        assertNotSame(source, list.toUnmodifiableList());
+    }
+
+    @Test
+    void everyWrite_copiesTheSharedList() {
+        for (int operation = 0; operation < 4; operation++) {
+            ConcurrentList<String> source = source();
+            SharedList<String> list = new SharedList<String>().share(source);
+
+            switch (operation) {
+                case 0 -> list.set(1, "z");
+                case 1 -> list.add(0, "z");
+                case 2 -> list.remove(1);
+                default -> list.clear();
+            }
+
+            assertEquals(List.of("a", "b", "c"), source, "operation " + operation);
+        }
+    }
+
+    @Test
+    void frozenList_isCopiedOnNextWrite() {
+        SharedList<String> list = new SharedList<>();
+        list.add("a");
+        ConcurrentList<String> frozen = list.toUnmodifiableList();
+
+        assertSame(frozen, list.toUnmodifiableList());
+        list.add("b");
+
+        assertEquals(List.of("a"), frozen);
+        assertEquals(List.of("a", "b"), list.toUnmodifiableList());
+    }
+
+    @Test
+    void shareIntoNonEmpty_appends() {
+        SharedList<String> list = new SharedList<>();
+        list.add("x");
+        list.share(source());
+
+        assertEquals(List.of("x", "a", "b", "c"), list.toUnmodifiableList());
+    }
+
+    @Test
+    void withAllFromSharedList_sharesItsContents() {
+        SharedList<String> other = new SharedList<String>().share(source());
+        SharedList<String> list = new SharedList<String>().withAll(other);
+
+        assertSame(other.toUnmodifiableList(), list.toUnmodifiableList());
+
+        // Writes to either list stay local
+        list.add("d");
+        other.remove(0);
+
+        assertEquals(List.of("a", "b", "c", "d"), list);
+        assertEquals(List.of("b", "c"), other);
+    }
+
+    @Test
+    void withAllFromPlainList_copiesElements() {
+        List<String> values = List.of("a", "b");
+        SharedList<String> list = new SharedList<String>().withAll(values);
+
+        assertEquals(values, list);
+        assertEquals(List.of("a", "b", "c"), list.share(Concurrent.newUnmodifiableList("c")));
+    }
+
+}